@@ -17,10 +17,20 @@ public final class ApiConstants {
     public static final String API_HEALTH_PATH = API_BASE_PATH + "/health";
     public static final String API_TEST_PATH = API_BASE_PATH + "/test";
     public static final String API_PLUGINS_PATH = API_BASE_PATH + "/plugins";
+    public static final String API_BUILD_CACHE_PATH = API_BASE_PATH + "/cache";
+    public static final String API_BUILD_CACHE_PATTERN = API_BUILD_CACHE_PATH + "/**";
+    public static final String API_USERS_PATH = API_BASE_PATH + "/users";
+    public static final String API_ADMIN_PATH = API_BASE_PATH + "/admin";
+    public static final String API_ADMIN_USERS_PATH = API_ADMIN_PATH + "/users";
+    public static final String API_ADMIN_LATENCY_PATH = API_ADMIN_PATH + "/latency";
+    public static final String API_KEYS_PATH = API_BASE_PATH + "/api-keys";
 
     // Authentication Endpoints
     public static final String ENDPOINT_REGISTER = "/register";
     public static final String ENDPOINT_LOGIN = "/login";
+    public static final String ENDPOINT_REFRESH = "/refresh";
+    public static final String ENDPOINT_LOGOUT = "/logout";
+    public static final String ENDPOINT_USERNAME_AVAILABLE = "/username-available";
 
     // Health Check Endpoints
     public static final String ENDPOINT_HEALTH = "/";
@@ -32,12 +42,36 @@ public final class ApiConstants {
     public static final String ENDPOINT_PLUGIN_INSTALL = "/install";
     public static final String ENDPOINT_PLUGIN_START = "/start";
 
-    // Actuator Path
+    // Build Cache Endpoints
+    public static final String ENDPOINT_BUILD_CACHE_ENTRY = "/{key}";
+    public static final String ENDPOINT_BUILD_CACHE_NAMESPACED_ENTRY = "/{namespace}/{key}";
+
+    // Admin User Endpoints
+    public static final String ENDPOINT_USERS_BULK = "/bulk";
+
+    // API Key Endpoints
+    public static final String ENDPOINT_API_KEY = "/{id}";
+
+    // Admin Latency Endpoints
+    public static final String ENDPOINT_LATENCY_SLOW = "/slow";
+
+    // Pagination Query Parameters
+    public static final String PARAM_CURSOR = "cursor";
+    public static final String PARAM_LIMIT = "limit";
+
+    // JWK Set Path, at the well-known location token verifiers look for
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    // Actuator Paths
     public static final String ACTUATOR_PATH = "/actuator/**";
+    public static final String ACTUATOR_PROFILER_PATH = "/actuator/profiler/**";
+    public static final String ACTUATOR_STARTUP_PATH = "/actuator/startup/**";
 
     // Full Endpoint Paths
     public static final String FULL_REGISTER_PATH = API_AUTH_PATH + ENDPOINT_REGISTER;
     public static final String FULL_LOGIN_PATH = API_AUTH_PATH + ENDPOINT_LOGIN;
+    public static final String FULL_REFRESH_PATH = API_AUTH_PATH + ENDPOINT_REFRESH;
+    public static final String FULL_USERNAME_AVAILABLE_PATH = API_AUTH_PATH + ENDPOINT_USERNAME_AVAILABLE;
     public static final String FULL_HEALTH_PATH = API_HEALTH_PATH + ENDPOINT_HEALTH;
 }
 
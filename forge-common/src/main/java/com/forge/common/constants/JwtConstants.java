@@ -23,6 +23,11 @@ public final class JwtConstants {
     // JWT Claim Keys
     public static final String CLAIM_EMAIL = "email";
     public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_TOKEN_USE = "token_use";
+    public static final String CLAIM_FAMILY = "family";
+
+    // JWT Token Use Values
+    public static final String TOKEN_USE_REFRESH = "refresh";
 
     // JWT Error Messages
     public static final String ERROR_SECRET_NULL_OR_EMPTY =
@@ -33,6 +38,8 @@ public final class JwtConstants {
     public static final String ERROR_SECRET_KEY_CREATION_FAILED =
             "Failed to create JWT secret key. Please ensure app.jwt.secret is properly configured.";
     public static final String ERROR_SECRET_INITIALIZATION_FAILED = "Failed to initialize JWT secret key";
+    public static final String ERROR_NOT_REFRESH_TOKEN = "Token is not a refresh token";
+    public static final String ERROR_UNKNOWN_SIGNING_KEY = "Token was not signed by a known key";
 
     // JWT Log Messages
     public static final String LOG_INVALID_SIGNATURE = "Invalid JWT signature: {}";
@@ -45,5 +52,6 @@ public final class JwtConstants {
     public static final String LOG_SECRET_HASH_FAILED = "Failed to hash JWT secret: {}";
     public static final String LOG_SECRET_KEY_CREATION_FAILED = "Failed to create JWT secret key: {}";
     public static final String LOG_AUTHENTICATION_FAILED = "Failed to set user authentication: {}";
+    public static final String LOG_REFRESH_TOKEN_AS_ACCESS = "Refresh token presented as access token";
 }
 
@@ -14,10 +14,12 @@ public final class MessageConstants {
     // Status Messages (used across multiple classes)
     public static final String STATUS_ERROR = "error";
     public static final String STATUS_UP = "UP";
+    public static final String STATUS_DOWN = "DOWN";
     public static final String STATUS = "status";
     public static final String SERVICE = "service";
     public static final String MESSAGE = "message";
     public static final String TIMESTAMP = "timestamp";
+    public static final String CHECKS = "checks";
     public static final String USER = "user";
     public static final String AUTHENTICATED = "authenticated";
 }
@@ -19,6 +19,10 @@ public final class SecurityConstants {
     public static final String HEADER_CONTENT_TYPE = "Content-Type";
     public static final String HEADER_TOTAL_COUNT = "X-Total-Count";
 
+    // Authentication Schemes
+    public static final String BASIC_AUTH_PREFIX = "Basic ";
+    public static final String BUILD_CACHE_REALM = "Forge Build Cache";
+
     // HTTP Methods
     public static final String METHOD_GET = "GET";
     public static final String METHOD_POST = "POST";
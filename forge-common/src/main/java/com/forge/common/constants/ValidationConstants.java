@@ -16,8 +16,13 @@ public final class ValidationConstants {
     public static final String VALIDATION_EMAIL_REQUIRED = "Email is required";
     public static final String VALIDATION_EMAIL_INVALID = "Email should be valid";
     public static final String VALIDATION_PASSWORD_REQUIRED = "Password is required";
+    public static final String VALIDATION_REFRESH_TOKEN_REQUIRED = "Refresh token is required";
     public static final String VALIDATION_PASSWORD_LENGTH_REQUIRED = "Password must be at least 8 characters long";
     public static final String VALIDATION_USERNAME_LENGTH_REQUIRED = "Username must be between 3 and 50 characters";
+    public static final String VALIDATION_API_KEY_NAME_REQUIRED = "API key name is required";
+    public static final String VALIDATION_API_KEY_NAME_LENGTH = "API key name must be at most 100 characters";
+    public static final String VALIDATION_API_KEY_SCOPE_INVALID = "API key scope must be READ or WRITE";
+    public static final String VALIDATION_API_KEY_EXPIRY_POSITIVE = "API key expiry must be a positive number of days";
     
     // Plugin Validation Messages
     public static final String VALIDATION_PLUGIN_NAME_REQUIRED = "Plugin name is required";
@@ -0,0 +1,80 @@
+package com.forge.shared.model.request;
+
+import com.forge.common.constants.ValidationConstants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Create API Key Request DTO
+ * <p>
+ * Data Transfer Object for issuing an API key to the calling user. READ keys may only make
+ * GET, HEAD and OPTIONS requests; WRITE keys carry the user's full access. Keys without an
+ * expiry stay valid until revoked.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class CreateApiKeyRequest {
+
+    @NotBlank(message = ValidationConstants.VALIDATION_API_KEY_NAME_REQUIRED)
+    @Size(max = 100, message = ValidationConstants.VALIDATION_API_KEY_NAME_LENGTH)
+    private String name;
+
+    @NotBlank(message = ValidationConstants.VALIDATION_API_KEY_SCOPE_INVALID)
+    @Pattern(regexp = "READ|WRITE", message = ValidationConstants.VALIDATION_API_KEY_SCOPE_INVALID)
+    private String scope;
+
+    @Positive(message = ValidationConstants.VALIDATION_API_KEY_EXPIRY_POSITIVE)
+    private Integer expiresInDays;
+
+    public CreateApiKeyRequest() {
+    }
+
+    public CreateApiKeyRequest(String name, String scope, Integer expiresInDays) {
+        this.name = name;
+        this.scope = scope;
+        this.expiresInDays = expiresInDays;
+    }
+
+    /**
+     * Gets the label the key is listed under
+     *
+     * @return key name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the access granted to the key, READ or WRITE
+     *
+     * @return key scope
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * Gets the number of days until the key expires
+     *
+     * @return days until expiry, or null for a key that does not expire
+     */
+    public Integer getExpiresInDays() {
+        return expiresInDays;
+    }
+
+    public void setExpiresInDays(Integer expiresInDays) {
+        this.expiresInDays = expiresInDays;
+    }
+}
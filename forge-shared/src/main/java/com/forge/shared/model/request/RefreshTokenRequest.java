@@ -0,0 +1,39 @@
+package com.forge.shared.model.request;
+
+import com.forge.common.constants.ValidationConstants;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Refresh Token Request DTO
+ * <p>
+ * Data Transfer Object for exchanging a refresh token for a new token pair.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class RefreshTokenRequest {
+
+    @NotBlank(message = ValidationConstants.VALIDATION_REFRESH_TOKEN_REQUIRED)
+    private String refreshToken;
+
+    public RefreshTokenRequest() {
+    }
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /**
+     * Gets the refresh token to exchange
+     *
+     * @return refresh token
+     */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
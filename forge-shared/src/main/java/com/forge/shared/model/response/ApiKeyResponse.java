@@ -0,0 +1,105 @@
+package com.forge.shared.model.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * API Key Response DTO
+ * <p>
+ * Data Transfer Object describing an API key. The key itself is only included in the response
+ * that creates it; the server keeps a hash and cannot show it again.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class ApiKeyResponse {
+
+    private UUID id;
+    private String name;
+    private String prefix;
+    private String scope;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private String key;
+
+    public ApiKeyResponse() {
+    }
+
+    public ApiKeyResponse(UUID id, String name, String prefix, String scope, LocalDateTime createdAt,
+            LocalDateTime expiresAt, String key) {
+        this.id = id;
+        this.name = name;
+        this.prefix = prefix;
+        this.scope = scope;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.key = key;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the public prefix that identifies the key in listings and logs
+     *
+     * @return key prefix
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Gets the full key, to be sent as a Bearer token
+     *
+     * @return API key, or null except in the response that created it
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+}
@@ -0,0 +1,65 @@
+package com.forge.shared.model.response;
+
+import java.util.List;
+
+/**
+ * Cursor Page Response DTO
+ * <p>
+ * One page of a keyset-paginated listing. The next page is requested by passing nextCursor
+ * back unchanged; it is null on the last page. The total count is exact for small collections
+ * and an estimate from table statistics for large ones, as indicated by totalCountApproximate.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @param <T> item type
+ * @author Forge Team
+ */
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private long totalCount;
+    private boolean totalCountApproximate;
+
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> items, String nextCursor, long totalCount, boolean totalCountApproximate) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+        this.totalCountApproximate = totalCountApproximate;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public boolean isTotalCountApproximate() {
+        return totalCountApproximate;
+    }
+
+    public void setTotalCountApproximate(boolean totalCountApproximate) {
+        this.totalCountApproximate = totalCountApproximate;
+    }
+}
@@ -0,0 +1,104 @@
+package com.forge.shared.model.response;
+
+/**
+ * Endpoint Latency Response DTO
+ * <p>
+ * Data Transfer Object describing the latency of one endpoint: its distribution over the most
+ * recent recording interval and since server start, and the mean time per request spent in JWT
+ * authentication, repository calls and plugin calls. The breakdown can overlap, since the JWT
+ * filter loads its user through a repository.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class EndpointLatencyResponse {
+
+    private String endpoint;
+    private String handler;
+    private LatencySummary recent;
+    private LatencySummary total;
+    private double meanJwtMs;
+    private double meanDatabaseMs;
+    private double meanPluginMs;
+
+    public EndpointLatencyResponse() {
+    }
+
+    public EndpointLatencyResponse(String endpoint, String handler, LatencySummary recent, LatencySummary total,
+            double meanJwtMs, double meanDatabaseMs, double meanPluginMs) {
+        this.endpoint = endpoint;
+        this.handler = handler;
+        this.recent = recent;
+        this.total = total;
+        this.meanJwtMs = meanJwtMs;
+        this.meanDatabaseMs = meanDatabaseMs;
+        this.meanPluginMs = meanPluginMs;
+    }
+
+    /**
+     * Gets the HTTP method and route pattern of the endpoint
+     *
+     * @return endpoint, such as {@code POST /api/auth/login}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Gets the controller method serving the endpoint
+     *
+     * @return handler, such as {@code AuthController.login}
+     */
+    public String getHandler() {
+        return handler;
+    }
+
+    public void setHandler(String handler) {
+        this.handler = handler;
+    }
+
+    public LatencySummary getRecent() {
+        return recent;
+    }
+
+    public void setRecent(LatencySummary recent) {
+        this.recent = recent;
+    }
+
+    public LatencySummary getTotal() {
+        return total;
+    }
+
+    public void setTotal(LatencySummary total) {
+        this.total = total;
+    }
+
+    public double getMeanJwtMs() {
+        return meanJwtMs;
+    }
+
+    public void setMeanJwtMs(double meanJwtMs) {
+        this.meanJwtMs = meanJwtMs;
+    }
+
+    public double getMeanDatabaseMs() {
+        return meanDatabaseMs;
+    }
+
+    public void setMeanDatabaseMs(double meanDatabaseMs) {
+        this.meanDatabaseMs = meanDatabaseMs;
+    }
+
+    public double getMeanPluginMs() {
+        return meanPluginMs;
+    }
+
+    public void setMeanPluginMs(double meanPluginMs) {
+        this.meanPluginMs = meanPluginMs;
+    }
+}
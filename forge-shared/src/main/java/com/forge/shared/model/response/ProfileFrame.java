@@ -0,0 +1,58 @@
+package com.forge.shared.model.response;
+
+/**
+ * Profile Frame DTO
+ * <p>
+ * Data Transfer Object describing one method in a sampled profile. The self weight counts
+ * samples in which the method was at the top of the stack, the total weight samples in which it
+ * was anywhere on the stack. Weights are sample counts for execution profiles and sampled
+ * bytes for allocation profiles.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class ProfileFrame {
+
+    private String frame;
+    private long self;
+    private long total;
+
+    public ProfileFrame() {
+    }
+
+    public ProfileFrame(String frame, long self, long total) {
+        this.frame = frame;
+        this.self = self;
+        this.total = total;
+    }
+
+    /**
+     * Gets the method
+     *
+     * @return fully qualified class name and method name, such as {@code java.lang.String.hashCode}
+     */
+    public String getFrame() {
+        return frame;
+    }
+
+    public void setFrame(String frame) {
+        this.frame = frame;
+    }
+
+    public long getSelf() {
+        return self;
+    }
+
+    public void setSelf(long self) {
+        this.self = self;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,102 @@
+package com.forge.shared.model.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Profile Response DTO
+ * <p>
+ * Data Transfer Object summarising the continuous profiler's rolling window: how many execution
+ * and allocation samples it holds, and the hottest methods by CPU samples and by sampled
+ * allocation bytes, hottest first.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class ProfileResponse {
+
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private long executionSamples;
+    private long allocationSamples;
+    private long allocationBytes;
+    private List<ProfileFrame> hotMethods;
+    private List<ProfileFrame> allocationSites;
+
+    public ProfileResponse() {
+    }
+
+    public ProfileResponse(LocalDateTime windowStart, LocalDateTime windowEnd, long executionSamples,
+            long allocationSamples, long allocationBytes, List<ProfileFrame> hotMethods,
+            List<ProfileFrame> allocationSites) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.executionSamples = executionSamples;
+        this.allocationSamples = allocationSamples;
+        this.allocationBytes = allocationBytes;
+        this.hotMethods = hotMethods;
+        this.allocationSites = allocationSites;
+    }
+
+    public LocalDateTime getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(LocalDateTime windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public LocalDateTime getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(LocalDateTime windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
+    public long getExecutionSamples() {
+        return executionSamples;
+    }
+
+    public void setExecutionSamples(long executionSamples) {
+        this.executionSamples = executionSamples;
+    }
+
+    public long getAllocationSamples() {
+        return allocationSamples;
+    }
+
+    public void setAllocationSamples(long allocationSamples) {
+        this.allocationSamples = allocationSamples;
+    }
+
+    /**
+     * Gets the allocation weight of the window
+     *
+     * @return bytes the allocation samples stand for, an estimate of the bytes allocated
+     */
+    public long getAllocationBytes() {
+        return allocationBytes;
+    }
+
+    public void setAllocationBytes(long allocationBytes) {
+        this.allocationBytes = allocationBytes;
+    }
+
+    public List<ProfileFrame> getHotMethods() {
+        return hotMethods;
+    }
+
+    public void setHotMethods(List<ProfileFrame> hotMethods) {
+        this.hotMethods = hotMethods;
+    }
+
+    public List<ProfileFrame> getAllocationSites() {
+        return allocationSites;
+    }
+
+    public void setAllocationSites(List<ProfileFrame> allocationSites) {
+        this.allocationSites = allocationSites;
+    }
+}
@@ -0,0 +1,64 @@
+package com.forge.shared.model.response;
+
+import com.forge.common.constants.JwtConstants;
+
+/**
+ * Refresh Token Response DTO
+ * <p>
+ * Data Transfer Object for token refresh responses. The refresh token that was presented is no
+ * longer valid; clients must store the one returned here.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class RefreshTokenResponse {
+
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    private long expiresIn;
+
+    public RefreshTokenResponse() {
+        this.tokenType = JwtConstants.TOKEN_TYPE;
+    }
+
+    public RefreshTokenResponse(String accessToken, String refreshToken, long expiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.tokenType = JwtConstants.TOKEN_TYPE;
+        this.expiresIn = expiresIn;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
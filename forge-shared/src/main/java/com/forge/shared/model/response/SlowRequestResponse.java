@@ -0,0 +1,114 @@
+package com.forge.shared.model.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slow Request Response DTO
+ * <p>
+ * Data Transfer Object describing one request that exceeded the slow request threshold, with
+ * where its time went. Times are in milliseconds.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class SlowRequestResponse {
+
+    private LocalDateTime completedAt;
+    private String endpoint;
+    private String uri;
+    private int status;
+    private double totalMs;
+    private double jwtMs;
+    private double databaseMs;
+    private int databaseCalls;
+    private double pluginMs;
+
+    public SlowRequestResponse() {
+    }
+
+    public SlowRequestResponse(LocalDateTime completedAt, String endpoint, String uri, int status, double totalMs,
+            double jwtMs, double databaseMs, int databaseCalls, double pluginMs) {
+        this.completedAt = completedAt;
+        this.endpoint = endpoint;
+        this.uri = uri;
+        this.status = status;
+        this.totalMs = totalMs;
+        this.jwtMs = jwtMs;
+        this.databaseMs = databaseMs;
+        this.databaseCalls = databaseCalls;
+        this.pluginMs = pluginMs;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public double getTotalMs() {
+        return totalMs;
+    }
+
+    public void setTotalMs(double totalMs) {
+        this.totalMs = totalMs;
+    }
+
+    public double getJwtMs() {
+        return jwtMs;
+    }
+
+    public void setJwtMs(double jwtMs) {
+        this.jwtMs = jwtMs;
+    }
+
+    public double getDatabaseMs() {
+        return databaseMs;
+    }
+
+    public void setDatabaseMs(double databaseMs) {
+        this.databaseMs = databaseMs;
+    }
+
+    public int getDatabaseCalls() {
+        return databaseCalls;
+    }
+
+    public void setDatabaseCalls(int databaseCalls) {
+        this.databaseCalls = databaseCalls;
+    }
+
+    public double getPluginMs() {
+        return pluginMs;
+    }
+
+    public void setPluginMs(double pluginMs) {
+        this.pluginMs = pluginMs;
+    }
+}
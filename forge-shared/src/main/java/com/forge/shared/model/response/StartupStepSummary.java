@@ -0,0 +1,68 @@
+package com.forge.shared.model.response;
+
+/**
+ * Startup Step Summary DTO
+ * <p>
+ * Data Transfer Object describing one bean or one startup phase in the startup timeline. Self
+ * time excludes the nested steps, such as the dependencies a bean created while it was being
+ * instantiated; total time includes them. A phase that ran several times, such as loading the
+ * configuration of each plugin, is reported once with its durations added up.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class StartupStepSummary {
+
+    private String name;
+    private int count;
+    private double selfMillis;
+    private double totalMillis;
+
+    public StartupStepSummary() {
+    }
+
+    public StartupStepSummary(String name, int count, double selfMillis, double totalMillis) {
+        this.name = name;
+        this.count = count;
+        this.selfMillis = selfMillis;
+        this.totalMillis = totalMillis;
+    }
+
+    /**
+     * Gets the bean name or step name
+     *
+     * @return name, such as {@code entityManagerFactory} or {@code spring.context.refresh}
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public double getSelfMillis() {
+        return selfMillis;
+    }
+
+    public void setSelfMillis(double selfMillis) {
+        this.selfMillis = selfMillis;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(double totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+}
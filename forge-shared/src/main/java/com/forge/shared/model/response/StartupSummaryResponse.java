@@ -0,0 +1,76 @@
+package com.forge.shared.model.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Startup Summary Response DTO
+ * <p>
+ * Data Transfer Object summarising the recorded startup timeline: when it started, how long it
+ * took until the last recorded step ended, and the slowest beans and phases by self time,
+ * slowest first.
+ * <p>
+ * This is a shared model that can be used across modules.
+ *
+ * @author Forge Team
+ */
+public class StartupSummaryResponse {
+
+    private Instant startTime;
+    private double totalMillis;
+    private int recordedSteps;
+    private List<StartupStepSummary> slowestBeans;
+    private List<StartupStepSummary> slowestPhases;
+
+    public StartupSummaryResponse() {
+    }
+
+    public StartupSummaryResponse(Instant startTime, double totalMillis, int recordedSteps,
+            List<StartupStepSummary> slowestBeans, List<StartupStepSummary> slowestPhases) {
+        this.startTime = startTime;
+        this.totalMillis = totalMillis;
+        this.recordedSteps = recordedSteps;
+        this.slowestBeans = slowestBeans;
+        this.slowestPhases = slowestPhases;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(double totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public int getRecordedSteps() {
+        return recordedSteps;
+    }
+
+    public void setRecordedSteps(int recordedSteps) {
+        this.recordedSteps = recordedSteps;
+    }
+
+    public List<StartupStepSummary> getSlowestBeans() {
+        return slowestBeans;
+    }
+
+    public void setSlowestBeans(List<StartupStepSummary> slowestBeans) {
+        this.slowestBeans = slowestBeans;
+    }
+
+    public List<StartupStepSummary> getSlowestPhases() {
+        return slowestPhases;
+    }
+
+    public void setSlowestPhases(List<StartupStepSummary> slowestPhases) {
+        this.slowestPhases = slowestPhases;
+    }
+}
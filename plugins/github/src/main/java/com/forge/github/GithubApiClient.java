@@ -8,6 +8,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 final class GithubApiClient {
@@ -21,8 +22,8 @@ final class GithubApiClient {
     private static final int READ_TIMEOUT_MS = 10000;
     private static final String JSON_LOGIN_FIELD = "\"login\":\"";
     private static final String FAILED_UNAUTHORIZED_401 = "GitHub authentication failed: Unauthorized (401)";
-    private static final String UNEXPECTED_RESPONSE_CODE = "GitHub API returned unexpected response code: ";
-    private static final String ERROR_VERIFYING_GITHUB_CREDENTIALS = "Error verifying GitHub credentials: ";
+    private static final String UNEXPECTED_RESPONSE_CODE = "GitHub API returned unexpected response code: {0}";
+    private static final String ERROR_VERIFYING_GITHUB_CREDENTIALS = "Error verifying GitHub credentials: {0}";
     private static final String COULD_NOT_FIND_LOGIN_FIELD_IN_GITHUB_API_RESPONSE =
             "Could not find 'login' field in GitHub API response";
     private static final String INVALID_LOGIN_FIELD_FORMAT_IN_GITHUB_API_RESPONSE =
@@ -47,11 +48,11 @@ final class GithubApiClient {
                 logger.warning(FAILED_UNAUTHORIZED_401);
                 return null;
             } else {
-                logger.warning(UNEXPECTED_RESPONSE_CODE + responseCode);
+                logger.log(Level.WARNING, UNEXPECTED_RESPONSE_CODE, String.valueOf(responseCode));
                 return null;
             }
         } catch (IOException e) {
-            logger.warning(ERROR_VERIFYING_GITHUB_CREDENTIALS + e.getMessage());
+            logger.log(Level.WARNING, ERROR_VERIFYING_GITHUB_CREDENTIALS, e.getMessage());
             return null;
         }
     }
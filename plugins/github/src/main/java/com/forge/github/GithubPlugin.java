@@ -5,6 +5,7 @@ import com.forge.server.plugins.api.PluginContext;
 import com.forge.server.plugins.api.PluginState;
 import com.forge.server.common.plugin.exception.PluginException;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GithubPlugin implements Plugin {
@@ -15,7 +16,6 @@ public class GithubPlugin implements Plugin {
     private static final String CONFIG_TOKEN = "github.token";
     private static final String CONFIG_USERNAME = "github.username";
     private static final String CONFIG_PASSWORD = "github.password";
-    private static final String INITIALIZING_GITHUB_PLUGIN = "Initializing GitHub plugin";
     private static final String GITHUB_PLUGIN_INITIALIZED_SUCCESSFULLY = "GitHub plugin initialized successfully";
     private static final String STARTING_GITHUB_PLUGIN = "Starting GitHub plugin";
     private static final String PLUGIN_WILL_OPERATE_IN_LIMITED_MODE =
@@ -23,7 +23,7 @@ public class GithubPlugin implements Plugin {
     private static final String FAILED_INVALID_OR_EXPIRED_CREDENTIALS =
             "GitHub credential verification failed. Invalid or expired credentials.";
     private static final String VERIFIED_SUCCESSFULLY_AUTHENTICATED_AS =
-            "GitHub credentials verified successfully. Authenticated as: ";
+            "GitHub credentials verified successfully. Authenticated as: {0}";
     private static final String PLUGIN_STARTED_AND_READY_FOR_OPERATIONS =
             "GitHub plugin started and ready for operations";
     private static final String STOPPING_GITHUB_PLUGIN = "Stopping GitHub plugin";
@@ -48,15 +48,13 @@ public class GithubPlugin implements Plugin {
     public void init(PluginContext pluginContext) throws PluginException {
         this.context = pluginContext;
         this.logger = context.getLogger();
-        this.apiClient = new GithubApiClient(logger);
         state = PluginState.INITIALIZED;
-        logger.info(INITIALIZING_GITHUB_PLUGIN);
         logger.info(GITHUB_PLUGIN_INITIALIZED_SUCCESSFULLY);
     }
 
     @Override
     public void start() throws PluginException {
-        logger.info(STARTING_GITHUB_PLUGIN);
+        logger.fine(STARTING_GITHUB_PLUGIN);
 
         Credentials credentials = loadCredentials();
         if (credentials == null) {
@@ -68,19 +66,23 @@ public class GithubPlugin implements Plugin {
             return;
         }
 
+        // Created on first use: in limited mode the plugin never talks to the GitHub API
+        if (apiClient == null) {
+            apiClient = new GithubApiClient(logger);
+        }
         authenticatedUsername = apiClient.verifyCredentials(credentials);
         if (authenticatedUsername == null) {
             throw new PluginException(FAILED_INVALID_OR_EXPIRED_CREDENTIALS);
         }
 
-        logger.info(VERIFIED_SUCCESSFULLY_AUTHENTICATED_AS + authenticatedUsername);
+        logger.log(Level.INFO, VERIFIED_SUCCESSFULLY_AUTHENTICATED_AS, authenticatedUsername);
         state = PluginState.STARTED;
         logger.info(PLUGIN_STARTED_AND_READY_FOR_OPERATIONS);
     }
 
     @Override
     public void stop() throws PluginException {
-        logger.info(STOPPING_GITHUB_PLUGIN);
+        logger.fine(STOPPING_GITHUB_PLUGIN);
         state = PluginState.STOPPED;
         logger.info("GitHub plugin stopped");
     }
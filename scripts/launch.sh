@@ -8,17 +8,25 @@ SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
 PROJECT_ROOT="$(cd "$SCRIPT_DIR/.." && pwd)"
 cd "$PROJECT_ROOT"
 
-# Find Java 17
-if command -v /usr/libexec/java_home &> /dev/null; then
-    JAVA_HOME=$(/usr/libexec/java_home -v 17 2>/dev/null)
-fi
-JAVA_CMD="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+# Prefer the trimmed runtime built by the dist module; its default options size the heap
+# from the container memory limit, so no -Xms/-Xmx default is passed to it
+if [ -x "dist/runtime/bin/java" ]; then
+    JAVA_CMD="dist/runtime/bin/java"
+    DEFAULT_JAVA_OPTS=""
+else
+    # Find Java 17
+    if command -v /usr/libexec/java_home &> /dev/null; then
+        JAVA_HOME=$(/usr/libexec/java_home -v 17 2>/dev/null)
+    fi
+    JAVA_CMD="${JAVA_HOME:+$JAVA_HOME/bin/}java"
 
-# Verify Java 17+
-JAVA_VER=$("$JAVA_CMD" -version 2>&1 | head -1 | cut -d'"' -f2 | cut -d'.' -f1)
-if [ "$JAVA_VER" -lt 17 ] 2>/dev/null; then
-    echo "Error: Java 17+ required (found: $JAVA_VER)"
-    exit 1
+    # Verify Java 17+
+    JAVA_VER=$("$JAVA_CMD" -version 2>&1 | head -1 | cut -d'"' -f2 | cut -d'.' -f1)
+    if [ "$JAVA_VER" -lt 17 ] 2>/dev/null; then
+        echo "Error: Java 17+ required (found: $JAVA_VER)"
+        exit 1
+    fi
+    DEFAULT_JAVA_OPTS="-Xms256m -Xmx512m"
 fi
 
 # Check build artifacts
@@ -27,18 +35,40 @@ if [ ! -f "dist/lib/forge-server-1.0.0-SNAPSHOT.jar" ]; then
     exit 1
 fi
 
-# Debug mode
+# Options
 DEBUG_PORT=5005
 DEBUG_OPTS=""
+FAST_START="${FAST_START:-false}"
+
+while [ $# -gt 0 ]; do
+    case "$1" in
+        --debug) DEBUG=true; shift ;;
+        --fast-start) FAST_START=true; shift ;;
+        *) break ;;
+    esac
+done
 
-if [ "$1" = "--debug" ] || [ "$DEBUG" = "true" ]; then
+# Debug mode
+if [ "$DEBUG" = "true" ]; then
     DEBUG_OPTS="-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=*:${DEBUG_PORT}"
     echo "🐛 Debug mode enabled on port ${DEBUG_PORT}"
     echo "   Connect IntelliJ Remote JVM Debug to localhost:${DEBUG_PORT}"
     echo ""
-    shift
 fi
 
-# Launch the application
-exec "$JAVA_CMD" ${DEBUG_OPTS} ${JAVA_OPTS:--Xms256m -Xmx512m} -jar dist/lib/forge-server-1.0.0-SNAPSHOT.jar "$@"
+# Fast-start mode: AOT-processed bean definitions, class-data sharing archive and lazy bean init.
+# The archive is only used with the Java runtime that trained it; otherwise the JVM ignores it.
+if [ "$FAST_START" = "true" ]; then
+    if [ ! -f "dist/fast-start/forge-server.jsa" ] || [ ! -f "dist/fast-start/classpath.txt" ]; then
+        echo "Error: Fast-start artifacts not found. Run: mvn clean install -Pfast-start"
+        exit 1
+    fi
+    echo "⚡ Fast-start mode enabled"
+    exec "$JAVA_CMD" ${DEBUG_OPTS} ${JAVA_OPTS:-$DEFAULT_JAVA_OPTS} \
+        -XX:SharedArchiveFile=dist/fast-start/forge-server.jsa \
+        -Dspring.aot.enabled=true -Dspring.profiles.include=fast-start \
+        -cp "$(cat dist/fast-start/classpath.txt)" com.forge.server.ForgeServerApplication "$@"
+fi
 
+# Launch the application
+exec "$JAVA_CMD" ${DEBUG_OPTS} ${JAVA_OPTS:-$DEFAULT_JAVA_OPTS} -jar dist/lib/forge-server-1.0.0-SNAPSHOT.jar "$@"
@@ -2,20 +2,28 @@ package com.forge.server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * Forge Server - Main Entry Point
  * <p>
  * This is the single entry point for the Forge CI/CD Platform Control Plane.
  * It initializes the Spring Boot application and starts all configured services.
+ * <p>
+ * Startup steps are buffered so /actuator/startup can show where boot time went. The buffer also
+ * takes steps recorded after startup, such as plugin installs, until it is full.
  *
  * @author Forge Team
  */
 @SpringBootApplication
 public class ForgeServerApplication {
 
+    private static final int STARTUP_STEP_CAPACITY = 10000;
+
     public static void main(String[] args) {
-        SpringApplication.run(ForgeServerApplication.class, args);
+        SpringApplication application = new SpringApplication(ForgeServerApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
 
@@ -0,0 +1,49 @@
+package com.forge.server.api.actuator;
+
+import com.forge.server.core.service.monitoring.HealthProbeService;
+
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Forge Health Contributor
+ * <p>
+ * Publishes the cached readiness checks as the {@code forge} health component, with one child
+ * per check, so the readiness group and {@code /actuator/health/forge/{check}} read the
+ * background snapshot instead of probing dependencies on the request thread.
+ *
+ * @author Forge Team
+ */
+@Component
+public class ForgeHealthContributor implements CompositeHealthContributor {
+
+    private final HealthProbeService healthProbeService;
+
+    public ForgeHealthContributor(HealthProbeService healthProbeService) {
+        this.healthProbeService = healthProbeService;
+    }
+
+    @Override
+    public HealthContributor getContributor(String name) {
+        if (!healthProbeService.getCheckNames().contains(name)) {
+            return null;
+        }
+        return indicator(name);
+    }
+
+    @Override
+    public Iterator<NamedContributor<HealthContributor>> iterator() {
+        return healthProbeService.getCheckNames().stream()
+                .map(name -> NamedContributor.<HealthContributor>of(name, indicator(name)))
+                .iterator();
+    }
+
+    private HealthIndicator indicator(String name) {
+        return () -> healthProbeService.getHealth(name);
+    }
+}
@@ -0,0 +1,122 @@
+package com.forge.server.api.actuator;
+
+import com.forge.server.core.service.monitoring.ContinuousProfiler;
+import com.forge.shared.model.response.ProfileResponse;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Profiler Endpoint
+ * <p>
+ * Actuator endpoint over the continuous profiler, at {@code /actuator/profiler}. Reading it
+ * summarises the rolling window; {@code /actuator/profiler/cpu} and
+ * {@code /actuator/profiler/allocation} return its folded stacks as text for a flame graph
+ * tool; a POST returns a {@code .jfr} dump of the window. Requires the USER_ADMIN permission.
+ *
+ * @author Forge Team
+ */
+@Component
+@WebEndpoint(id = "profiler")
+public class ProfilerEndpoint {
+
+    private static final String DUMP_PREFIX = "forge-profile-";
+    private static final String DUMP_SUFFIX = ".jfr";
+
+    private final ContinuousProfiler profiler;
+
+    public ProfilerEndpoint(ContinuousProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Summarises the rolling window
+     *
+     * @return sample counts and hottest methods, or 503 if the profiler is not running
+     */
+    @ReadOperation
+    public WebEndpointResponse<ProfileResponse> profile() {
+        if (!profiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return new WebEndpointResponse<>(profiler.getProfile());
+    }
+
+    /**
+     * Gets the folded stacks of the rolling window
+     *
+     * @param type {@code cpu} or {@code allocation}
+     * @return folded stacks, 400 for an unknown type, or 503 if the profiler is not running
+     */
+    @ReadOperation(produces = MediaType.TEXT_PLAIN_VALUE)
+    public WebEndpointResponse<String> foldedStacks(@Selector String type) {
+        ContinuousProfiler.ProfileType profileType;
+        try {
+            profileType = ContinuousProfiler.ProfileType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!profiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return new WebEndpointResponse<>(profiler.getFoldedStacks(profileType));
+    }
+
+    /**
+     * Dumps the raw events of the rolling window
+     *
+     * @return JFR file, or 503 if the profiler is not running
+     * @throws IOException if the dump cannot be written
+     */
+    @WriteOperation
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        if (!profiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        Path file = Files.createTempFile(DUMP_PREFIX, DUMP_SUFFIX);
+        try {
+            profiler.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    /**
+     * File resource that deletes its file once it has been read
+     */
+    private static class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.forge.server.api.actuator;
+
+import com.forge.server.core.startup.StartupTimelineSummarizer;
+import com.forge.shared.model.response.StartupSummaryResponse;
+
+import org.springframework.boot.SpringBootVersion;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.EndpointWebExtension;
+import org.springframework.boot.actuate.startup.StartupEndpoint;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup Endpoint Web Extension
+ * <p>
+ * Adds a summary of the slowest beans and phases to {@code GET /actuator/startup}, next to the
+ * raw timeline Spring Boot returns there. {@code POST /actuator/startup} is unchanged and still
+ * drains the buffer. Requires the USER_ADMIN permission.
+ * <p>
+ * Spring Boot only registers the startup endpoint when the application was started with a
+ * {@link BufferingApplicationStartup}, as {@link com.forge.server.ForgeServerApplication} does;
+ * this extension follows the same condition, so tests that boot the context directly do without both.
+ *
+ * @author Forge Team
+ */
+@Component
+@EndpointWebExtension(endpoint = StartupEndpoint.class)
+@ConditionalOnAvailableEndpoint(endpoint = StartupEndpoint.class)
+@Conditional(StartupEndpointWebExtension.BufferingStartupCondition.class)
+public class StartupEndpointWebExtension {
+
+    private final BufferingApplicationStartup applicationStartup;
+    private final StartupTimelineSummarizer summarizer;
+
+    public StartupEndpointWebExtension(BufferingApplicationStartup applicationStartup,
+            StartupTimelineSummarizer summarizer) {
+        this.applicationStartup = applicationStartup;
+        this.summarizer = summarizer;
+    }
+
+    /**
+     * Gets the recorded timeline without draining it
+     *
+     * @return summary and timeline
+     */
+    @ReadOperation
+    public StartupSummaryDescriptor startupSnapshot() {
+        StartupTimeline timeline = applicationStartup.getBufferedTimeline();
+        return new StartupSummaryDescriptor(summarizer.summarize(timeline), timeline);
+    }
+
+    /**
+     * Startup timeline with its summary
+     */
+    public static final class StartupSummaryDescriptor implements OperationResponseBody {
+
+        private final StartupSummaryResponse summary;
+        private final StartupTimeline timeline;
+
+        private StartupSummaryDescriptor(StartupSummaryResponse summary, StartupTimeline timeline) {
+            this.summary = summary;
+            this.timeline = timeline;
+        }
+
+        public String getSpringBootVersion() {
+            return SpringBootVersion.getVersion();
+        }
+
+        public StartupSummaryResponse getSummary() {
+            return summary;
+        }
+
+        public StartupTimeline getTimeline() {
+            return timeline;
+        }
+    }
+
+    /**
+     * Matches when the context records its startup into a buffer
+     */
+    static class BufferingStartupCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return context.getBeanFactory() != null
+                    && context.getBeanFactory().getApplicationStartup() instanceof BufferingApplicationStartup;
+        }
+    }
+}
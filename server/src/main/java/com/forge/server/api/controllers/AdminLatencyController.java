@@ -0,0 +1,52 @@
+package com.forge.server.api.controllers;
+
+import com.forge.common.constants.ApiConstants;
+import com.forge.server.core.service.monitoring.LatencyRecorder;
+import com.forge.shared.model.response.EndpointLatencyResponse;
+import com.forge.shared.model.response.SlowRequestResponse;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin Latency Controller
+ * <p>
+ * REST controller exposing per-endpoint latency distributions and sampled slow requests. All
+ * endpoints require the USER_ADMIN permission.
+ *
+ * @author Forge Team
+ */
+@RestController
+@RequestMapping(ApiConstants.API_ADMIN_LATENCY_PATH)
+public class AdminLatencyController {
+
+    private final LatencyRecorder latencyRecorder;
+
+    public AdminLatencyController(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    /**
+     * Lists the latency of each endpoint, slowest p99 first
+     *
+     * @return endpoint latencies as of the last recording interval
+     */
+    @GetMapping
+    public ResponseEntity<List<EndpointLatencyResponse>> listEndpoints() {
+        return ResponseEntity.ok(latencyRecorder.getEndpoints());
+    }
+
+    /**
+     * Lists recent requests that exceeded the slow request threshold, newest first
+     *
+     * @return slow requests with their time breakdown
+     */
+    @GetMapping(ApiConstants.ENDPOINT_LATENCY_SLOW)
+    public ResponseEntity<List<SlowRequestResponse>> listSlowRequests() {
+        return ResponseEntity.ok(latencyRecorder.getSlowRequests());
+    }
+}
@@ -0,0 +1,116 @@
+package com.forge.server.api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forge.common.constants.ApiConstants;
+import com.forge.common.constants.SecurityConstants;
+import com.forge.server.core.repository.projection.UserAdminView;
+import com.forge.server.core.service.listing.UserListingService;
+import com.forge.server.core.service.registration.BulkUserProvisioningService;
+import com.forge.shared.model.response.CursorPage;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Admin User Controller
+ * <p>
+ * REST controller for administrative user management. All endpoints require the USER_ADMIN
+ * permission.
+ *
+ * @author Forge Team
+ */
+@RestController
+@RequestMapping(ApiConstants.API_ADMIN_USERS_PATH)
+public class AdminUserController {
+
+    private static final String SUMMARY = "summary";
+    private static final byte NEWLINE = '\n';
+
+    private final BulkUserProvisioningService provisioningService;
+    private final UserListingService userListingService;
+    private final ObjectMapper objectMapper;
+    private final Duration bulkRequestTimeout;
+
+    public AdminUserController(BulkUserProvisioningService provisioningService,
+            UserListingService userListingService, ObjectMapper objectMapper,
+            @Value("${forge.users.bulk.request-timeout:2h}") Duration bulkRequestTimeout) {
+        this.provisioningService = provisioningService;
+        this.userListingService = userListingService;
+        this.objectMapper = objectMapper;
+        this.bulkRequestTimeout = bulkRequestTimeout;
+    }
+
+    /**
+     * Lists users with their administrative details, in registration order
+     *
+     * @param cursor cursor from the previous page; omit for the first page
+     * @param limit  page size
+     * @return one page of users, with the total in the X-Total-Count header
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<UserAdminView>> listUsers(
+            @RequestParam(name = ApiConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(name = ApiConstants.PARAM_LIMIT, required = false) Integer limit) {
+        CursorPage<UserAdminView> page = userListingService.listUsersForAdmin(cursor, limit);
+        return ResponseEntity.ok()
+                .header(SecurityConstants.HEADER_TOTAL_COUNT, String.valueOf(page.getTotalCount()))
+                .body(page);
+    }
+
+    /**
+     * Provisions users in bulk
+     * <p>
+     * The request body is newline-delimited JSON (or a JSON array) of registration requests and is
+     * read incrementally. The response streams one JSON line per input row as rows are processed,
+     * followed by a summary line.
+     * <p>
+     * The import runs as an async request with its own timeout. The container's default async
+     * timeout counts from the start of the request, however much output has been streamed since,
+     * and a large import hashes one password per row.
+     *
+     * @param body     registration requests
+     * @param response response the per-row results are streamed to
+     * @return the import, run on the MVC task executor
+     */
+    @PostMapping(value = ApiConstants.ENDPOINT_USERS_BULK, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> bulkProvision(InputStream body, HttpServletResponse response) {
+        return new WebAsyncTask<>(bulkRequestTimeout.toMillis(), () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            OutputStream out = response.getOutputStream();
+            try {
+                BulkUserProvisioningService.ProvisioningSummary summary = provisioningService.provision(body, row -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(row));
+                        out.write(NEWLINE);
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.write(objectMapper.writeValueAsBytes(Map.of(SUMMARY, summary)));
+                out.write(NEWLINE);
+                out.flush();
+            } catch (UncheckedIOException e) {
+                // Client went away; rows already committed stay committed
+                throw e.getCause();
+            }
+            return null;
+        });
+    }
+}
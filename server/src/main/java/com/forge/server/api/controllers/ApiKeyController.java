@@ -0,0 +1,83 @@
+package com.forge.server.api.controllers;
+
+import com.forge.common.constants.ApiConstants;
+import com.forge.server.core.entity.ApiKey;
+import com.forge.server.core.service.authentication.ApiKeyService;
+import com.forge.server.security.util.AppUserDetails;
+import com.forge.shared.model.request.CreateApiKeyRequest;
+import com.forge.shared.model.response.ApiKeyResponse;
+import jakarta.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * API Key Controller
+ * <p>
+ * Lets authenticated users issue, list and revoke API keys for their machine clients. Keys act
+ * on behalf of the user that issued them.
+ *
+ * @author Forge Team
+ */
+@RestController
+@RequestMapping(ApiConstants.API_KEYS_PATH)
+public class ApiKeyController {
+
+    private final ApiKeyService apiKeyService;
+
+    public ApiKeyController(ApiKeyService apiKeyService) {
+        this.apiKeyService = apiKeyService;
+    }
+
+    /**
+     * Issues an API key to the calling user
+     *
+     * @param principal authenticated user
+     * @param request   key name, scope and expiry
+     * @return the new key, shown only in this response
+     */
+    @PostMapping
+    public ResponseEntity<ApiKeyResponse> create(@AuthenticationPrincipal AppUserDetails principal,
+            @Valid @RequestBody CreateApiKeyRequest request) {
+        ApiKeyResponse response = apiKeyService.create(UUID.fromString(principal.getId()), request.getName(),
+                ApiKey.Scope.valueOf(request.getScope()), request.getExpiresInDays());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Lists the calling user's API keys
+     *
+     * @param principal authenticated user
+     * @return the user's keys, without secrets
+     */
+    @GetMapping
+    public ResponseEntity<List<ApiKeyResponse>> list(@AuthenticationPrincipal AppUserDetails principal) {
+        return ResponseEntity.ok(apiKeyService.list(UUID.fromString(principal.getId())));
+    }
+
+    /**
+     * Revokes one of the calling user's API keys
+     *
+     * @param principal authenticated user
+     * @param id        key ID
+     * @return empty response, or 404 if the user has no such key
+     */
+    @DeleteMapping(ApiConstants.ENDPOINT_API_KEY)
+    public ResponseEntity<Void> revoke(@AuthenticationPrincipal AppUserDetails principal, @PathVariable UUID id) {
+        if (!apiKeyService.revoke(UUID.fromString(principal.getId()), id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
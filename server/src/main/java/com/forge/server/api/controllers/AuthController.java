@@ -1,13 +1,17 @@
 package com.forge.server.api.controllers;
 
 import com.forge.common.constants.ApiConstants;
+import com.forge.common.constants.JwtConstants;
 import com.forge.common.constants.MessageConstants;
 import com.forge.shared.model.request.LoginRequest;
+import com.forge.shared.model.request.RefreshTokenRequest;
 import com.forge.shared.model.request.RegisterRequest;
 import com.forge.shared.model.response.LoginResponse;
+import com.forge.shared.model.response.RefreshTokenResponse;
 import com.forge.shared.model.response.RegisterResponse;
 import com.forge.server.core.service.AuthService;
 import com.forge.server.security.util.AppUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.http.HttpStatus;
@@ -17,7 +21,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
@@ -38,6 +44,8 @@ public class AuthController {
 
     private static final String SECURE_ENDPOINT_ACCESSED_SUCCESSFULLY = "Secure endpoint accessed successfully";
     private static final String UNABLE_TO_RETRIEVE_USER_DETAILS = "Unable to retrieve user details";
+    private static final String USERNAME = "username";
+    private static final String AVAILABLE = "available";
 
     private final AuthService authService;
 
@@ -58,18 +66,61 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Checks whether a username is free to register, for live feedback on the signup form
+     *
+     * @param username username to check
+     * @return the username and whether it is available
+     */
+    @GetMapping(ApiConstants.ENDPOINT_USERNAME_AVAILABLE)
+    public ResponseEntity<Map<String, Object>> usernameAvailable(@RequestParam(USERNAME) String username) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(USERNAME, username);
+        response.put(AVAILABLE, authService.isUsernameAvailable(username));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Authenticates user and returns JWT tokens
      *
-     * @param request login request containing email and password
+     * @param request     login request containing email and password
+     * @param httpRequest servlet request, for the client address
      * @return login response with user details and JWT tokens
      */
     @PostMapping(ApiConstants.ENDPOINT_LOGIN)
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request.getEmail(), request.getPassword());
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        LoginResponse response = authService.login(request.getEmail(), request.getPassword(),
+                httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh token
+     *
+     * @param request refresh request containing the refresh token
+     * @return new token pair
+     */
+    @PostMapping(ApiConstants.ENDPOINT_REFRESH)
+    public ResponseEntity<RefreshTokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Revokes the access token used to make this request and ends its login session
+     *
+     * @param authorization authorization header carrying the access token
+     * @return empty response
+     */
+    @PostMapping(ApiConstants.ENDPOINT_LOGOUT)
+    public ResponseEntity<Void> logout(@RequestHeader(JwtConstants.HEADER_NAME) String authorization) {
+        String token = authorization.startsWith(JwtConstants.TOKEN_PREFIX)
+                ? authorization.substring(JwtConstants.TOKEN_PREFIX.length())
+                : authorization;
+        authService.logout(token);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping(ApiConstants.ENDPOINT_SECURE_TEST)
     public ResponseEntity<Map<String, Object>> secureTest() {
         // Get authentication from security context
@@ -0,0 +1,158 @@
+package com.forge.server.api.controllers;
+
+import com.forge.common.constants.ApiConstants;
+import com.forge.server.core.service.cache.BuildCacheService;
+import com.forge.server.security.authorization.Permission;
+import com.forge.server.security.authorization.RequiresPermission;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Build Cache Controller
+ * <p>
+ * Remote build cache endpoint speaking the plain HTTP cache protocol shared by Gradle's
+ * HttpBuildCache ({@code /api/cache/{key}}) and Bazel's remote cache
+ * ({@code /api/cache/ac/{key}} and {@code /api/cache/cas/{key}}).
+ * <p>
+ * Only those namespaces are reachable over HTTP. The server keeps its own entries, such as
+ * pipeline step results, in other namespaces of the same cache, and a client able to write
+ * those could plant outputs that are later restored into build workspaces.
+ *
+ * @author Forge Team
+ */
+@RestController
+@RequestMapping(ApiConstants.API_BUILD_CACHE_PATH)
+public class BuildCacheController {
+
+    private static final Set<String> CLIENT_NAMESPACES = Set.of("ac", "cas");
+
+    private final BuildCacheService buildCacheService;
+
+    public BuildCacheController(BuildCacheService buildCacheService) {
+        this.buildCacheService = buildCacheService;
+    }
+
+    /**
+     * Downloads a cache entry from the default namespace
+     *
+     * @param key cache key
+     * @return entry content, or 404 on a cache miss
+     */
+    @GetMapping(ApiConstants.ENDPOINT_BUILD_CACHE_ENTRY)
+    public ResponseEntity<Resource> get(@PathVariable String key) {
+        return load(null, key);
+    }
+
+    /**
+     * Downloads a cache entry from a namespace such as Bazel's action cache or CAS
+     *
+     * @param namespace cache namespace
+     * @param key       cache key
+     * @return entry content, or 404 on a cache miss
+     */
+    @GetMapping(ApiConstants.ENDPOINT_BUILD_CACHE_NAMESPACED_ENTRY)
+    public ResponseEntity<Resource> get(@PathVariable String namespace, @PathVariable String key) {
+        return load(namespace, key);
+    }
+
+    /**
+     * Checks for a cache entry in the default namespace without downloading it
+     *
+     * @param key cache key
+     * @return 200 if present, 404 otherwise
+     */
+    @RequestMapping(value = ApiConstants.ENDPOINT_BUILD_CACHE_ENTRY, method = RequestMethod.HEAD)
+    public ResponseEntity<Void> head(@PathVariable String key) {
+        return exists(null, key);
+    }
+
+    /**
+     * Checks for a cache entry in a namespace without downloading it
+     *
+     * @param namespace cache namespace
+     * @param key       cache key
+     * @return 200 if present, 404 otherwise
+     */
+    @RequestMapping(value = ApiConstants.ENDPOINT_BUILD_CACHE_NAMESPACED_ENTRY, method = RequestMethod.HEAD)
+    public ResponseEntity<Void> head(@PathVariable String namespace, @PathVariable String key) {
+        return exists(namespace, key);
+    }
+
+    /**
+     * Uploads a cache entry to the default namespace
+     *
+     * @param key     cache key
+     * @param request HTTP request whose body is the entry content
+     * @return 201 once the entry is stored
+     * @throws IOException if the entry cannot be written
+     */
+    @PutMapping(ApiConstants.ENDPOINT_BUILD_CACHE_ENTRY)
+    @RequiresPermission(Permission.BUILD_CACHE_WRITE)
+    public ResponseEntity<Void> put(@PathVariable String key, HttpServletRequest request) throws IOException {
+        return store(null, key, request);
+    }
+
+    /**
+     * Uploads a cache entry to a namespace
+     *
+     * @param namespace cache namespace
+     * @param key       cache key
+     * @param request   HTTP request whose body is the entry content
+     * @return 201 once the entry is stored
+     * @throws IOException if the entry cannot be written
+     */
+    @PutMapping(ApiConstants.ENDPOINT_BUILD_CACHE_NAMESPACED_ENTRY)
+    @RequiresPermission(Permission.BUILD_CACHE_WRITE)
+    public ResponseEntity<Void> put(@PathVariable String namespace, @PathVariable String key,
+            HttpServletRequest request) throws IOException {
+        return store(namespace, key, request);
+    }
+
+    private ResponseEntity<Resource> load(String namespace, String key) {
+        if (!isValid(namespace, key)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return buildCacheService.get(namespace, key)
+                .<ResponseEntity<Resource>>map(entry -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .contentLength(entry.getSize())
+                        .body(new InputStreamResource(entry.getInputStream())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<Void> exists(String namespace, String key) {
+        if (!isValid(namespace, key)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return buildCacheService.contains(namespace, key) ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private ResponseEntity<Void> store(String namespace, String key, HttpServletRequest request)
+            throws IOException {
+        if (!isValid(namespace, key)) {
+            return ResponseEntity.badRequest().build();
+        }
+        buildCacheService.put(namespace, key, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    private boolean isValid(String namespace, String key) {
+        return (namespace == null || CLIENT_NAMESPACES.contains(namespace))
+                && buildCacheService.isValidSegment(key);
+    }
+}
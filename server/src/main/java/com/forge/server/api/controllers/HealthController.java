@@ -2,7 +2,10 @@ package com.forge.server.api.controllers;
 
 import com.forge.common.constants.ApiConstants;
 import com.forge.common.constants.MessageConstants;
+import com.forge.server.core.service.monitoring.HealthProbeService;
 
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,13 +13,15 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Health Check Controller
  * <p>
  * Provides basic health check endpoint for the application.
- * This is a simple example controller following REST principles.
+ * The status is read from the cached readiness checks, so polling it never touches the
+ * database or other dependencies.
  *
  * @author Forge Team
  */
@@ -26,18 +31,32 @@ public class HealthController {
 
     public static final String SERVICE_NAME_FORGE_SERVER = "forge-server";
 
+    private final HealthProbeService healthProbeService;
+
+    public HealthController(HealthProbeService healthProbeService) {
+        this.healthProbeService = healthProbeService;
+    }
+
     /**
      * Health check endpoint
      *
-     * @return Health status with timestamp
+     * @return Health status with the status of each readiness check and timestamp; 503 if any check is not UP
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> health() {
+        Map<String, String> checks = new LinkedHashMap<>();
+        boolean up = true;
+        for (String check : healthProbeService.getCheckNames()) {
+            Status status = healthProbeService.getHealth(check).getStatus();
+            checks.put(check, status.getCode());
+            up &= Status.UP.equals(status);
+        }
+
         Map<String, Object> response = new HashMap<>();
-        response.put(MessageConstants.STATUS, MessageConstants.STATUS_UP);
+        response.put(MessageConstants.STATUS, up ? MessageConstants.STATUS_UP : MessageConstants.STATUS_DOWN);
         response.put(MessageConstants.SERVICE, SERVICE_NAME_FORGE_SERVER);
+        response.put(MessageConstants.CHECKS, checks);
         response.put(MessageConstants.TIMESTAMP, LocalDateTime.now());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 }
-
@@ -0,0 +1,42 @@
+package com.forge.server.api.controllers;
+
+import com.forge.common.constants.ApiConstants;
+import com.forge.server.security.config.JwtConfig;
+import com.forge.server.security.provider.JwtKeyManager;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWKS Controller
+ * <p>
+ * Publishes the public keys tokens are signed with, so workers and other services can verify
+ * tokens locally instead of calling back into the server. Verifiers may cache the set for the
+ * key refresh interval; new keys are published well before they sign anything.
+ *
+ * @author Forge Team
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyManager jwtKeyManager;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyManager jwtKeyManager, JwtConfig jwtConfig) {
+        this.jwtKeyManager = jwtKeyManager;
+        this.cacheControl = CacheControl.maxAge(jwtConfig.getKeyRefreshInterval()).cachePublic();
+    }
+
+    /**
+     * Gets the JWK set of current token signing keys
+     *
+     * @return JWK set, empty when tokens are signed with the shared HMAC secret
+     */
+    @GetMapping(value = ApiConstants.JWKS_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(jwtKeyManager.getJwks());
+    }
+}
@@ -3,6 +3,8 @@ package com.forge.server.api.controllers;
 import com.forge.common.constants.ApiConstants;
 import com.forge.server.common.plugin.exception.PluginException;
 import com.forge.server.core.service.PluginService;
+import com.forge.server.security.authorization.Permission;
+import com.forge.server.security.authorization.RequiresPermission;
 import com.forge.shared.model.request.PluginInstallRequest;
 import com.forge.shared.model.request.PluginStartRequest;
 import com.forge.shared.model.response.PluginInstallResponse;
@@ -11,9 +13,9 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,15 +25,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping(ApiConstants.API_PLUGINS_PATH)
+@RequiresPermission(Permission.PLUGIN_MANAGE)
 public class PluginController {
 
-    private static final Logger logger = Logger.getLogger(PluginController.class.getName());
-    private static final String RECEIVED_PLUGIN_INSTALLATION_REQUEST = "Received plugin installation request: ";
-    private static final String PLUGIN_INSTALLATION_SUCCESSFUL = "Plugin installation successful: ";
-    private static final String PLUGIN_INSTALLATION_FAILED = "Plugin installation failed: ";
-    private static final String RECEIVED_PLUGIN_START_REQUEST = "Received plugin start request: ";
-    private static final String PLUGIN_START_SUCCESSFUL = "Plugin start successful: ";
-    private static final String PLUGIN_START_FAILED = "Plugin start failed: ";
+    private static final Logger logger = LoggerFactory.getLogger(PluginController.class);
+    private static final String LOG_PLUGIN_INSTALLATION_FAILED = "Plugin installation failed: {}";
+    private static final String LOG_PLUGIN_START_FAILED = "Plugin start failed: {}";
     private static final String FAILED_TO_SAVE_PLUGIN_CONFIGURATION = "Failed to save plugin configuration: ";
 
     private final PluginService pluginService;
@@ -42,13 +41,11 @@ public class PluginController {
 
     @PostMapping(ApiConstants.ENDPOINT_PLUGIN_INSTALL)
     public ResponseEntity<PluginInstallResponse> installPlugin(@Valid @RequestBody PluginInstallRequest request) {
-        logger.info(RECEIVED_PLUGIN_INSTALLATION_REQUEST + request.getPluginName());
         try {
             PluginInstallResponse response = pluginService.installPlugin(request.getPluginName());
-            logger.info(PLUGIN_INSTALLATION_SUCCESSFUL + request.getPluginName());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (PluginException e) {
-            logger.log(Level.SEVERE, PLUGIN_INSTALLATION_FAILED + e.getMessage(), e);
+            logger.error(LOG_PLUGIN_INSTALLATION_FAILED, request.getPluginName(), e);
             throw e;
         }
     }
@@ -56,16 +53,14 @@ public class PluginController {
     @PostMapping(ApiConstants.ENDPOINT_PLUGIN_START + "/{pluginName}")
     public ResponseEntity<PluginInstallResponse> startPlugin(@PathVariable String pluginName,
             @Valid @RequestBody PluginStartRequest request) {
-        logger.info(RECEIVED_PLUGIN_START_REQUEST + pluginName);
         try {
             PluginInstallResponse response = pluginService.startPlugin(pluginName, request.getConfig());
-            logger.info(PLUGIN_START_SUCCESSFUL + pluginName);
             return ResponseEntity.ok(response);
         } catch (PluginException e) {
-            logger.log(Level.SEVERE, PLUGIN_START_FAILED + e.getMessage(), e);
+            logger.error(LOG_PLUGIN_START_FAILED, pluginName, e);
             throw e;
         } catch (IOException e) {
-            logger.log(Level.SEVERE, PLUGIN_START_FAILED + e.getMessage(), e);
+            logger.error(LOG_PLUGIN_START_FAILED, pluginName, e);
             throw new PluginException(FAILED_TO_SAVE_PLUGIN_CONFIGURATION + e.getMessage(), e);
         }
     }
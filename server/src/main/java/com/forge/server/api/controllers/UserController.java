@@ -0,0 +1,51 @@
+package com.forge.server.api.controllers;
+
+import com.forge.common.constants.ApiConstants;
+import com.forge.common.constants.SecurityConstants;
+import com.forge.server.core.repository.projection.UserSummary;
+import com.forge.server.core.service.listing.UserListingService;
+import com.forge.shared.model.response.CursorPage;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * User Controller
+ * <p>
+ * REST controller for user directory endpoints available to any authenticated user.
+ *
+ * @author Forge Team
+ */
+@RestController
+@RequestMapping(ApiConstants.API_USERS_PATH)
+public class UserController {
+
+    private final UserListingService userListingService;
+
+    public UserController(UserListingService userListingService) {
+        this.userListingService = userListingService;
+    }
+
+    /**
+     * Lists users in registration order
+     * <p>
+     * Pass the nextCursor of a page as the cursor parameter to fetch the following page. The
+     * total is exact for small user counts and an estimate otherwise.
+     *
+     * @param cursor cursor from the previous page; omit for the first page
+     * @param limit  page size
+     * @return one page of users, with the total in the X-Total-Count header
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<UserSummary>> listUsers(
+            @RequestParam(name = ApiConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(name = ApiConstants.PARAM_LIMIT, required = false) Integer limit) {
+        CursorPage<UserSummary> page = userListingService.listUsers(cursor, limit);
+        return ResponseEntity.ok()
+                .header(SecurityConstants.HEADER_TOTAL_COUNT, String.valueOf(page.getTotalCount()))
+                .body(page);
+    }
+}
@@ -0,0 +1,18 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a content-addressed build cache upload does not
+ * hash to the key it is stored under.
+ *
+ * @author Forge Team
+ */
+public class BuildCacheDigestMismatchException extends RuntimeException {
+
+    public BuildCacheDigestMismatchException(String message) {
+        super(message);
+    }
+
+    public BuildCacheDigestMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a build cache upload exceeds the configured
+ * maximum entry size.
+ *
+ * @author Forge Team
+ */
+public class BuildCacheEntryTooLargeException extends RuntimeException {
+
+    public BuildCacheEntryTooLargeException(String message) {
+        super(message);
+    }
+
+    public BuildCacheEntryTooLargeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
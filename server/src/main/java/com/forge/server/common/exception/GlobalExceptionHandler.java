@@ -3,8 +3,10 @@ package com.forge.server.common.exception;
 import com.forge.common.constants.MessageConstants;
 import com.forge.server.common.plugin.exception.PluginException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -83,6 +85,82 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handle build cache uploads that exceed the entry size limit
+     */
+    @ExceptionHandler(BuildCacheEntryTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handleBuildCacheEntryTooLargeException(
+            BuildCacheEntryTooLargeException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(MessageConstants.STATUS, MessageConstants.STATUS_ERROR);
+        response.put(MessageConstants.MESSAGE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+
+    /**
+     * Handle content-addressed cache uploads whose content does not match their key
+     */
+    @ExceptionHandler(BuildCacheDigestMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleBuildCacheDigestMismatchException(
+            BuildCacheDigestMismatchException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(MessageConstants.STATUS, MessageConstants.STATUS_ERROR);
+        response.put(MessageConstants.MESSAGE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handle pagination cursors that cannot be decoded
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursorException(InvalidCursorException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(MessageConstants.STATUS, MessageConstants.STATUS_ERROR);
+        response.put(MessageConstants.MESSAGE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handle credentials that are not valid access tokens
+     */
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidTokenException(InvalidTokenException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(MessageConstants.STATUS, MessageConstants.STATUS_ERROR);
+        response.put(MessageConstants.MESSAGE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handle throttled login attempts
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyLoginAttemptsException(
+            TooManyLoginAttemptsException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(MessageConstants.STATUS, MessageConstants.STATUS_ERROR);
+        response.put(MessageConstants.MESSAGE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds())).body(response);
+    }
+
+    /**
+     * Handle method-level authorization failures
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleAccessDeniedException(AccessDeniedException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(MessageConstants.STATUS, MessageConstants.STATUS_ERROR);
+        response.put(MessageConstants.MESSAGE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
     /**
      * Handle generic runtime exceptions
      */
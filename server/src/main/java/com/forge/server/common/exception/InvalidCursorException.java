@@ -0,0 +1,17 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a pagination cursor supplied by a client cannot be decoded.
+ *
+ * @author Forge Team
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a request carries a credential that is not a valid access token where
+ * one is required, such as an API key presented at logout.
+ *
+ * @author Forge Team
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a worker finishes a job it no longer holds the lease on, either because
+ * the lease expired and the job was claimed again or because the job was never claimed by it.
+ *
+ * @author Forge Team
+ */
+public class JobLeaseLostException extends RuntimeException {
+
+    public JobLeaseLostException(String message) {
+        super(message);
+    }
+
+    public JobLeaseLostException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
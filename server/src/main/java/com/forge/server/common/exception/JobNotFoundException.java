@@ -0,0 +1,17 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a job referenced by id does not exist in the job queue.
+ *
+ * @author Forge Team
+ */
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+
+    public JobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when a pipeline definition is not a valid DAG
+ * (duplicate step ids, unknown dependencies or cycles).
+ *
+ * @author Forge Team
+ */
+public class PipelineDefinitionException extends RuntimeException {
+
+    public PipelineDefinitionException(String message) {
+        super(message);
+    }
+
+    public PipelineDefinitionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,28 @@
+package com.forge.server.common.exception;
+
+/**
+ * Exception thrown when login attempts from a client or against an account exceed their rate limit.
+ * <p>
+ * Thrown on every throttled attempt, possibly thousands per second during credential stuffing, so
+ * no stack trace is captured.
+ *
+ * @author Forge Team
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Gets the number of seconds after which the next attempt will be allowed
+     *
+     * @return seconds to wait
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
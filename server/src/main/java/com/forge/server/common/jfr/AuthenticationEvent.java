@@ -0,0 +1,63 @@
+package com.forge.server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Authentication JFR Event
+ * <p>
+ * Time the JWT authentication filter spent resolving the caller of one request, including
+ * token verification, the revocation check and the user lookup. API keys are verified against
+ * a prefix cache, and whether the key was served from it is recorded, since a miss costs a
+ * database lookup. Only requests over the threshold are recorded, which keeps the event cheap
+ * enough for every request.
+ *
+ * @author Forge Team
+ */
+@Name("forge.Authentication")
+@Label("Request Authentication")
+@Category({ "Forge", "Security" })
+@Description("Bearer credential verification in the JWT authentication filter")
+@Threshold("1 ms")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    /** Credential Type Enumeration */
+    public enum CredentialType {
+        NONE, JWT, API_KEY
+    }
+
+    @Label("URI")
+    private String uri;
+
+    @Label("Credential Type")
+    private String credentialType;
+
+    @Label("Authenticated")
+    private boolean authenticated;
+
+    @Label("Cache Hit")
+    @Description("API key served from the prefix cache without a database lookup")
+    private boolean cacheHit;
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public void setCredentialType(CredentialType credentialType) {
+        this.credentialType = credentialType.name();
+    }
+
+    public void setAuthenticated(boolean authenticated) {
+        this.authenticated = authenticated;
+    }
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+}
@@ -0,0 +1,69 @@
+package com.forge.server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Password Hash JFR Event
+ * <p>
+ * One password hash or verification. These are deliberately slow, so every one is recorded;
+ * the cost factor shows whether a slow login came from a stronger hash or from CPU contention.
+ *
+ * @author Forge Team
+ */
+@Name("forge.PasswordHash")
+@Label("Password Hash")
+@Category({ "Forge", "Security" })
+@Description("Password hashing or verification by the configured encoder strategy")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    /** Operation Enumeration */
+    public enum Operation {
+        ENCODE, MATCHES
+    }
+
+    private static final int UNKNOWN_COST = -1;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Algorithm")
+    private String algorithm;
+
+    @Label("Cost")
+    @Description("Log2 work factor read from the hash, or -1 if the hash does not record one")
+    private int cost = UNKNOWN_COST;
+
+    @Label("Matched")
+    private boolean matched;
+
+    public void setOperation(Operation operation) {
+        this.operation = operation.name();
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public void setMatched(boolean matched) {
+        this.matched = matched;
+    }
+
+    /**
+     * Sets the cost from a modular crypt hash such as {@code $2a$10$...}
+     *
+     * @param encodedPassword hash produced or checked by the operation
+     */
+    public void setCostFromHash(String encodedPassword) {
+        if (encodedPassword != null && encodedPassword.length() > 6 && encodedPassword.charAt(0) == '$'
+                && encodedPassword.charAt(3) == '$' && encodedPassword.charAt(6) == '$'
+                && Character.isDigit(encodedPassword.charAt(4)) && Character.isDigit(encodedPassword.charAt(5))) {
+            cost = (encodedPassword.charAt(4) - '0') * 10 + (encodedPassword.charAt(5) - '0');
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.forge.server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Plugin Configuration I/O JFR Event
+ * <p>
+ * One read or write of a plugin's configuration file. JDK file events only cover reads and
+ * writes above their own threshold; this one also covers the existence checks and directory
+ * creation around them, attributed to the plugin.
+ *
+ * @author Forge Team
+ */
+@Name("forge.PluginConfigurationIo")
+@Label("Plugin Configuration I/O")
+@Category({ "Forge", "Plugins" })
+@Description("Plugin configuration file load or save")
+public class PluginConfigurationIoEvent extends Event {
+
+    /** Operation Enumeration */
+    public enum Operation {
+        LOAD, SAVE
+    }
+
+    @Label("Plugin Name")
+    private String pluginName;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("File Found")
+    private boolean fileFound;
+
+    @Label("Entries")
+    private int entries;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    public void setPluginName(String pluginName) {
+        this.pluginName = pluginName;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation.name();
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setFileFound(boolean fileFound) {
+        this.fileFound = fileFound;
+    }
+
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
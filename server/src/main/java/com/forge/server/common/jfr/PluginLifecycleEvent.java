@@ -0,0 +1,55 @@
+package com.forge.server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Plugin Lifecycle JFR Event
+ * <p>
+ * One plugin installation or start, including class loading, instantiation and the plugin's
+ * own init or start code.
+ *
+ * @author Forge Team
+ */
+@Name("forge.PluginLifecycle")
+@Label("Plugin Lifecycle")
+@Category({ "Forge", "Plugins" })
+@Description("Plugin installation or start by the plugin manager")
+public class PluginLifecycleEvent extends Event {
+
+    /** Operation Enumeration */
+    public enum Operation {
+        INSTALL, START
+    }
+
+    @Label("Plugin Name")
+    private String pluginName;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Plugin Version")
+    private String pluginVersion;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setPluginName(String pluginName) {
+        this.pluginName = pluginName;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation.name();
+    }
+
+    public void setPluginVersion(String pluginVersion) {
+        this.pluginVersion = pluginVersion;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
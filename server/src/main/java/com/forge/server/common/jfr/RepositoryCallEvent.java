@@ -0,0 +1,48 @@
+package com.forge.server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Repository Call JFR Event
+ * <p>
+ * One call to a Spring Data repository, such as {@code UserRepository.findByEmail}, including
+ * query execution, connection checkout and entity mapping. Calls under the threshold are not
+ * recorded.
+ *
+ * @author Forge Team
+ */
+@Name("forge.RepositoryCall")
+@Label("Repository Call")
+@Category({ "Forge", "Persistence" })
+@Description("Spring Data repository method invocation")
+@Threshold("1 ms")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    private String repository;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setRepository(String repository) {
+        this.repository = repository;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
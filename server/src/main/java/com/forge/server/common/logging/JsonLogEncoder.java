@@ -0,0 +1,124 @@
+package com.forge.server.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import org.slf4j.event.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Log Encoder
+ * <p>
+ * Logback encoder that writes each event as one JSON object per line: timestamp, level,
+ * thread, logger and formatted message, then the event's key-value pairs and MDC entries as
+ * top-level fields, then the stack trace if there is one. Numbers and booleans among the
+ * key-value pairs stay unquoted so log pipelines can filter on them.
+ * <p>
+ * Used behind an async appender, so encoding happens on the appender's worker thread rather
+ * than the thread that logged.
+ *
+ * @author Forge Team
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final String FIELD_TIMESTAMP = "timestamp";
+    private static final String FIELD_LEVEL = "level";
+    private static final String FIELD_THREAD = "thread";
+    private static final String FIELD_LOGGER = "logger";
+    private static final String FIELD_MESSAGE = "message";
+    private static final String FIELD_EXCEPTION = "exception";
+    private static final int INITIAL_CAPACITY = 256;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(INITIAL_CAPACITY);
+        json.append('{');
+        appendField(json, FIELD_TIMESTAMP, Instant.ofEpochMilli(event.getTimeStamp()).toString(), true);
+        appendField(json, FIELD_LEVEL, event.getLevel().toString(), false);
+        appendField(json, FIELD_THREAD, event.getThreadName(), false);
+        appendField(json, FIELD_LOGGER, event.getLoggerName(), false);
+        appendField(json, FIELD_MESSAGE, event.getFormattedMessage(), false);
+
+        List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+        if (keyValuePairs != null) {
+            for (KeyValuePair pair : keyValuePairs) {
+                appendValue(json, pair.key, pair.value);
+            }
+        }
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            mdc.forEach((key, value) -> appendField(json, key, value, false));
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            appendField(json, FIELD_EXCEPTION, ThrowableProxyUtil.asString(throwable), false);
+        }
+        json.append('}').append('\n');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    private static void appendValue(StringBuilder json, String key, Object value) {
+        boolean nonFinite = value instanceof Double d && !Double.isFinite(d)
+                || value instanceof Float f && !Float.isFinite(f);
+        if ((value instanceof Number && !nonFinite) || value instanceof Boolean) {
+            json.append(',');
+            appendString(json, key);
+            json.append(':').append(value);
+        } else {
+            appendField(json, key, value != null ? value.toString() : null, false);
+        }
+    }
+
+    private static void appendField(StringBuilder json, String key, String value, boolean first) {
+        if (!first) {
+            json.append(',');
+        }
+        appendString(json, key);
+        json.append(':');
+        if (value == null) {
+            json.append("null");
+        } else {
+            appendString(json, value);
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,165 @@
+package com.forge.server.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive Concurrency Limit
+ * <p>
+ * A limit on concurrent requests that follows the latency the server actually delivers, in the
+ * style of the gradient algorithm from Netflix's concurrency-limits. Latencies are collected in
+ * windows; each window's average (the short RTT) is compared with a slow moving average of past
+ * windows (the long RTT). While the two agree the limit grows additively by about its square
+ * root, probing for headroom; once requests queue and the short RTT rises, the ratio falls below
+ * one and shrinks the limit multiplicatively. The limit only grows while it is actually in use,
+ * so an idle server does not drift to the maximum.
+ * <p>
+ * Admission is a CAS on the in-flight count. Priority requests may use a fixed number of slots
+ * beyond the limit, so they are still admitted when ordinary traffic is being shed.
+ *
+ * @author Forge Team
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final String ERROR_INVALID_LIMITS = "Limits must satisfy 0 < min <= initial <= max";
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_SMOOTHING = 0.05;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int priorityHeadroom;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int windowSize;
+    private final long windowNanos;
+
+    private volatile int limit;
+
+    // Window state, guarded by this
+    private double estimatedLimit;
+    private double longRtt;
+    private long windowStart;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInflight;
+
+    /**
+     * Creates a limit
+     *
+     * @param initialLimit     limit before any latency has been observed
+     * @param minLimit         lowest the limit can fall
+     * @param maxLimit         highest the limit can grow
+     * @param priorityHeadroom slots beyond the limit reserved for priority requests
+     * @param rttTolerance     factor by which the short RTT may exceed the long RTT before the
+     *                         limit shrinks
+     * @param smoothing        share of each new estimate applied to the limit, in (0, 1]
+     * @param windowSize       samples after which a window closes
+     * @param windowDuration   time after which a window with enough samples closes
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int priorityHeadroom,
+            double rttTolerance, double smoothing, int windowSize, Duration windowDuration) {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(ERROR_INVALID_LIMITS);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.priorityHeadroom = priorityHeadroom;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+        this.windowNanos = windowDuration.toNanos();
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Admits a request if it fits under the limit
+     *
+     * @param priority whether the request may use the priority headroom
+     * @return true if admitted, in which case {@link #release} must follow
+     */
+    public boolean tryAcquire(boolean priority) {
+        int allowed = priority ? limit + priorityHeadroom : limit;
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and, if measured, feeds its latency to the limit
+     *
+     * @param rttNanos request latency, or a negative value for a request that should not be
+     *                 measured, such as a long-lived stream
+     */
+    public void release(long rttNanos) {
+        int before = inflight.getAndDecrement();
+        if (rttNanos >= 0) {
+            sample(rttNanos, before, System.nanoTime());
+        }
+    }
+
+    synchronized void sample(long rttNanos, int inflightAtRelease, long now) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtRelease);
+        if (windowCount < windowSize && (windowCount < MIN_WINDOW_SAMPLES || now - windowStart < windowNanos)) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInflight = windowMaxInflight;
+        windowStart = now;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+        update(shortRtt, maxInflight);
+    }
+
+    private void update(double shortRtt, int maxInflight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) * LONG_RTT_SMOOTHING;
+        }
+        // After a sustained latency increase the long RTT would follow it up and accept the
+        // queueing as normal; decaying it towards the short RTT keeps recovery possible
+        if (longRtt > shortRtt * 2) {
+            longRtt = shortRtt * 2;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        if (gradient >= 1.0 && maxInflight < estimatedLimit / 2) {
+            // Application limited: the limit was not the bottleneck, so latency says nothing about it
+            return;
+        }
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + target * smoothing));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Gets the current limit for ordinary requests
+     *
+     * @return concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the number of admitted requests that have not been released
+     *
+     * @return in-flight request count
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+}
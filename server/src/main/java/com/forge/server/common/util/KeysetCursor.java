@@ -0,0 +1,63 @@
+package com.forge.server.common.util;
+
+import com.forge.server.common.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset Cursor
+ * <p>
+ * Encodes the sort key of the last row on a page as an opaque, URL-safe cursor. Clients pass the
+ * cursor back to fetch the rows after it, so pages are found by an index seek rather than by
+ * skipping an offset. A leading version byte lets the encoding change without breaking cursors
+ * already handed out.
+ *
+ * @author Forge Team
+ */
+public final class KeysetCursor {
+
+    private static final byte VERSION = 1;
+    private static final int ENCODED_LENGTH = 1 + 16;
+    private static final String ERROR_INVALID_CURSOR = "Invalid pagination cursor";
+
+    private KeysetCursor() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Encodes the id of the last row on a page
+     *
+     * @param lastId id of the last row returned
+     * @return opaque cursor
+     */
+    public static String encode(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH);
+        buffer.put(VERSION);
+        buffer.putLong(lastId.getMostSignificantBits());
+        buffer.putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode}
+     *
+     * @param cursor opaque cursor
+     * @return id of the last row of the previous page
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static UUID decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(ERROR_INVALID_CURSOR, e);
+        }
+        if (bytes.length != ENCODED_LENGTH || bytes[0] != VERSION) {
+            throw new InvalidCursorException(ERROR_INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 16);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
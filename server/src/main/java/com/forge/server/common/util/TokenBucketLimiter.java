@@ -0,0 +1,118 @@
+package com.forge.server.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token Bucket Limiter
+ * <p>
+ * Keyed token buckets, each holding up to a fixed number of tokens and regaining one per refill
+ * period. A bucket is stored as a single timestamp, the time at which it would be full again
+ * (the generic cell rate algorithm), so taking a token is one CAS on an AtomicLong and no lock
+ * is ever held.
+ * <p>
+ * The map is bounded: once it holds the configured number of keys, keys without a bucket share
+ * a single overflow bucket until {@link #evictIdle} removes full buckets, which carry no state
+ * worth keeping. An attacker cycling through keys therefore exhausts the overflow bucket rather
+ * than memory.
+ *
+ * @author Forge Team
+ */
+public class TokenBucketLimiter {
+
+    private static final String ERROR_INVALID_SIZING = "Capacity and max keys must be positive and refill period > 0";
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+    private final long refillNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+
+    /**
+     * Creates a limiter
+     *
+     * @param capacity     tokens in a full bucket, the number of requests allowed in a burst
+     * @param refillPeriod time to regain one token
+     * @param maxKeys      number of keys tracked before new keys share the overflow bucket
+     */
+    public TokenBucketLimiter(int capacity, Duration refillPeriod, int maxKeys) {
+        if (capacity <= 0 || maxKeys <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException(ERROR_INVALID_SIZING);
+        }
+        this.refillNanos = refillPeriod.toNanos();
+        this.burstNanos = refillNanos * (capacity - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes a token from the bucket of a key
+     *
+     * @param key bucket key
+     * @return 0 if a token was taken, otherwise nanoseconds until one is available
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long fullAt = bucket.get();
+            long start = fullAt - now > 0 ? fullAt : now;
+            long wait = start - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, start + refillNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Refills the bucket of a key
+     *
+     * @param key bucket key
+     */
+    public void reset(String key) {
+        buckets.remove(key);
+    }
+
+    /**
+     * Removes full buckets, which behave exactly like a missing one
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(long now) {
+        int before = buckets.size();
+        // A token taken concurrently from a bucket being removed is forgotten, which can grant
+        // at most one extra request per key
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        return Math.max(0, before - buckets.size());
+    }
+
+    /**
+     * Gets the number of keys with a bucket
+     *
+     * @return tracked key count
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
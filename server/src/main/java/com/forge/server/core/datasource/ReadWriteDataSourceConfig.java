@@ -0,0 +1,62 @@
+package com.forge.server.core.datasource;
+
+import com.forge.server.core.service.timer.TimerService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * Read/Write DataSource Configuration
+ * <p>
+ * Replaces the auto-configured single pool with a {@link ReadWriteRoutingDataSource} when
+ * forge.datasource.replica.url is non-empty. The primary pool keeps its spring.datasource settings;
+ * both pools publish Hikari metrics tagged with their pool name.
+ *
+ * @author Forge Team
+ */
+@Configuration
+@ConditionalOnExpression("!'${forge.datasource.replica.url:}'.isEmpty()")
+public class ReadWriteDataSourceConfig {
+
+    private static final String PRIMARY_HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String POOL_PRIMARY = "forge-primary";
+    private static final String POOL_REPLICA = "forge-replica";
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties primaryProperties,
+            ReplicaDataSourceConfig replicaConfig, Environment environment, TimerService timerService,
+            MeterRegistry meterRegistry) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(POOL_PRIMARY);
+        Binder.get(environment).bind(PRIMARY_HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName(POOL_REPLICA);
+        replica.setJdbcUrl(replicaConfig.getUrl());
+        replica.setUsername(replicaConfig.getUsername());
+        replica.setPassword(replicaConfig.getPassword());
+        if (StringUtils.hasText(replicaConfig.getDriverClassName())) {
+            replica.setDriverClassName(replicaConfig.getDriverClassName());
+        }
+        replica.setMaximumPoolSize(replicaConfig.getMaximumPoolSize());
+        replica.setMinimumIdle(replicaConfig.getMinimumIdle());
+        replica.setConnectionTimeout(replicaConfig.getConnectionTimeout().toMillis());
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, replicaConfig, timerService, meterRegistry);
+        lagMonitor.start();
+        return new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+}
@@ -0,0 +1,121 @@
+package com.forge.server.core.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Read/Write Routing DataSource
+ * <p>
+ * Sends connections for read-only transactions to the replica pool and everything else to the
+ * primary pool. Reads fall back to the primary while {@link ReplicaLagMonitor} reports the
+ * replica as lagging or unreachable, and when a replica connection cannot be obtained.
+ * <p>
+ * Transaction managers open their connection before the transaction's read-only flag is
+ * published, so the physical connection is fetched lazily on the first statement, by which time
+ * the flag can be read. Connection checkouts are counted per pool and access type.
+ *
+ * @author Forge Team
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String METRIC_ROUTED = "forge.datasource.routed";
+    private static final String TAG_POOL = "pool";
+    private static final String TAG_ACCESS = "access";
+    private static final String POOL_PRIMARY = "primary";
+    private static final String POOL_REPLICA = "replica";
+    private static final String ACCESS_READ = "read";
+    private static final String ACCESS_WRITE = "write";
+    private static final String ERROR_EXPLICIT_CREDENTIALS = "Routed connections use the pool credentials";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSource(new Router(primary, replica, lagMonitor,
+                routedCounter(meterRegistry, POOL_PRIMARY, ACCESS_WRITE),
+                routedCounter(meterRegistry, POOL_PRIMARY, ACCESS_READ),
+                routedCounter(meterRegistry, POOL_REPLICA, ACCESS_READ)));
+        afterPropertiesSet();
+    }
+
+    /**
+     * Stops lag monitoring and closes both pools
+     */
+    @Override
+    public void close() throws IOException {
+        lagMonitor.stop();
+        if (replica instanceof Closeable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String pool, String access) {
+        return Counter.builder(METRIC_ROUTED).tag(TAG_POOL, pool).tag(TAG_ACCESS, access).register(meterRegistry);
+    }
+
+    /**
+     * Picks the pool for each physical connection
+     */
+    private static class Router extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final DataSource replica;
+        private final ReplicaLagMonitor lagMonitor;
+        private final Counter primaryWrites;
+        private final Counter primaryReads;
+        private final Counter replicaReads;
+
+        Router(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, Counter primaryWrites,
+                Counter primaryReads, Counter replicaReads) {
+            this.primary = primary;
+            this.replica = replica;
+            this.lagMonitor = lagMonitor;
+            this.primaryWrites = primaryWrites;
+            this.primaryReads = primaryReads;
+            this.replicaReads = replicaReads;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                primaryWrites.increment();
+                return primary.getConnection();
+            }
+            if (lagMonitor.isReplicaUsable()) {
+                try {
+                    Connection connection = replica.getConnection();
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    lagMonitor.markUnreachable(e);
+                }
+            }
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException(ERROR_EXPLICIT_CREDENTIALS);
+        }
+    }
+}
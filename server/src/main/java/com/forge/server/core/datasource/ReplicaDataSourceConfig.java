@@ -0,0 +1,228 @@
+package com.forge.server.core.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Replica DataSource Configuration Properties
+ * <p>
+ * Loads the read replica connection pool and lag policy from application properties.
+ * Configure via: forge.datasource.replica.url, forge.datasource.replica.max-lag, etc.
+ * Read/write routing is only enabled when a replica url is set.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "forge.datasource.replica")
+public class ReplicaDataSourceConfig {
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+    private int minimumIdle = 2;
+    private Duration connectionTimeout = Duration.ofSeconds(5);
+    private Duration maxLag = Duration.ofSeconds(10);
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private String lagColumn = "Seconds_Behind_Source";
+
+    /**
+     * Gets the replica JDBC url
+     *
+     * @return JDBC url, or null when no replica is configured
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Sets the replica JDBC url
+     *
+     * @param url JDBC url
+     */
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    /**
+     * Gets the replica login user
+     *
+     * @return username
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the replica login user
+     *
+     * @param username username
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the replica login password
+     *
+     * @return password
+     */
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Sets the replica login password
+     *
+     * @param password password
+     */
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    /**
+     * Gets the JDBC driver class, detected from the url when unset
+     *
+     * @return driver class name
+     */
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    /**
+     * Sets the JDBC driver class
+     *
+     * @param driverClassName driver class name
+     */
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+
+    /**
+     * Gets the maximum number of replica connections
+     *
+     * @return maximum pool size
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of replica connections
+     *
+     * @param maximumPoolSize maximum pool size
+     */
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Gets the number of idle replica connections kept open
+     *
+     * @return minimum idle connections
+     */
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    /**
+     * Sets the number of idle replica connections kept open
+     *
+     * @param minimumIdle minimum idle connections
+     */
+    public void setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    /**
+     * Gets how long a read waits for a replica connection before falling back to the primary
+     *
+     * @return connection timeout
+     */
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Sets how long a read waits for a replica connection before falling back to the primary
+     *
+     * @param connectionTimeout connection timeout
+     */
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    /**
+     * Gets the replication lag beyond which reads are sent to the primary
+     *
+     * @return maximum tolerated lag
+     */
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    /**
+     * Sets the replication lag beyond which reads are sent to the primary
+     *
+     * @param maxLag maximum tolerated lag
+     */
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Gets how often replication lag is measured
+     *
+     * @return lag check interval
+     */
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    /**
+     * Sets how often replication lag is measured
+     *
+     * @param lagCheckInterval lag check interval
+     */
+    public void setLagCheckInterval(Duration lagCheckInterval) {
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    /**
+     * Gets the query run on the replica to measure lag
+     *
+     * @return lag query
+     */
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    /**
+     * Sets the query run on the replica to measure lag
+     *
+     * @param lagQuery lag query
+     */
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * Gets the lag query column holding the lag in seconds
+     *
+     * @return lag column label
+     */
+    public String getLagColumn() {
+        return lagColumn;
+    }
+
+    /**
+     * Sets the lag query column holding the lag in seconds
+     *
+     * @param lagColumn lag column label
+     */
+    public void setLagColumn(String lagColumn) {
+        this.lagColumn = lagColumn;
+    }
+}
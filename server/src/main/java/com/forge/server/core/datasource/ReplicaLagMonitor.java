@@ -0,0 +1,143 @@
+package com.forge.server.core.datasource;
+
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Replica Lag Monitor
+ * <p>
+ * Periodically measures how far the read replica is behind the primary and decides whether
+ * read-only transactions may use it. The replica is taken out of rotation while its lag exceeds
+ * the configured maximum, while replication is stopped, or after a connection attempt fails, and
+ * put back by the next successful check. Until the first check completes reads stay on the
+ * primary.
+ *
+ * @author Forge Team
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String METRIC_LAG = "forge.datasource.replica.lag";
+    private static final String METRIC_USABLE = "forge.datasource.replica.usable";
+    private static final String LOG_REPLICA_ENABLED = "Routing read-only transactions to replica (lag {} s)";
+    private static final String LOG_REPLICA_LAGGING = "Replica lag {} s exceeds {} s, routing reads to primary";
+    private static final String LOG_REPLICATION_STOPPED = "Replica reports no lag value, replication may be stopped; routing reads to primary";
+    private static final String LOG_REPLICA_UNREACHABLE = "Replica unreachable, routing reads to primary: {}";
+
+    private final DataSource replica;
+    private final TimerService timerService;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final Duration checkInterval;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+    private TimerHandle timer;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaDataSourceConfig config, TimerService timerService,
+            MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.timerService = timerService;
+        this.lagQuery = config.getLagQuery();
+        this.lagColumn = config.getLagColumn();
+        this.maxLagSeconds = config.getMaxLag().toSeconds();
+        this.checkInterval = config.getLagCheckInterval();
+        Gauge.builder(METRIC_LAG, this, monitor -> monitor.lagSeconds).baseUnit("seconds").register(meterRegistry);
+        Gauge.builder(METRIC_USABLE, this, monitor -> monitor.usable ? 1 : 0).register(meterRegistry);
+    }
+
+    /**
+     * Starts periodic lag checks, the first one immediately
+     */
+    public void start() {
+        timer = timerService.scheduleWithFixedDelay(this::checkLag, Duration.ZERO, checkInterval);
+    }
+
+    /**
+     * Stops periodic lag checks
+     */
+    public void stop() {
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    /**
+     * Checks whether read-only transactions may currently use the replica
+     *
+     * @return true if the replica is reachable and within the lag limit
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * Gets the most recently measured replication lag
+     *
+     * @return lag in seconds, or NaN if unknown
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful lag check
+     *
+     * @param cause connection failure
+     */
+    public void markUnreachable(SQLException cause) {
+        if (usable) {
+            logger.warn(LOG_REPLICA_UNREACHABLE, cause.getMessage());
+        }
+        usable = false;
+        lagSeconds = Double.NaN;
+    }
+
+    /**
+     * Measures replication lag and updates whether the replica is usable
+     */
+    void checkLag() {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // An empty result means the server is not replicating, so it cannot be behind
+            long lag = 0;
+            if (resultSet.next()) {
+                lag = resultSet.getLong(lagColumn);
+                if (resultSet.wasNull()) {
+                    if (usable) {
+                        logger.warn(LOG_REPLICATION_STOPPED);
+                    }
+                    usable = false;
+                    lagSeconds = Double.NaN;
+                    return;
+                }
+            }
+            lagSeconds = lag;
+            boolean withinLimit = lag <= maxLagSeconds;
+            if (withinLimit && !usable) {
+                logger.info(LOG_REPLICA_ENABLED, lag);
+            } else if (!withinLimit && usable) {
+                logger.warn(LOG_REPLICA_LAGGING, lag, maxLagSeconds);
+            }
+            usable = withinLimit;
+        } catch (SQLException e) {
+            markUnreachable(e);
+        }
+    }
+}
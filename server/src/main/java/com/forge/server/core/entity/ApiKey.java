@@ -0,0 +1,133 @@
+package com.forge.server.core.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * API Key Entity
+ * <p>
+ * Long-lived credential for machine clients. The key is random, so it is stored as a SHA-256
+ * hash rather than with a slow password hash; the public prefix embedded in it is indexed so a
+ * presented key is found with a single lookup.
+ * This entity is mapped to the 'api_keys' table in the database.
+ *
+ * @author Forge Team
+ */
+@Entity
+@Table(name = "api_keys", indexes = {
+        @Index(name = "idx_api_keys_prefix", columnList = "prefix", unique = true),
+        @Index(name = "idx_api_keys_user", columnList = "user_id") }
+)
+public class ApiKey extends AssignedIdEntity {
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, updatable = false, length = 16)
+    private UUID userId;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "prefix", nullable = false, updatable = false, length = 12)
+    private String prefix;
+
+    @Column(name = "key_hash", nullable = false, updatable = false, length = 32)
+    private byte[] keyHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 10)
+    private Scope scope;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public ApiKey() {
+    }
+
+    // Constructor for issuing a key
+    public ApiKey(UUID id, UUID userId, String name, String prefix, byte[] keyHash, Scope scope,
+            LocalDateTime createdAt, LocalDateTime expiresAt) {
+        super(id);
+        this.userId = userId;
+        this.name = name;
+        this.prefix = prefix;
+        this.keyHash = keyHash;
+        this.scope = scope;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public byte[] getKeyHash() {
+        return keyHash;
+    }
+
+    public void setKeyHash(byte[] keyHash) {
+        this.keyHash = keyHash;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * API Key Scope Enumeration
+     * <p>
+     * READ keys may only make safe (GET, HEAD, OPTIONS) requests; WRITE keys act with the full
+     * access of their user.
+     */
+    public enum Scope {
+        READ, WRITE
+    }
+}
@@ -0,0 +1,60 @@
+package com.forge.server.core.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Assigned Id Entity
+ * <p>
+ * Base class for entities whose UUID id is assigned by the application before saving, such as
+ * a token's jti or a time-ordered key id. Spring Data treats an entity with a non-null id as
+ * existing and merges it, which costs a select before every insert; these entities report
+ * themselves as new until they have been persisted or loaded, so a save is a plain insert.
+ *
+ * @author Forge Team
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
+    private UUID id;
+
+    @Transient
+    private boolean newEntity = true;
+
+    // Default constructor
+    protected AssignedIdEntity() {
+    }
+
+    // Constructor for an entity with an assigned id
+    protected AssignedIdEntity(UUID id) {
+        this.id = id;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        newEntity = false;
+    }
+
+    // Getters and Setters
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+}
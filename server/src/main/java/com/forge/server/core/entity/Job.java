@@ -0,0 +1,188 @@
+package com.forge.server.core.entity;
+
+import com.forge.server.core.entity.id.TimeOrderedUuid;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Job Entity
+ * <p>
+ * Represents a unit of work waiting in, or claimed from, the persistent job queue.
+ * This entity is mapped to the 'jobs' table in the database.
+ * <p>
+ * Dispatch order is priority class first, then fair sequence, then id. The fair sequence is
+ * assigned per project at enqueue time so that jobs from different projects interleave
+ * instead of one large fan-out occupying the head of the queue.
+ *
+ * @author Forge Team
+ */
+@Entity
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_dispatch", columnList = "status, priority, fair_sequence, id"),
+        @Index(name = "idx_jobs_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_jobs_lease", columnList = "status, lease_expires_at") }
+)
+public class Job {
+
+    @Id
+    @TimeOrderedUuid
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
+    private UUID id;
+
+    @Column(name = "project_id", nullable = false, updatable = false, length = 100)
+    private String projectId;
+
+    @Column(name = "name", nullable = false, length = 255)
+    private String name;
+
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    // Stored by ordinal so that ascending order is dispatch order; only append new classes at the end
+    @Column(name = "priority", nullable = false)
+    @Enumerated(EnumType.ORDINAL)
+    private JobPriority priority;
+
+    @Column(name = "fair_sequence", nullable = false)
+    private long fairSequence;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Default constructor
+    public Job() {
+    }
+
+    // Constructor for enqueuing new jobs
+    public Job(String projectId, String name, String payload, JobPriority priority, long fairSequence) {
+        this.projectId = projectId;
+        this.name = name;
+        this.payload = payload;
+        this.priority = priority;
+        this.fairSequence = fairSequence;
+        this.status = JobStatus.QUEUED;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    public long getFairSequence() {
+        return fairSequence;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Job Priority Enumeration, highest priority first
+     */
+    public enum JobPriority {
+        CRITICAL, HIGH, NORMAL, LOW
+    }
+
+    /**
+     * Job Status Enumeration
+     */
+    public enum JobStatus {
+        QUEUED, CLAIMED, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,79 @@
+package com.forge.server.core.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JWT Signing Key Entity
+ * <p>
+ * Stores an asymmetric key pair used to sign JWTs, shared by every server instance. The id is
+ * published as the key id (kid) in token headers and in the JWKS document. Keys are encoded as
+ * PKCS#8 (private) and X.509 (public); anyone who can read this table can mint tokens.
+ * This entity is mapped to the 'jwt_signing_keys' table in the database.
+ *
+ * @author Forge Team
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+public class JwtSigningKey extends AssignedIdEntity {
+
+    @Column(name = "algorithm", nullable = false, updatable = false, length = 16)
+    private String algorithm;
+
+    @Column(name = "private_key", nullable = false, updatable = false, length = 1024)
+    private byte[] privateKey;
+
+    @Column(name = "public_key", nullable = false, updatable = false, length = 1024)
+    private byte[] publicKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public JwtSigningKey() {
+    }
+
+    // Constructor for a newly generated key pair
+    public JwtSigningKey(UUID id, String algorithm, byte[] privateKey, byte[] publicKey, LocalDateTime createdAt) {
+        super(id);
+        this.algorithm = algorithm;
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public byte[] getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(byte[] privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public byte[] getPublicKey() {
+        return publicKey;
+    }
+
+    public void setPublicKey(byte[] publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
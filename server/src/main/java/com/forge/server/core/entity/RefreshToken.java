@@ -0,0 +1,101 @@
+package com.forge.server.core.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token Entity
+ * <p>
+ * Server-side record of an issued refresh token, keyed by the token's jti claim. The token
+ * itself is a signed JWT and is never stored. Every refresh token belongs to a family started by
+ * one login; each refresh marks the presented token as rotated and issues the next member of
+ * the family. Rows are kept until they expire so that a rotated token presented again can be
+ * recognised as reuse. The family expires at a fixed time set at login, and no token of the
+ * family outlives it, however often the family is refreshed.
+ * This entity is mapped to the 'refresh_tokens' table in the database.
+ *
+ * @author Forge Team
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expiry", columnList = "expires_at") }
+)
+public class RefreshToken extends AssignedIdEntity {
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "family_id", updatable = false, nullable = false, length = 16)
+    private UUID familyId;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", updatable = false, nullable = false, length = 16)
+    private UUID userId;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "family_expires_at", nullable = false, updatable = false)
+    private LocalDateTime familyExpiresAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    // Default constructor
+    public RefreshToken() {
+    }
+
+    // Constructor for recording a newly issued token
+    public RefreshToken(UUID id, UUID familyId, UUID userId, LocalDateTime expiresAt,
+            LocalDateTime familyExpiresAt) {
+        super(id);
+        this.familyId = familyId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.familyExpiresAt = familyExpiresAt;
+    }
+
+    // Getters and Setters
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(UUID familyId) {
+        this.familyId = familyId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getFamilyExpiresAt() {
+        return familyExpiresAt;
+    }
+
+    public void setFamilyExpiresAt(LocalDateTime familyExpiresAt) {
+        this.familyExpiresAt = familyExpiresAt;
+    }
+
+    public LocalDateTime getRotatedAt() {
+        return rotatedAt;
+    }
+
+    public void setRotatedAt(LocalDateTime rotatedAt) {
+        this.rotatedAt = rotatedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package com.forge.server.core.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Revoked Token Entity
+ * <p>
+ * Records the jti of an access token revoked before its expiry. A row is only needed until the
+ * token would have expired anyway, after which it is deleted.
+ * This entity is mapped to the 'revoked_tokens' table in the database.
+ *
+ * @author Forge Team
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expiry", columnList = "expires_at") }
+)
+public class RevokedToken extends AssignedIdEntity {
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public RevokedToken() {
+    }
+
+    // Constructor for recording a revocation
+    public RevokedToken(UUID id, LocalDateTime expiresAt) {
+        super(id);
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
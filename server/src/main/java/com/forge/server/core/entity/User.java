@@ -1,10 +1,13 @@
 package com.forge.server.core.entity;
 
 import com.forge.common.constants.ValidationConstants;
+import com.forge.server.core.entity.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,24 +22,29 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "users", uniqueConstraints = {
-        @UniqueConstraint(columnNames = "username"),
-        @UniqueConstraint(columnNames = "email") }
+        @UniqueConstraint(name = User.UNIQUE_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = User.UNIQUE_EMAIL, columnNames = "email") }
 )
 public class User {
 
+    // Constraint names are matched when translating duplicate-key errors on insert
+    public static final String UNIQUE_USERNAME = "uk_users_username";
+    public static final String UNIQUE_EMAIL = "uk_users_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "id", updatable = false, nullable = false)
+    @TimeOrderedUuid
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
     private UUID id;
 
     @NotBlank(message = ValidationConstants.VALIDATION_USERNAME_REQUIRED)
     @Size(min = 3, max = 50, message = ValidationConstants.VALIDATION_USERNAME_LENGTH_REQUIRED)
-    @Column(name = "username", nullable = false, unique = true, length = 50)
+    @Column(name = "username", nullable = false, length = 50)
     private String username;
 
     @NotBlank(message = ValidationConstants.VALIDATION_EMAIL_REQUIRED)
     @Email(message = ValidationConstants.VALIDATION_EMAIL_INVALID)
-    @Column(name = "email", nullable = false, unique = true, length = 255)
+    @Column(name = "email", nullable = false, length = 255)
     private String email;
 
     @NotBlank(message = ValidationConstants.VALIDATION_PASSWORD_REQUIRED)
@@ -0,0 +1,22 @@
+package com.forge.server.core.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID identifier to be generated as a time-ordered UUIDv7.
+ * <p>
+ * Pair with {@code @JdbcTypeCode(SqlTypes.BINARY)} and a 16-byte column so the key is stored as
+ * {@code BINARY(16)} and sorts in generation order.
+ *
+ * @author Forge Team
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,74 @@
+package com.forge.server.core.entity.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 Generator
+ * <p>
+ * Generates time-ordered UUIDs as defined in RFC 9562: a 48-bit Unix millisecond timestamp,
+ * then a 12-bit counter, then 62 random bits. New keys therefore land at the right-hand edge of
+ * a B-tree index instead of at random pages. The counter keeps ids strictly increasing within one
+ * JVM even when many are generated in the same millisecond or the clock steps backwards.
+ *
+ * @author Forge Team
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_SEED_MASK = 0x7FFL;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    // Unix millis in the high bits, counter in the low 12 bits
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Generates a new UUIDv7
+     *
+     * @return time-ordered UUID
+     */
+    public static UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        long mostSignificant = (timestamp << 16) | VERSION | counter;
+        long leastSignificant = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Extracts the creation timestamp of a UUIDv7
+     *
+     * @param uuid UUIDv7
+     * @return Unix timestamp in milliseconds
+     */
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTimestampAndCounter(long nowMillis) {
+        while (true) {
+            long previous = lastTimestampAndCounter.get();
+            long candidate = nowMillis << COUNTER_BITS;
+            long next;
+            if (candidate > previous) {
+                // New millisecond: start the counter at a random point, leaving headroom below overflow
+                next = candidate | (RANDOM.nextInt() & COUNTER_SEED_MASK);
+            } else {
+                // Same millisecond or clock went back: keep counting, borrowing from the next millisecond on overflow
+                next = previous + 1;
+            }
+            if (lastTimestampAndCounter.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
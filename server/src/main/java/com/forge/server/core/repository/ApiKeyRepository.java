@@ -0,0 +1,46 @@
+package com.forge.server.core.repository;
+
+import com.forge.server.core.entity.ApiKey;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * API Key Repository
+ * <p>
+ * Data access layer for ApiKey entities.
+ *
+ * @author Forge Team
+ */
+@Repository
+public interface ApiKeyRepository extends JpaRepository<ApiKey, UUID> {
+
+    /**
+     * Finds a key by its public prefix, using the unique prefix index
+     *
+     * @param prefix key prefix
+     * @return Optional containing the key if found
+     */
+    Optional<ApiKey> findByPrefix(String prefix);
+
+    /**
+     * Finds the keys issued to a user, oldest first
+     *
+     * @param userId user ID
+     * @return the user's keys
+     */
+    List<ApiKey> findByUserIdOrderByCreatedAtAsc(UUID userId);
+
+    /**
+     * Finds a key issued to a user
+     *
+     * @param id     key ID
+     * @param userId user ID
+     * @return Optional containing the key if it exists and belongs to the user
+     */
+    Optional<ApiKey> findByIdAndUserId(UUID id, UUID userId);
+}
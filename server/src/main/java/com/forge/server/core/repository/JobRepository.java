@@ -0,0 +1,107 @@
+package com.forge.server.core.repository;
+
+import com.forge.server.core.entity.Job;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job Repository
+ * <p>
+ * Data access layer for the persistent job queue.
+ * Claiming uses a pessimistic write lock with a lock timeout of -2, which Hibernate renders as
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED} on databases that support it, so concurrent
+ * dispatchers never wait on rows another dispatcher is already claiming.
+ *
+ * @author Forge Team
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, UUID> {
+
+    /**
+     * Lock timeout hint value meaning "skip locked rows"
+     */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Locks the next batch of queued jobs in dispatch order, skipping rows locked by other dispatchers
+     *
+     * @param status   status of claimable jobs
+     * @param pageable batch size
+     * @return locked jobs, at most pageable.getPageSize()
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select j from Job j where j.status = :status order by j.priority, j.fairSequence, j.id")
+    List<Job> lockNextClaimable(@Param("status") Job.JobStatus status, Pageable pageable);
+
+    /**
+     * Finds the highest fair sequence among a project's jobs in a status
+     *
+     * @param projectId project identifier
+     * @param status    job status
+     * @return the highest fair sequence, or null if the project has no such jobs
+     */
+    @Query("select max(j.fairSequence) from Job j where j.projectId = :projectId and j.status = :status")
+    Long findMaxFairSequence(@Param("projectId") String projectId, @Param("status") Job.JobStatus status);
+
+    /**
+     * Finds the lowest fair sequence among all jobs in a status, i.e. the head of the queue
+     *
+     * @param status job status
+     * @return the lowest fair sequence, or null if there are no such jobs
+     */
+    @Query("select min(j.fairSequence) from Job j where j.status = :status")
+    Long findMinFairSequence(@Param("status") Job.JobStatus status);
+
+    /**
+     * Moves jobs whose lease has expired back to another status, typically from CLAIMED to QUEUED
+     *
+     * @param from current status of the jobs
+     * @param to   status to move expired jobs to
+     * @param now  current time
+     * @return number of jobs updated
+     */
+    @Modifying
+    @Query("update Job j set j.status = :to, j.claimedBy = null, j.claimedAt = null, j.leaseExpiresAt = null, "
+            + "j.updatedAt = :now where j.status = :from and j.leaseExpiresAt < :now")
+    int releaseExpiredLeases(@Param("from") Job.JobStatus from, @Param("to") Job.JobStatus to,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Moves a job out of the claimed status, provided it is still claimed by the given worker
+     *
+     * @param id       job identifier
+     * @param workerId worker expected to hold the claim
+     * @param from     claimed status
+     * @param to       status to move the job to
+     * @param now      current time
+     * @return 1 if the job was updated, 0 if it is not claimed by the worker
+     */
+    @Modifying
+    @Query("update Job j set j.status = :to, j.leaseExpiresAt = null, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :from and j.claimedBy = :workerId")
+    int finishClaimed(@Param("id") UUID id, @Param("workerId") String workerId, @Param("from") Job.JobStatus from,
+            @Param("to") Job.JobStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Counts jobs in a status
+     *
+     * @param status job status
+     * @return number of jobs
+     */
+    long countByStatus(Job.JobStatus status);
+}
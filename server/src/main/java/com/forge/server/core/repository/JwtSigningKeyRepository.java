@@ -0,0 +1,27 @@
+package com.forge.server.core.repository;
+
+import com.forge.server.core.entity.JwtSigningKey;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JWT Signing Key Repository
+ * <p>
+ * Data access layer for JwtSigningKey entities.
+ *
+ * @author Forge Team
+ */
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, UUID> {
+
+    /**
+     * Finds all signing keys, oldest first
+     *
+     * @return signing keys in creation order
+     */
+    List<JwtSigningKey> findAllByOrderByCreatedAtAsc();
+}
@@ -0,0 +1,58 @@
+package com.forge.server.core.repository;
+
+import com.forge.server.core.entity.RefreshToken;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token Repository
+ * <p>
+ * Data access layer for RefreshToken entities.
+ *
+ * @author Forge Team
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    /**
+     * Marks a token as rotated if it is still current and unexpired
+     * <p>
+     * The conditional update is the single lookup on the refresh path and makes concurrent
+     * refreshes of the same token race safely: only one of them can rotate it.
+     *
+     * @param id  token id
+     * @param now current time
+     * @return 1 if the token was rotated, 0 if it was unknown, expired or already rotated
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.rotatedAt = :now "
+            + "where t.id = :id and t.rotatedAt is null and t.expiresAt > :now")
+    int rotate(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes every token of a family, revoking all of its outstanding refresh tokens
+     *
+     * @param familyId family id
+     * @return number of tokens deleted
+     */
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamily(@Param("familyId") UUID familyId);
+
+    /**
+     * Deletes tokens that have expired
+     *
+     * @param now current time
+     * @return number of tokens deleted
+     */
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,49 @@
+package com.forge.server.core.repository;
+
+import com.forge.server.core.entity.RevokedToken;
+
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Revoked Token Repository
+ * <p>
+ * Data access layer for RevokedToken entities.
+ *
+ * @author Forge Team
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * Streams revocations of tokens that have not expired yet, for loading the in-memory set
+     * <p>
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param now current time
+     * @return stream of unexpired revocations
+     */
+    @Query("select t from RevokedToken t where t.expiresAt > :now")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<RevokedToken> streamUnexpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Deletes revocations of tokens that have expired
+     *
+     * @param now current time
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
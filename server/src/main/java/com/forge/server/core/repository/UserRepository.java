@@ -1,12 +1,23 @@
 package com.forge.server.core.repository;
 
 import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.projection.UserAdminView;
+import com.forge.server.core.repository.projection.UserSummary;
 
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * User Repository
@@ -51,5 +62,59 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return true if user exists, false otherwise
      */
     boolean existsByEmail(String email);
-}
 
+    /**
+     * Streams every username, for warming in-memory lookups
+     * <p>
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return stream of usernames
+     */
+    @Query("select u.username from User u")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<String> streamAllUsernames();
+
+    /**
+     * Finds which of the given usernames are already registered
+     *
+     * @param usernames usernames to check
+     * @return the subset that exists
+     */
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Finds which of the given emails are already registered
+     *
+     * @param emails emails to check
+     * @return the subset that exists
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Finds the public view of users after a keyset position, in id order
+     * <p>
+     * Ids are time-ordered, so this is registration order, and the primary key index serves
+     * both the seek and the sort.
+     *
+     * @param afterId id of the last user on the previous page
+     * @param limit   maximum number of users to return
+     * @return users with an id greater than afterId
+     */
+    @Query("select u.id as id, u.username as username, u.createdAt as createdAt "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    /**
+     * Finds the administrative view of users after a keyset position, in id order
+     *
+     * @param afterId id of the last user on the previous page
+     * @param limit   maximum number of users to return
+     * @return users with an id greater than afterId
+     */
+    @Query("select u.id as id, u.username as username, u.email as email, u.role as role, "
+            + "u.createdAt as createdAt, u.updatedAt as updatedAt "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserAdminView> findAdminViewsAfter(@Param("afterId") UUID afterId, Limit limit);
+}
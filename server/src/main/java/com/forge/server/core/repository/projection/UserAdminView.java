@@ -0,0 +1,29 @@
+package com.forge.server.core.repository.projection;
+
+import com.forge.server.core.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * User Admin View Projection
+ * <p>
+ * Administrative view of a user for admin listings, without credentials. Only the selected
+ * columns are read; no entity is loaded.
+ *
+ * @author Forge Team
+ */
+public interface UserAdminView {
+
+    UUID getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    User.UserRole getRole();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
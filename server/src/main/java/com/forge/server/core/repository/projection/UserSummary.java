@@ -0,0 +1,21 @@
+package com.forge.server.core.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * User Summary Projection
+ * <p>
+ * Public view of a user for listings visible to any authenticated user. Only the selected
+ * columns are read; no entity is loaded.
+ *
+ * @author Forge Team
+ */
+public interface UserSummary {
+
+    UUID getId();
+
+    String getUsername();
+
+    LocalDateTime getCreatedAt();
+}
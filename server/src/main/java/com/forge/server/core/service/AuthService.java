@@ -1,9 +1,11 @@
 package com.forge.server.core.service;
 
 import com.forge.shared.model.response.LoginResponse;
+import com.forge.shared.model.response.RefreshTokenResponse;
 import com.forge.shared.model.response.RegisterResponse;
 import com.forge.server.core.service.authentication.AuthenticationService;
 import com.forge.server.core.service.registration.UserRegistrationService;
+import com.forge.server.core.service.registration.UsernameAvailabilityService;
 
 import org.springframework.stereotype.Service;
 
@@ -12,16 +14,20 @@ public class AuthService {
 
     private final UserRegistrationService registrationService;
     private final AuthenticationService authenticationService;
+    private final UsernameAvailabilityService usernameAvailabilityService;
 
     /**
      * Constructor for AuthService
      *
-     * @param registrationService   user registration service
-     * @param authenticationService authentication service
+     * @param registrationService         user registration service
+     * @param authenticationService       authentication service
+     * @param usernameAvailabilityService username availability service
      */
-    public AuthService(UserRegistrationService registrationService, AuthenticationService authenticationService) {
+    public AuthService(UserRegistrationService registrationService, AuthenticationService authenticationService,
+            UsernameAvailabilityService usernameAvailabilityService) {
         this.registrationService = registrationService;
         this.authenticationService = authenticationService;
+        this.usernameAvailabilityService = usernameAvailabilityService;
     }
 
     /**
@@ -37,15 +43,48 @@ public class AuthService {
         return registrationService.register(username, email, password);
     }
 
+    /**
+     * Checks whether a username is free to register
+     * Delegates to UsernameAvailabilityService
+     *
+     * @param username username to check
+     * @return true if the username is available
+     */
+    public boolean isUsernameAvailable(String username) {
+        return usernameAvailabilityService.isAvailable(username);
+    }
+
     /**
      * Authenticates user and generates JWT tokens
      * Delegates to AuthenticationService
      *
      * @param email    user email
      * @param password plain text password
+     * @param clientIp address the attempt came from, for rate limiting
      * @return LoginResponse containing user info and tokens
      */
-    public LoginResponse login(String email, String password) {
-        return authenticationService.authenticate(email, password);
+    public LoginResponse login(String email, String password, String clientIp) {
+        return authenticationService.authenticate(email, password, clientIp);
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair
+     * Delegates to AuthenticationService
+     *
+     * @param refreshToken refresh token
+     * @return RefreshTokenResponse containing the new tokens
+     */
+    public RefreshTokenResponse refresh(String refreshToken) {
+        return authenticationService.refresh(refreshToken);
+    }
+
+    /**
+     * Revokes an access token and the refresh tokens of its login session
+     * Delegates to AuthenticationService
+     *
+     * @param accessToken access token to revoke
+     */
+    public void logout(String accessToken) {
+        authenticationService.logout(accessToken);
     }
 }
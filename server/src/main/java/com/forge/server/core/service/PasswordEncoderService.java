@@ -1,5 +1,6 @@
 package com.forge.server.core.service;
 
+import com.forge.server.common.jfr.PasswordHashEvent;
 import com.forge.server.core.service.password.PasswordEncoderStrategy;
 import com.forge.server.core.service.password.PasswordEncoderStrategyFactory;
 
@@ -40,7 +41,17 @@ public class PasswordEncoderService {
      * @return the encoded password hash
      */
     public String encode(String rawPassword) {
-        return strategy.encode(rawPassword);
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = strategy.encode(rawPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(PasswordHashEvent.Operation.ENCODE);
+            event.setAlgorithm(strategy.getStrategyName());
+            event.setCostFromHash(encoded);
+            event.commit();
+        }
+        return encoded;
     }
 
     /**
@@ -51,7 +62,18 @@ public class PasswordEncoderService {
      * @return true if passwords match, false otherwise
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        return strategy.matches(rawPassword, encodedPassword);
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matched = strategy.matches(rawPassword, encodedPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(PasswordHashEvent.Operation.MATCHES);
+            event.setAlgorithm(strategy.getStrategyName());
+            event.setCostFromHash(encodedPassword);
+            event.setMatched(matched);
+            event.commit();
+        }
+        return matched;
     }
 
     /**
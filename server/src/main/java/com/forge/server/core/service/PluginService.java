@@ -1,27 +1,26 @@
 package com.forge.server.core.service;
 
 import com.forge.server.common.plugin.exception.PluginException;
+import com.forge.server.core.service.monitoring.RequestTimings;
 import com.forge.server.core.service.plugin.PluginConfigurationService;
 import com.forge.server.core.service.plugin.PluginInstallationService;
 import com.forge.server.plugins.PluginManager;
 import com.forge.server.plugins.api.Plugin;
 import com.forge.shared.model.response.PluginInstallResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 @Service
 public class PluginService {
 
-    private static final Logger logger = Logger.getLogger(PluginService.class.getName());
-    private static final String STARTING_PLUGIN = "Starting plugin: ";
+    private static final Logger logger = LoggerFactory.getLogger(PluginService.class);
+    private static final String LOG_STARTING_PLUGIN = "Starting plugin {} with {} configuration entries";
     private static final String PLUGIN_STARTED_SUCCESSFULLY = "Plugin started successfully: ";
-    private static final String PLUGIN_START_FAILED = "Plugin start failed: ";
-    private static final String RELOADING_CONFIGURATION = "Reloading configuration for plugin: ";
 
     private final PluginInstallationService pluginInstallationService;
     private final PluginManager pluginManager;
@@ -35,16 +34,21 @@ public class PluginService {
     }
 
     public PluginInstallResponse installPlugin(String pluginName) {
-        return pluginInstallationService.installPlugin(pluginName);
+        long began = RequestTimings.begin(RequestTimings.Segment.PLUGIN);
+        try {
+            return pluginInstallationService.installPlugin(pluginName);
+        } finally {
+            RequestTimings.end(RequestTimings.Segment.PLUGIN, began);
+        }
     }
 
     public PluginInstallResponse startPlugin(String pluginName, Map<String, String> config)
             throws PluginException, IOException {
-        logger.info(STARTING_PLUGIN + pluginName);
+        logger.debug(LOG_STARTING_PLUGIN, pluginName, config != null ? config.size() : 0);
 
+        long began = RequestTimings.begin(RequestTimings.Segment.PLUGIN);
         try {
             configurationService.savePluginConfiguration(pluginName, config);
-            logger.info(RELOADING_CONFIGURATION + pluginName);
             pluginManager.reloadPluginConfiguration(pluginName);
 
             pluginManager.startPlugin(pluginName);
@@ -56,9 +60,8 @@ public class PluginService {
             response.setState(plugin.getState().name());
             response.setMessage(PLUGIN_STARTED_SUCCESSFULLY + pluginName);
             return response;
-        } catch (PluginException | IOException e) {
-            logger.log(Level.SEVERE, PLUGIN_START_FAILED + pluginName + " - " + e.getMessage(), e);
-            throw e;
+        } finally {
+            RequestTimings.end(RequestTimings.Segment.PLUGIN, began);
         }
     }
 }
@@ -2,8 +2,10 @@ package com.forge.server.core.service;
 
 import com.forge.server.core.entity.User;
 import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.registration.UsernameAvailabilityService;
 import com.forge.server.core.service.validation.UserValidationService;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,19 +20,21 @@ public class UserService implements UserServiceInterface {
     private final UserRepository userRepository;
     private final PasswordEncoderService passwordEncoderService;
     private final UserValidationService validationService;
+    private final UsernameAvailabilityService usernameAvailabilityService;
 
     public UserService(UserRepository userRepository, PasswordEncoderService passwordEncoderService,
-            UserValidationService validationService) {
+            UserValidationService validationService, UsernameAvailabilityService usernameAvailabilityService) {
         this.userRepository = userRepository;
         this.passwordEncoderService = passwordEncoderService;
         this.validationService = validationService;
+        this.usernameAvailabilityService = usernameAvailabilityService;
     }
 
     /**
      * Register a new user
      * <p>
-     * Validates that username and email are unique before creating the user.
-     * Encodes the password before storing it.
+     * Issues a single insert; the unique constraints on username and email reject duplicates,
+     * which are translated into UserAlreadyExistsException. Encodes the password before storing it.
      * Sets default role (business logic moved from entity to service).
      *
      * @param username the username
@@ -40,11 +44,17 @@ public class UserService implements UserServiceInterface {
      */
     @Override
     public User registerUser(String username, String email, String password) {
-        validationService.validateUserUnique(username, email);
         String passwordHash = passwordEncoderService.encode(password);
         User user = new User(username, email, passwordHash);
         user.setRole(User.UserRole.DEVELOPER);
-        return userRepository.save(user);
+        try {
+            // Flush now so a duplicate surfaces here rather than at commit
+            User saved = userRepository.saveAndFlush(user);
+            usernameAvailabilityService.recordUsername(username);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw validationService.toUserAlreadyExists(e, username, email);
+        }
     }
 
     /**
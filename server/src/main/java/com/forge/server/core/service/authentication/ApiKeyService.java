@@ -0,0 +1,288 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.server.common.jfr.AuthenticationEvent;
+import com.forge.server.common.util.TokenBucketLimiter;
+import com.forge.server.core.entity.ApiKey;
+import com.forge.server.core.entity.id.UuidV7;
+import com.forge.server.core.repository.ApiKeyRepository;
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.util.AppUserDetailsService;
+import com.forge.shared.model.response.ApiKeyResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API Key Service
+ * <p>
+ * Issues and verifies API keys for workers, bots and scripts. A key looks like
+ * {@code forge_<prefix>_<secret>}: the 12-character prefix is public and identifies the key, the
+ * 256-bit secret is what makes it unguessable. Because the whole key is random, a SHA-256 hash is
+ * as strong as a password hash here, and verifying one costs about a microsecond instead of a
+ * BCrypt round.
+ * <p>
+ * Verified keys are cached by prefix together with their user, so a machine request costs one
+ * map lookup, one SHA-256 and a constant-time hash comparison. Entries expire after the cache
+ * TTL, which bounds how long a key revoked on another instance, or a changed user role, takes
+ * to apply; revocation through this instance applies immediately.
+ * <p>
+ * A prefix missing from the cache costs a database lookup, and anyone can send a well-formed
+ * key with a random prefix. Lookups are therefore charged to a token bucket per client IP, and
+ * a client that has used up its bucket is refused without a lookup until it refills. Keys already
+ * in the cache keep working for that client.
+ *
+ * @author Forge Team
+ */
+@Service
+public class ApiKeyService {
+
+    private static final String KEY_PREFIX = "forge_";
+    private static final int PREFIX_BYTES = 9;
+    private static final int SECRET_BYTES = 32;
+    private static final int PREFIX_LENGTH = 12;
+    private static final int SECRET_LENGTH = 43;
+    private static final int KEY_LENGTH = KEY_PREFIX.length() + PREFIX_LENGTH + 1 + SECRET_LENGTH;
+    private static final String METRIC_CHECKS = "forge.auth.apikey.checks";
+    private static final String TAG_RESULT = "result";
+    private static final String ERROR_SHA256_UNAVAILABLE = "SHA-256 is not available";
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final AppUserDetailsService userDetailsService;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, CachedKey> cache = new ConcurrentHashMap<>();
+    private final long cacheTtlNanos;
+    private final int cacheMaxEntries;
+    private final Counter cached;
+    private final Counter loaded;
+    private final Counter rejected;
+    private final Counter throttled;
+    private final TokenBucketLimiter lookupLimiter;
+    private final TimerService timerService;
+    private final Duration evictionInterval;
+    private TimerHandle evictionTimer;
+
+    public ApiKeyService(ApiKeyRepository apiKeyRepository, AppUserDetailsService userDetailsService,
+            TimerService timerService, MeterRegistry meterRegistry,
+            @Value("${forge.auth.api-keys.cache-ttl:1m}") Duration cacheTtl,
+            @Value("${forge.auth.api-keys.cache-max-entries:10000}") int cacheMaxEntries,
+            @Value("${forge.auth.api-keys.lookup-limit.capacity:50}") int lookupCapacity,
+            @Value("${forge.auth.api-keys.lookup-limit.refill-period:200ms}") Duration lookupRefillPeriod,
+            @Value("${forge.auth.api-keys.lookup-limit.max-keys:100000}") int lookupMaxKeys,
+            @Value("${forge.auth.api-keys.lookup-limit.eviction-interval:1m}") Duration evictionInterval) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.userDetailsService = userDetailsService;
+        this.timerService = timerService;
+        this.evictionInterval = evictionInterval;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.lookupLimiter = new TokenBucketLimiter(lookupCapacity, lookupRefillPeriod, lookupMaxKeys);
+        this.cached = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "cached").register(meterRegistry);
+        this.loaded = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "loaded").register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "rejected").register(meterRegistry);
+        this.throttled = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "throttled").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        evictionTimer = timerService.scheduleWithFixedDelay(lookupLimiter::evictIdle, evictionInterval,
+                evictionInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        evictionTimer.cancel();
+    }
+
+    /**
+     * Issues a new key to a user
+     *
+     * @param userId        owner of the key
+     * @param name          label the key is listed under
+     * @param scope         access granted to the key
+     * @param expiresInDays days until the key expires, or null for no expiry
+     * @return the key description, including the key itself, which cannot be retrieved again
+     */
+    public ApiKeyResponse create(UUID userId, String name, ApiKey.Scope scope, Integer expiresInDays) {
+        String prefix = randomToken(PREFIX_BYTES);
+        String key = KEY_PREFIX + prefix + "_" + randomToken(SECRET_BYTES);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = expiresInDays != null ? now.plusDays(expiresInDays) : null;
+        ApiKey apiKey = apiKeyRepository.save(
+                new ApiKey(UuidV7.generate(), userId, name, prefix, hash(key), scope, now, expiresAt));
+        return toResponse(apiKey, key);
+    }
+
+    /**
+     * Lists the keys issued to a user, without their secrets
+     *
+     * @param userId user ID
+     * @return the user's keys
+     */
+    public List<ApiKeyResponse> list(UUID userId) {
+        return apiKeyRepository.findByUserIdOrderByCreatedAtAsc(userId).stream()
+                .map(apiKey -> toResponse(apiKey, null))
+                .toList();
+    }
+
+    /**
+     * Revokes one of a user's keys
+     *
+     * @param userId user ID
+     * @param keyId  key ID
+     * @return true if the key existed and was revoked
+     */
+    public boolean revoke(UUID userId, UUID keyId) {
+        Optional<ApiKey> apiKey = apiKeyRepository.findByIdAndUserId(keyId, userId);
+        apiKey.ifPresent(key -> {
+            apiKeyRepository.delete(key);
+            cache.remove(key.getPrefix());
+        });
+        return apiKey.isPresent();
+    }
+
+    /**
+     * Checks whether a bearer credential is an API key rather than a JWT
+     *
+     * @param token bearer credential
+     * @return true if the credential has the API key format
+     */
+    public boolean isApiKey(String token) {
+        return token.startsWith(KEY_PREFIX);
+    }
+
+    /**
+     * Verifies an API key for a request, reporting prefix cache use to the request's JFR event
+     *
+     * @param key      API key presented by the client
+     * @param method   HTTP method of the request, checked against the key scope
+     * @param clientIp address the request came from, charged for keys not in the cache
+     * @param event    authentication event of the request, or null
+     * @return authentication for the key's user, or null if the key is invalid, expired, revoked
+     *         or not allowed to make this request, or the client has made too many lookups
+     */
+    public Authentication authenticate(String key, String method, String clientIp, AuthenticationEvent event) {
+        if (key.length() != KEY_LENGTH || key.charAt(KEY_PREFIX.length() + PREFIX_LENGTH) != '_') {
+            rejected.increment();
+            return null;
+        }
+        String prefix = key.substring(KEY_PREFIX.length(), KEY_PREFIX.length() + PREFIX_LENGTH);
+        long now = System.nanoTime();
+        CachedKey entry = cache.get(prefix);
+        if (entry != null && now - entry.loadedAt < cacheTtlNanos) {
+            cached.increment();
+            if (event != null) {
+                event.setCacheHit(true);
+            }
+        } else {
+            if (lookupLimiter.tryAcquire(clientIp) > 0) {
+                throttled.increment();
+                return null;
+            }
+            entry = load(prefix, now);
+            if (entry == null) {
+                rejected.increment();
+                return null;
+            }
+            loaded.increment();
+        }
+
+        // The prefix lookup reveals nothing secret; the secret is only ever compared in constant time
+        if (!MessageDigest.isEqual(entry.keyHash, hash(key))
+                || (entry.expiresAt != null && !entry.expiresAt.isAfter(LocalDateTime.now()))
+                || (entry.scope == ApiKey.Scope.READ && !isSafeMethod(method))) {
+            rejected.increment();
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(entry.user, null, entry.user.getAuthorities());
+    }
+
+    private CachedKey load(String prefix, long now) {
+        Optional<ApiKey> apiKey = apiKeyRepository.findByPrefix(prefix);
+        if (apiKey.isEmpty()) {
+            cache.remove(prefix);
+            return null;
+        }
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserById(apiKey.get().getUserId());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        CachedKey entry = new CachedKey(apiKey.get(), user, now);
+        if (cache.size() >= cacheMaxEntries) {
+            cache.values().removeIf(stale -> now - stale.loadedAt >= cacheTtlNanos);
+        }
+        if (cache.size() < cacheMaxEntries) {
+            cache.put(prefix, entry);
+        }
+        return entry;
+    }
+
+    private static boolean isSafeMethod(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method);
+    }
+
+    private String randomToken(int bytes) {
+        byte[] value = new byte[bytes];
+        random.nextBytes(value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    private static byte[] hash(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ERROR_SHA256_UNAVAILABLE, e);
+        }
+    }
+
+    private static ApiKeyResponse toResponse(ApiKey apiKey, String key) {
+        return new ApiKeyResponse(apiKey.getId(), apiKey.getName(), apiKey.getPrefix(), apiKey.getScope().name(),
+                apiKey.getCreatedAt(), apiKey.getExpiresAt(), key);
+    }
+
+    /**
+     * Verified key and its user, as cached by prefix
+     */
+    private static class CachedKey {
+
+        private final byte[] keyHash;
+        private final ApiKey.Scope scope;
+        private final LocalDateTime expiresAt;
+        private final UserDetails user;
+        private final long loadedAt;
+
+        CachedKey(ApiKey apiKey, UserDetails user, long loadedAt) {
+            this.keyHash = apiKey.getKeyHash();
+            this.scope = apiKey.getScope();
+            this.expiresAt = apiKey.getExpiresAt();
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.forge.server.core.service.authentication;
 
 import com.forge.shared.model.response.LoginResponse;
+import com.forge.shared.model.response.RefreshTokenResponse;
+import com.forge.common.constants.JwtConstants;
 import com.forge.server.common.exception.InvalidCredentialsException;
+import com.forge.server.common.exception.InvalidTokenException;
+import com.forge.server.common.exception.TooManyLoginAttemptsException;
 import com.forge.server.core.entity.User;
+import com.forge.server.core.entity.id.UuidV7;
 import com.forge.server.core.service.PasswordEncoderService;
 import com.forge.server.core.service.UserService;
 import com.forge.server.security.provider.JwtTokenProvider;
 
+import io.jsonwebtoken.Claims;
+
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * @author Forge Team
@@ -18,16 +26,24 @@ import java.time.LocalDateTime;
 public class AuthenticationService {
 
     private static final String ERROR_INVALID_EMAIL_OR_PASSWORD = "Invalid email or password";
+    private static final String ERROR_NOT_ACCESS_TOKEN = "Logout requires an access token";
 
     private final UserService userService;
     private final PasswordEncoderService passwordEncoderService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthenticationService(UserService userService, PasswordEncoderService passwordEncoderService,
-            JwtTokenProvider jwtTokenProvider) {
+            JwtTokenProvider jwtTokenProvider, RefreshTokenService refreshTokenService,
+            LoginRateLimiter loginRateLimiter, TokenRevocationService tokenRevocationService) {
         this.userService = userService;
         this.passwordEncoderService = passwordEncoderService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -35,20 +51,28 @@ public class AuthenticationService {
      *
      * @param email    user email
      * @param password plain text password
+     * @param clientIp address the attempt came from
      * @return LoginResponse containing user info and tokens
-     * @throws InvalidCredentialsException if credentials are invalid
+     * @throws InvalidCredentialsException  if credentials are invalid
+     * @throws TooManyLoginAttemptsException if the client or account is being throttled
      */
-    public LoginResponse authenticate(String email, String password) {
+    public LoginResponse authenticate(String email, String password, String clientIp) {
+        // Throttled attempts are rejected before the user lookup and password hash
+        loginRateLimiter.acquire(clientIp, email);
+
         User user = userService.findByEmail(email).orElseThrow(
                 () -> new InvalidCredentialsException(ERROR_INVALID_EMAIL_OR_PASSWORD));
 
         if (!passwordEncoderService.matches(password, user.getPasswordHash())) {
             throw new InvalidCredentialsException(ERROR_INVALID_EMAIL_OR_PASSWORD);
         }
+        loginRateLimiter.recordSuccess(email);
 
         String userId = user.getId().toString();
-        String accessToken = jwtTokenProvider.generateToken(userId, user.getEmail(), user.getUsername());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(userId);
+        UUID familyId = UuidV7.generate();
+        String accessToken = jwtTokenProvider.generateToken(userId, user.getEmail(), user.getUsername(),
+                familyId.toString());
+        String refreshToken = refreshTokenService.issue(user, familyId);
 
         LoginResponse response = new LoginResponse();
         response.setId(user.getId());
@@ -62,5 +86,33 @@ public class AuthenticationService {
 
         return response;
     }
-}
 
+    /**
+     * Exchanges a refresh token for a new token pair without re-checking the password
+     *
+     * @param refreshToken refresh token from a previous login or refresh
+     * @return new access and refresh tokens
+     * @throws InvalidCredentialsException if the refresh token is invalid, expired or reused
+     */
+    public RefreshTokenResponse refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
+    }
+
+    /**
+     * Ends a login session: revokes the access token and every refresh token of its family
+     *
+     * @param accessToken access token the request was made with
+     * @throws InvalidTokenException if the credential is not a valid access token, e.g. an API key
+     */
+    public void logout(String accessToken) {
+        Claims claims = jwtTokenProvider.parseAccessToken(accessToken)
+                .orElseThrow(() -> new InvalidTokenException(ERROR_NOT_ACCESS_TOKEN));
+        tokenRevocationService.revoke(claims);
+
+        // Tokens issued before sessions were tracked carry no family; they only lose the access token
+        String familyId = claims.get(JwtConstants.CLAIM_FAMILY, String.class);
+        if (familyId != null) {
+            refreshTokenService.revokeFamily(UUID.fromString(familyId));
+        }
+    }
+}
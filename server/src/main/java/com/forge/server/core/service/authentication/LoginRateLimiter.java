@@ -0,0 +1,124 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.server.common.exception.TooManyLoginAttemptsException;
+import com.forge.server.common.util.TokenBucketLimiter;
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login Rate Limiter
+ * <p>
+ * Throttles login attempts before any user lookup or password hashing, so credential stuffing
+ * cannot turn the login endpoint into a BCrypt CPU sink. Two token buckets are charged per attempt:
+ * <ul>
+ *   <li>per client IP, bounding the hashing work one source can cause</li>
+ *   <li>per target email, locking an account against guessing after a burst of attempts; the
+ *   bucket is refilled on a successful login, so only consecutive failures count</li>
+ * </ul>
+ * Buckets are lock-free and kept in bounded maps; full buckets are evicted on the shared timer.
+ * Client IPs are taken from the request's remote address, so deployments behind a proxy need
+ * server.forward-headers-strategy set for the limit to apply per client.
+ *
+ * @author Forge Team
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String ERROR_TOO_MANY_ATTEMPTS = "Too many login attempts, please try again later";
+    private static final String METRIC_THROTTLED = "forge.auth.login.throttled";
+    private static final String METRIC_TRACKED = "forge.auth.login.limiter.keys";
+    private static final String TAG_LIMIT = "limit";
+
+    private final TokenBucketLimiter clientLimiter;
+    private final TokenBucketLimiter accountLimiter;
+    private final TimerService timerService;
+    private final Duration evictionInterval;
+    private final Counter clientThrottled;
+    private final Counter accountThrottled;
+    private TimerHandle evictionTimer;
+
+    public LoginRateLimiter(TimerService timerService, MeterRegistry meterRegistry,
+            @Value("${forge.auth.login-limit.client.capacity:20}") int clientCapacity,
+            @Value("${forge.auth.login-limit.client.refill-period:3s}") Duration clientRefillPeriod,
+            @Value("${forge.auth.login-limit.account.capacity:5}") int accountCapacity,
+            @Value("${forge.auth.login-limit.account.refill-period:1m}") Duration accountRefillPeriod,
+            @Value("${forge.auth.login-limit.max-keys:100000}") int maxKeys,
+            @Value("${forge.auth.login-limit.eviction-interval:1m}") Duration evictionInterval) {
+        this.clientLimiter = new TokenBucketLimiter(clientCapacity, clientRefillPeriod, maxKeys);
+        this.accountLimiter = new TokenBucketLimiter(accountCapacity, accountRefillPeriod, maxKeys);
+        this.timerService = timerService;
+        this.evictionInterval = evictionInterval;
+        this.clientThrottled = Counter.builder(METRIC_THROTTLED).tag(TAG_LIMIT, "client").register(meterRegistry);
+        this.accountThrottled = Counter.builder(METRIC_THROTTLED).tag(TAG_LIMIT, "account").register(meterRegistry);
+        Gauge.builder(METRIC_TRACKED, clientLimiter, TokenBucketLimiter::size).tag(TAG_LIMIT, "client")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_TRACKED, accountLimiter, TokenBucketLimiter::size).tag(TAG_LIMIT, "account")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        evictionTimer = timerService.scheduleWithFixedDelay(this::evictIdle, evictionInterval, evictionInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        evictionTimer.cancel();
+    }
+
+    /**
+     * Charges a login attempt to the client and the target account
+     *
+     * @param clientIp address the attempt came from
+     * @param email    email the attempt is for
+     * @throws TooManyLoginAttemptsException if either limit is exhausted
+     */
+    public void acquire(String clientIp, String email) {
+        long wait = clientLimiter.tryAcquire(clientIp);
+        if (wait > 0) {
+            clientThrottled.increment();
+            throw new TooManyLoginAttemptsException(ERROR_TOO_MANY_ATTEMPTS, toRetryAfterSeconds(wait));
+        }
+        wait = accountLimiter.tryAcquire(accountKey(email));
+        if (wait > 0) {
+            accountThrottled.increment();
+            throw new TooManyLoginAttemptsException(ERROR_TOO_MANY_ATTEMPTS, toRetryAfterSeconds(wait));
+        }
+    }
+
+    /**
+     * Clears the failed attempts recorded against an account after a successful login
+     *
+     * @param email email that logged in
+     */
+    public void recordSuccess(String email) {
+        accountLimiter.reset(accountKey(email));
+    }
+
+    private void evictIdle() {
+        clientLimiter.evictIdle();
+        accountLimiter.evictIdle();
+    }
+
+    private static String accountKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
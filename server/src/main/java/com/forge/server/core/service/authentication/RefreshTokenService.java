@@ -0,0 +1,214 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.common.constants.JwtConstants;
+import com.forge.server.common.exception.InvalidCredentialsException;
+import com.forge.server.core.entity.RefreshToken;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.entity.id.UuidV7;
+import com.forge.server.core.repository.RefreshTokenRepository;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.config.JwtConfig;
+import com.forge.server.security.provider.JwtTokenProvider;
+import com.forge.shared.model.response.RefreshTokenResponse;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Refresh Token Service
+ * <p>
+ * Issues refresh tokens at login and exchanges them for new token pairs. A refresh costs a
+ * signature check, a user lookup and one conditional update and one read by primary key; no
+ * password hash is computed. Refreshes for users that no longer exist are rejected.
+ * <p>
+ * Tokens are single use. Each refresh rotates the presented token and issues the next token of
+ * the same family. If a token that was already rotated is presented again, either the client or
+ * an attacker holds a stolen copy, so the whole family is revoked and the user must log in
+ * again. A family expires a fixed session lifetime after login, so refreshing can extend a
+ * session only up to that point. Expired records are deleted periodically on the shared timer.
+ *
+ * @author Forge Team
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final String ERROR_INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
+    private static final String METRIC_REFRESH = "forge.auth.refresh";
+    private static final String TAG_RESULT = "result";
+    private static final String LOG_REUSE_DETECTED = "Refresh token reuse for user {}: revoked {} tokens of family {}";
+    private static final String LOG_EXPIRED_DELETED = "Deleted {} expired refresh tokens";
+    private static final String LOG_CLEANUP_FAILED = "Failed to delete expired refresh tokens: {}";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtConfig jwtConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final TimerService timerService;
+    private final Duration cleanupInterval;
+    private final Duration sessionLifetime;
+    private final Counter rotated;
+    private final Counter reused;
+    private final Counter rejected;
+    private TimerHandle cleanupTimer;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+            JwtTokenProvider jwtTokenProvider, JwtConfig jwtConfig, PlatformTransactionManager transactionManager,
+            TimerService timerService, MeterRegistry meterRegistry,
+            @Value("${forge.auth.refresh-tokens.cleanup-interval:1h}") Duration cleanupInterval,
+            @Value("${forge.auth.refresh-tokens.session-lifetime:30d}") Duration sessionLifetime) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtConfig = jwtConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timerService = timerService;
+        this.cleanupInterval = cleanupInterval;
+        this.sessionLifetime = sessionLifetime;
+        this.rotated = Counter.builder(METRIC_REFRESH).tag(TAG_RESULT, "rotated").register(meterRegistry);
+        this.reused = Counter.builder(METRIC_REFRESH).tag(TAG_RESULT, "reused").register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_REFRESH).tag(TAG_RESULT, "rejected").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        cleanupTimer = timerService.scheduleWithFixedDelay(this::deleteExpired, cleanupInterval, cleanupInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        cleanupTimer.cancel();
+    }
+
+    /**
+     * Issues the first refresh token of a new family, for a fresh login
+     *
+     * @param user     authenticated user
+     * @param familyId ID of the new family, also carried by the login's access token
+     * @return refresh token
+     */
+    public String issue(User user, UUID familyId) {
+        return mint(user, familyId, LocalDateTime.now().plus(sessionLifetime));
+    }
+
+    /**
+     * Revokes every refresh token of a family, ending the login session at logout
+     *
+     * @param familyId family ID carried by the session's tokens
+     * @return number of tokens revoked
+     */
+    public int revokeFamily(UUID familyId) {
+        Integer revoked = transactionTemplate.execute(status -> refreshTokenRepository.deleteByFamily(familyId));
+        return revoked == null ? 0 : revoked;
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and the next refresh token of its family
+     *
+     * @param refreshToken refresh token presented by the client
+     * @return new token pair
+     * @throws InvalidCredentialsException if the token is invalid, expired, revoked or already used
+     */
+    public RefreshTokenResponse refresh(String refreshToken) {
+        UUID tokenId;
+        UUID familyId;
+        UUID userId;
+        try {
+            Claims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+            tokenId = toUuid(claims.getId());
+            familyId = toUuid(claims.get(JwtConstants.CLAIM_FAMILY, String.class));
+            userId = toUuid(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            throw new InvalidCredentialsException(ERROR_INVALID_REFRESH_TOKEN);
+        }
+
+        // A deleted user's outstanding refresh tokens must not keep minting access tokens
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            rejected.increment();
+            throw new InvalidCredentialsException(ERROR_INVALID_REFRESH_TOKEN);
+        }
+
+        // Runs to commit before failing so that a family revoked on reuse stays revoked
+        String next = transactionTemplate.execute(status -> {
+            if (refreshTokenRepository.rotate(tokenId, LocalDateTime.now()) == 1) {
+                return refreshTokenRepository.findById(tokenId)
+                        .map(rotatedToken -> mint(user, familyId, rotatedToken.getFamilyExpiresAt()))
+                        .orElse(null);
+            }
+            refreshTokenRepository.findById(tokenId)
+                    .filter(token -> token.getRotatedAt() != null)
+                    .ifPresent(this::revokeReusedFamily);
+            return null;
+        });
+        if (next == null) {
+            rejected.increment();
+            throw new InvalidCredentialsException(ERROR_INVALID_REFRESH_TOKEN);
+        }
+
+        rotated.increment();
+        String accessToken = jwtTokenProvider.generateToken(userId.toString(), user.getEmail(), user.getUsername(),
+                familyId.toString());
+        return new RefreshTokenResponse(accessToken, next, jwtConfig.getExpirationMs() / 1000);
+    }
+
+    private String mint(User user, UUID familyId, LocalDateTime familyExpiresAt) {
+        UUID tokenId = UuidV7.generate();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(jwtConfig.getRefreshExpirationMs()));
+        if (expiresAt.isAfter(familyExpiresAt)) {
+            expiresAt = familyExpiresAt;
+        }
+        refreshTokenRepository.save(new RefreshToken(tokenId, familyId, user.getId(), expiresAt, familyExpiresAt));
+        Date expiration = Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant());
+        return jwtTokenProvider.generateRefreshToken(user.getId().toString(), user.getEmail(), user.getUsername(),
+                tokenId.toString(), familyId.toString(), expiration);
+    }
+
+    private static UUID toUuid(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(ERROR_INVALID_REFRESH_TOKEN);
+        }
+        return UUID.fromString(value);
+    }
+
+    private void revokeReusedFamily(RefreshToken token) {
+        int revoked = refreshTokenRepository.deleteByFamily(token.getFamilyId());
+        reused.increment();
+        logger.warn(LOG_REUSE_DETECTED, token.getUserId(), revoked, token.getFamilyId());
+    }
+
+    private void deleteExpired() {
+        try {
+            Integer deleted = transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+            if (deleted != null && deleted > 0) {
+                logger.info(LOG_EXPIRED_DELETED, deleted);
+            }
+        } catch (RuntimeException e) {
+            logger.warn(LOG_CLEANUP_FAILED, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.server.common.util.BloomFilter;
+import com.forge.server.core.entity.RevokedToken;
+import com.forge.server.core.repository.RevokedTokenRepository;
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.provider.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Token Revocation Service
+ * <p>
+ * Tracks access tokens revoked before their expiry, by jti. Every authenticated request is
+ * checked, so the check never touches the database: a Bloom filter answers "not revoked" for
+ * almost every token, and only filter positives consult the exact in-memory set.
+ * <p>
+ * Revocations are persisted and the in-memory set is reloaded from the table at startup and
+ * then periodically on the shared timer. Each reload drops tokens past their expiry, from the
+ * table and from memory, and rebuilds the filter, so memory stays proportional to the number
+ * of revoked tokens that could still be presented. Periodic reloads also pick up revocations
+ * made by other server instances.
+ *
+ * @author Forge Team
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final String METRIC_CHECKS = "forge.auth.revocation.checks";
+    private static final String METRIC_SIZE = "forge.auth.revocation.size";
+    private static final String TAG_RESULT = "result";
+    private static final String LOG_RELOADED = "Loaded {} token revocations ({} filter bits, {} hashes)";
+    private static final String LOG_RELOAD_FAILED = "Failed to reload token revocations: {}";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final TimerService timerService;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Duration reloadInterval;
+    private final Counter filterNegatives;
+    private final Counter filterFalsePositives;
+    private final Counter revokedHits;
+
+    private volatile RevocationSet revocations;
+    private volatile Queue<RevokedToken> recordedDuringReload;
+    private TimerHandle reloadTimer;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, JwtTokenProvider jwtTokenProvider,
+            PlatformTransactionManager transactionManager, TimerService timerService, MeterRegistry meterRegistry,
+            @Value("${forge.auth.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${forge.auth.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${forge.auth.revocation.reload-interval:5m}") Duration reloadInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timerService = timerService;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.reloadInterval = reloadInterval;
+        this.revocations = new RevocationSet(new BloomFilter(expectedRevocations, falsePositiveRate));
+        this.filterNegatives = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "filter_negative").register(meterRegistry);
+        this.filterFalsePositives = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "filter_false_positive")
+                .register(meterRegistry);
+        this.revokedHits = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "revoked").register(meterRegistry);
+        Gauge.builder(METRIC_SIZE, this, service -> service.revocations.revoked.size()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        reload();
+        reloadTimer = timerService.scheduleWithFixedDelay(this::reload, reloadInterval, reloadInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        reloadTimer.cancel();
+    }
+
+    /**
+     * Checks whether a token has been revoked
+     *
+     * @param tokenId jti claim of the token, may be null for tokens issued without one
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        RevocationSet current = revocations;
+        if (!current.filter.mightContain(tokenId)) {
+            filterNegatives.increment();
+            return false;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(tokenId);
+        } catch (IllegalArgumentException e) {
+            filterFalsePositives.increment();
+            return false;
+        }
+        if (current.revoked.contains(id)) {
+            revokedHits.increment();
+            return true;
+        }
+        filterFalsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revokes an access token until it expires
+     *
+     * @param token signed access token
+     */
+    public void revoke(String token) {
+        jwtTokenProvider.parseAccessToken(token).ifPresent(this::revoke);
+    }
+
+    /**
+     * Revokes a verified access token until it expires
+     *
+     * @param claims claims of the access token
+     */
+    public void revoke(Claims claims) {
+        String tokenId = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        UUID id = UUID.fromString(tokenId);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        if (!expiresAt.isAfter(LocalDateTime.now()) || revocations.revoked.contains(id)) {
+            return;
+        }
+        RevokedToken revoked = new RevokedToken(id, expiresAt);
+        try {
+            revokedTokenRepository.save(revoked);
+        } catch (DataIntegrityViolationException e) {
+            // Already revoked, possibly by another instance
+        }
+        record(revoked);
+    }
+
+    /**
+     * Reloads unexpired revocations from the database, deleting expired ones, and rebuilds the
+     * filter sized for the larger of the configured expectation and twice the current count
+     */
+    public void reload() {
+        Queue<RevokedToken> recorded = new ConcurrentLinkedQueue<>();
+        recordedDuringReload = recorded;
+        try {
+            RevocationSet reloaded = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                revokedTokenRepository.deleteExpired(now);
+                long count = revokedTokenRepository.count();
+                RevocationSet next = new RevocationSet(
+                        new BloomFilter(Math.max(expectedRevocations, count * 2), falsePositiveRate));
+                try (Stream<RevokedToken> unexpired = revokedTokenRepository.streamUnexpired(now)) {
+                    unexpired.forEach(next::add);
+                }
+                return next;
+            });
+            revocations = reloaded;
+            recordedDuringReload = null;
+            // Revocations committed after the scan started may be missing from the snapshot
+            recorded.forEach(reloaded::add);
+            logger.info(LOG_RELOADED, reloaded.revoked.size(), reloaded.filter.getBitCount(),
+                    reloaded.filter.getHashCount());
+        } catch (RuntimeException e) {
+            recordedDuringReload = null;
+            logger.warn(LOG_RELOAD_FAILED, e.getMessage());
+        }
+    }
+
+    private void record(RevokedToken revoked) {
+        Queue<RevokedToken> reloading = recordedDuringReload;
+        if (reloading != null) {
+            reloading.add(revoked);
+        }
+        // Read the set after the reload buffer so a revocation is never missed by both
+        revocations.add(revoked);
+    }
+
+    /**
+     * Exact revoked set and the filter in front of it, swapped together on reload
+     */
+    private static class RevocationSet {
+
+        private final BloomFilter filter;
+        private final Set<UUID> revoked = ConcurrentHashMap.newKeySet();
+
+        RevocationSet(BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        void add(RevokedToken token) {
+            // Exact set first, so a filter hit always finds its entry
+            revoked.add(token.getId());
+            filter.put(token.getId().toString());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.forge.server.core.service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Build Cache Configuration Properties
+ * <p>
+ * Loads remote build cache configuration from application properties.
+ * Configure via: forge.build-cache.directory, forge.build-cache.max-size-bytes, etc.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "forge.build-cache")
+public class BuildCacheConfig {
+
+    private String directory = "build-cache";
+    private long maxSizeBytes = 10L * 1024 * 1024 * 1024; // 10 GB
+    private long maxEntrySizeBytes = 512L * 1024 * 1024; // 512 MB
+
+    /**
+     * Gets the cache directory, resolved against forge.work.directory when relative
+     *
+     * @return cache directory
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the cache directory
+     *
+     * @param directory cache directory
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the total size quota of the cache in bytes
+     *
+     * @return size quota in bytes
+     */
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    /**
+     * Sets the total size quota of the cache in bytes
+     *
+     * @param maxSizeBytes size quota in bytes
+     */
+    public void setMaxSizeBytes(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Gets the largest single entry the cache accepts in bytes
+     *
+     * @return maximum entry size in bytes
+     */
+    public long getMaxEntrySizeBytes() {
+        return maxEntrySizeBytes;
+    }
+
+    /**
+     * Sets the largest single entry the cache accepts in bytes
+     *
+     * @param maxEntrySizeBytes maximum entry size in bytes
+     */
+    public void setMaxEntrySizeBytes(long maxEntrySizeBytes) {
+        this.maxEntrySizeBytes = maxEntrySizeBytes;
+    }
+}
@@ -0,0 +1,359 @@
+package com.forge.server.core.service.cache;
+
+import com.forge.server.common.exception.BuildCacheDigestMismatchException;
+import com.forge.server.common.exception.BuildCacheEntryTooLargeException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Build Cache Service
+ * <p>
+ * Disk-backed content store for the remote build cache used by Gradle's HttpBuildCache and
+ * Bazel's HTTP remote cache. Entries live under forge.work.directory and are evicted in
+ * least-recently-used order once the configured size quota is exceeded.
+ * <p>
+ * Entries in the content-addressed namespace are keyed by the SHA-256 of their content, and
+ * other builds trust them on that basis, so uploads there are hashed as they are written and
+ * rejected when the digest differs from the key.
+ *
+ * @author Forge Team
+ */
+@Service
+public class BuildCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildCacheService.class);
+
+    private static final Pattern VALID_SEGMENT = Pattern.compile("[A-Za-z0-9_-]{1,128}");
+    private static final String DEFAULT_NAMESPACE = "default";
+    private static final String CAS_NAMESPACE = "cas";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String ERROR_ENTRY_TOO_LARGE = "Build cache entry exceeds the maximum size of %d bytes";
+    private static final String ERROR_DIGEST_MISMATCH = "Build cache entry content does not match its %s key %s";
+    private static final String LOG_INDEX_LOADED = "Build cache index loaded from {}: {} entries, {} bytes";
+    private static final String LOG_READ_FAILED = "Failed to read build cache entry {}: {}";
+    private static final String LOG_EVICTION_FAILED = "Failed to evict build cache entry {}: {}";
+    private static final String LOG_TEMP_CLEANUP_FAILED = "Failed to delete temporary build cache file {}: {}";
+
+    private static final String METRIC_REQUESTS = "forge.build.cache.requests";
+    private static final String METRIC_STORES = "forge.build.cache.stores";
+    private static final String METRIC_EVICTIONS = "forge.build.cache.evictions";
+    private static final String METRIC_SIZE = "forge.build.cache.size";
+    private static final String METRIC_ENTRIES = "forge.build.cache.entries";
+    private static final String METRIC_HIT_RATIO = "forge.build.cache.hit.ratio";
+    private static final String TAG_RESULT = "result";
+
+    private final Path cacheDirectory;
+    private final Path tempDirectory;
+    private final long maxSizeBytes;
+    private final long maxEntrySizeBytes;
+
+    // Access-ordered index of entry key to entry size; guarded by itself
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentSizeBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stores;
+    private final Counter evictions;
+
+    public BuildCacheService(BuildCacheConfig config, @Value("${forge.work.directory:work}") String workDirectory,
+            MeterRegistry meterRegistry) {
+        this.cacheDirectory = Paths.get(workDirectory).resolve(config.getDirectory()).toAbsolutePath().normalize();
+        this.tempDirectory = cacheDirectory.resolve(TEMP_DIRECTORY);
+        this.maxSizeBytes = config.getMaxSizeBytes();
+        this.maxEntrySizeBytes = config.getMaxEntrySizeBytes();
+
+        this.hits = Counter.builder(METRIC_REQUESTS).tag(TAG_RESULT, "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_REQUESTS).tag(TAG_RESULT, "miss").register(meterRegistry);
+        this.stores = Counter.builder(METRIC_STORES).register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_EVICTIONS).register(meterRegistry);
+        Gauge.builder(METRIC_SIZE, this, BuildCacheService::getCurrentSizeBytes).baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_ENTRIES, this, BuildCacheService::getEntryCount).register(meterRegistry);
+        Gauge.builder(METRIC_HIT_RATIO, this, BuildCacheService::getHitRatio).register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the in-memory index from the entries already on disk, oldest first
+     *
+     * @throws IOException if the cache directory cannot be read
+     */
+    @PostConstruct
+    public void loadIndex() throws IOException {
+        Files.createDirectories(tempDirectory);
+        List<Map.Entry<Path, BasicFileAttributes>> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(cacheDirectory)) {
+            paths.filter(path -> !path.startsWith(tempDirectory)).filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    files.add(Map.entry(path, Files.readAttributes(path, BasicFileAttributes.class)));
+                } catch (IOException ignored) {
+                    // Entry vanished while scanning
+                }
+            });
+        }
+        files.sort(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()));
+
+        synchronized (index) {
+            for (Map.Entry<Path, BasicFileAttributes> file : files) {
+                Path relative = cacheDirectory.relativize(file.getKey());
+                String key = relative.getName(0) + "/" + relative.getFileName();
+                index.put(key, file.getValue().size());
+                currentSizeBytes += file.getValue().size();
+            }
+            evictIfNeeded();
+        }
+        logger.info(LOG_INDEX_LOADED, cacheDirectory, index.size(), currentSizeBytes);
+    }
+
+    /**
+     * Checks whether a namespace or key is acceptable as a cache path segment
+     *
+     * @param segment namespace or key
+     * @return true if the segment is valid
+     */
+    public boolean isValidSegment(String segment) {
+        return segment != null && VALID_SEGMENT.matcher(segment).matches();
+    }
+
+    /**
+     * Opens a cache entry for reading and marks it as recently used
+     *
+     * @param namespace cache namespace (e.g. Bazel's "ac" or "cas"), or null for the default namespace
+     * @param key       cache key
+     * @return the entry if present
+     */
+    public Optional<BuildCacheEntry> get(String namespace, String key) {
+        String indexKey = indexKey(namespace, key);
+        Long size;
+        synchronized (index) {
+            size = index.get(indexKey);
+        }
+        if (size == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        try {
+            InputStream inputStream = Files.newInputStream(resolve(indexKey));
+            hits.increment();
+            return Optional.of(new BuildCacheEntry(inputStream, size));
+        } catch (NoSuchFileException e) {
+            // Evicted between the index lookup and the open
+            misses.increment();
+            return Optional.empty();
+        } catch (IOException e) {
+            misses.increment();
+            logger.warn(LOG_READ_FAILED, indexKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks whether a cache entry exists without reading it
+     *
+     * @param namespace cache namespace, or null for the default namespace
+     * @param key       cache key
+     * @return true if the entry exists
+     */
+    public boolean contains(String namespace, String key) {
+        synchronized (index) {
+            return index.containsKey(indexKey(namespace, key));
+        }
+    }
+
+    /**
+     * Stores a cache entry, streaming the content to disk before publishing it atomically
+     *
+     * @param namespace cache namespace, or null for the default namespace
+     * @param key       cache key
+     * @param content   entry content
+     * @throws IOException                       if the entry cannot be written
+     * @throws BuildCacheEntryTooLargeException  if the content exceeds the maximum entry size
+     * @throws BuildCacheDigestMismatchException if a content-addressed entry does not hash to its key
+     */
+    public void put(String namespace, String key, InputStream content) throws IOException {
+        String indexKey = indexKey(namespace, key);
+        MessageDigest digest = CAS_NAMESPACE.equals(namespace) ? newDigest() : null;
+        Path tempFile = Files.createTempFile(tempDirectory, key, null);
+        try {
+            long size = copyWithLimit(content, tempFile, digest);
+            if (digest != null && !HexFormat.of().formatHex(digest.digest()).equals(key)) {
+                throw new BuildCacheDigestMismatchException(String.format(ERROR_DIGEST_MISMATCH,
+                        DIGEST_ALGORITHM, key));
+            }
+            Path target = resolve(indexKey);
+            Files.createDirectories(target.getParent());
+            moveIntoPlace(tempFile, target);
+
+            synchronized (index) {
+                Long previous = index.put(indexKey, size);
+                currentSizeBytes += size - (previous != null ? previous : 0L);
+                evictIfNeeded();
+            }
+            stores.increment();
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Gets the total size of all cached entries in bytes
+     *
+     * @return cache size in bytes
+     */
+    public long getCurrentSizeBytes() {
+        synchronized (index) {
+            return currentSizeBytes;
+        }
+    }
+
+    /**
+     * Gets the number of cached entries
+     *
+     * @return entry count
+     */
+    public int getEntryCount() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    /**
+     * Gets the fraction of lookups served from the cache since startup
+     *
+     * @return hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private long copyWithLimit(InputStream content, Path tempFile, MessageDigest digest) throws IOException {
+        long written = 0;
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                written += read;
+                if (written > maxEntrySizeBytes) {
+                    throw new BuildCacheEntryTooLargeException(String.format(ERROR_ENTRY_TOO_LARGE,
+                            maxEntrySizeBytes));
+                }
+                outputStream.write(buffer, 0, read);
+                if (digest != null) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        return written;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Evicts least-recently-used entries until the cache fits its quota. Caller must hold the index lock.
+     */
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+        while (currentSizeBytes > maxSizeBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            currentSizeBytes -= eldest.getValue();
+            evictions.increment();
+            try {
+                Files.deleteIfExists(resolve(eldest.getKey()));
+            } catch (IOException e) {
+                logger.warn(LOG_EVICTION_FAILED, eldest.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn(LOG_TEMP_CLEANUP_FAILED, path, e.getMessage());
+        }
+    }
+
+    private String indexKey(String namespace, String key) {
+        return (namespace != null ? namespace : DEFAULT_NAMESPACE) + "/" + key;
+    }
+
+    private Path resolve(String indexKey) {
+        int separator = indexKey.indexOf('/');
+        String namespace = indexKey.substring(0, separator);
+        String key = indexKey.substring(separator + 1);
+        String shard = key.length() >= 2 ? key.substring(0, 2) : key;
+        return cacheDirectory.resolve(namespace).resolve(shard).resolve(key);
+    }
+
+    /**
+     * An open cache entry. The caller owns the stream and must close it.
+     */
+    public static class BuildCacheEntry {
+
+        private final InputStream inputStream;
+        private final long size;
+
+        public BuildCacheEntry(InputStream inputStream, long size) {
+            this.inputStream = inputStream;
+            this.size = size;
+        }
+
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.forge.server.core.service.job;
+
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Job Lease Reaper
+ * <p>
+ * Periodically returns jobs whose worker lease has expired to the queue, driven by the shared
+ * timing wheel.
+ *
+ * @author Forge Team
+ */
+@Component
+public class JobLeaseReaper {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseReaper.class);
+
+    private static final String LOG_REQUEUED = "Requeued {} jobs with expired leases";
+    private static final String LOG_REAP_FAILED = "Failed to requeue expired job leases: {}";
+
+    private final JobQueueService jobQueueService;
+    private final TimerService timerService;
+    private final Duration checkInterval;
+    private TimerHandle timer;
+
+    public JobLeaseReaper(JobQueueService jobQueueService, TimerService timerService,
+            @Value("${forge.jobs.lease-check-interval:30s}") Duration checkInterval) {
+        this.jobQueueService = jobQueueService;
+        this.timerService = timerService;
+        this.checkInterval = checkInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        timer = timerService.scheduleWithFixedDelay(this::reap, checkInterval, checkInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.cancel();
+    }
+
+    private void reap() {
+        try {
+            int requeued = jobQueueService.requeueExpiredLeases();
+            if (requeued > 0) {
+                logger.info(LOG_REQUEUED, requeued);
+            }
+        } catch (RuntimeException e) {
+            logger.warn(LOG_REAP_FAILED, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.forge.server.core.service.job;
+
+import com.forge.server.common.exception.JobLeaseLostException;
+import com.forge.server.common.exception.JobNotFoundException;
+import com.forge.server.core.entity.Job;
+import com.forge.server.core.repository.JobRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job Queue Service
+ * <p>
+ * Persistent, multi-dispatcher job queue on top of the 'jobs' table.
+ * Dispatchers claim batches of jobs in a single transaction; rows locked by another dispatcher
+ * are skipped rather than waited on. Jobs are ordered by priority class and then by a per-project
+ * fair sequence, so a large fan-out from one project is interleaved with other projects' work.
+ *
+ * @author Forge Team
+ */
+@Service
+public class JobQueueService {
+
+    private static final String ERROR_JOB_NOT_FOUND = "Job not found: %s";
+    private static final String ERROR_JOB_NOT_CLAIMED = "Job %s is not claimed by %s";
+    private static final String METRIC_ENQUEUED = "forge.jobs.enqueued";
+    private static final String METRIC_CLAIMED = "forge.jobs.claimed";
+    private static final String METRIC_REQUEUED = "forge.jobs.requeued";
+    private static final String METRIC_CLAIM = "forge.jobs.claim";
+
+    private final JobRepository jobRepository;
+    private final Duration defaultLeaseDuration;
+    private final Counter enqueued;
+    private final Counter claimed;
+    private final Counter requeued;
+    private final Timer claimTimer;
+
+    public JobQueueService(JobRepository jobRepository,
+            @Value("${forge.jobs.lease-duration:5m}") Duration defaultLeaseDuration, MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.defaultLeaseDuration = defaultLeaseDuration;
+        this.enqueued = Counter.builder(METRIC_ENQUEUED).register(meterRegistry);
+        this.claimed = Counter.builder(METRIC_CLAIMED).register(meterRegistry);
+        this.requeued = Counter.builder(METRIC_REQUEUED).register(meterRegistry);
+        this.claimTimer = Timer.builder(METRIC_CLAIM).register(meterRegistry);
+    }
+
+    /**
+     * Enqueues a single job
+     *
+     * @param projectId project the job belongs to
+     * @param name      job name
+     * @param payload   opaque job payload
+     * @param priority  priority class
+     * @return the persisted job
+     */
+    @Transactional
+    public Job enqueue(String projectId, String name, String payload, Job.JobPriority priority) {
+        return enqueueAll(projectId, priority, List.of(new JobRequest(name, payload))).get(0);
+    }
+
+    /**
+     * Enqueues a fan-out of jobs for one project
+     * <p>
+     * The jobs receive consecutive fair sequences starting after the project's last queued job,
+     * or at the current head of the queue if the project has nothing queued.
+     *
+     * @param projectId project the jobs belong to
+     * @param priority  priority class shared by the jobs
+     * @param requests  jobs to enqueue
+     * @return the persisted jobs in request order
+     */
+    @Transactional
+    public List<Job> enqueueAll(String projectId, Job.JobPriority priority, List<JobRequest> requests) {
+        long sequence = nextFairSequenceBase(projectId);
+        List<Job> jobs = new ArrayList<>(requests.size());
+        for (JobRequest request : requests) {
+            jobs.add(new Job(projectId, request.getName(), request.getPayload(), priority, ++sequence));
+        }
+        List<Job> saved = jobRepository.saveAll(jobs);
+        enqueued.increment(saved.size());
+        return saved;
+    }
+
+    /**
+     * Claims up to maxJobs jobs for a dispatcher using the default lease duration
+     *
+     * @param workerId identifier of the claiming dispatcher
+     * @param maxJobs  maximum number of jobs to claim
+     * @return claimed jobs in dispatch order, possibly empty
+     */
+    @Transactional
+    public List<Job> claim(String workerId, int maxJobs) {
+        return claim(workerId, maxJobs, defaultLeaseDuration);
+    }
+
+    /**
+     * Claims up to maxJobs jobs for a dispatcher in one transaction
+     *
+     * @param workerId      identifier of the claiming dispatcher
+     * @param maxJobs       maximum number of jobs to claim
+     * @param leaseDuration how long the claim is held before the job returns to the queue
+     * @return claimed jobs in dispatch order, possibly empty
+     */
+    @Transactional
+    public List<Job> claim(String workerId, int maxJobs, Duration leaseDuration) {
+        return claimTimer.record(() -> {
+            List<Job> jobs = jobRepository.lockNextClaimable(Job.JobStatus.QUEUED, PageRequest.of(0, maxJobs));
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseExpiresAt = now.plus(leaseDuration);
+            for (Job job : jobs) {
+                job.setStatus(Job.JobStatus.CLAIMED);
+                job.setClaimedBy(workerId);
+                job.setClaimedAt(now);
+                job.setLeaseExpiresAt(leaseExpiresAt);
+                job.setAttempts(job.getAttempts() + 1);
+            }
+            claimed.increment(jobs.size());
+            return jobs;
+        });
+    }
+
+    /**
+     * Marks a claimed job as completed
+     *
+     * @param jobId    job identifier
+     * @param workerId identifier of the dispatcher holding the claim
+     * @throws JobNotFoundException  if the job does not exist
+     * @throws JobLeaseLostException if the job is not currently claimed by the worker
+     */
+    @Transactional
+    public void complete(UUID jobId, String workerId) {
+        finish(jobId, workerId, Job.JobStatus.COMPLETED);
+    }
+
+    /**
+     * Marks a claimed job as failed
+     *
+     * @param jobId    job identifier
+     * @param workerId identifier of the dispatcher holding the claim
+     * @throws JobNotFoundException  if the job does not exist
+     * @throws JobLeaseLostException if the job is not currently claimed by the worker
+     */
+    @Transactional
+    public void fail(UUID jobId, String workerId) {
+        finish(jobId, workerId, Job.JobStatus.FAILED);
+    }
+
+    /**
+     * Returns jobs whose lease has expired to the queue. Their original fair sequence is kept,
+     * so they are dispatched again ahead of newer work.
+     *
+     * @return number of jobs requeued
+     */
+    @Transactional
+    public int requeueExpiredLeases() {
+        int count = jobRepository.releaseExpiredLeases(Job.JobStatus.CLAIMED, Job.JobStatus.QUEUED,
+                LocalDateTime.now());
+        requeued.increment(count);
+        return count;
+    }
+
+    /**
+     * Finishes a job with a conditional update, so a worker whose lease expired cannot overwrite
+     * the outcome of the worker that claimed the job after it
+     */
+    private void finish(UUID jobId, String workerId, Job.JobStatus status) {
+        if (jobRepository.finishClaimed(jobId, workerId, Job.JobStatus.CLAIMED, status, LocalDateTime.now()) == 0) {
+            if (!jobRepository.existsById(jobId)) {
+                throw new JobNotFoundException(String.format(ERROR_JOB_NOT_FOUND, jobId));
+            }
+            throw new JobLeaseLostException(String.format(ERROR_JOB_NOT_CLAIMED, jobId, workerId));
+        }
+    }
+
+    private long nextFairSequenceBase(String projectId) {
+        Long projectTail = jobRepository.findMaxFairSequence(projectId, Job.JobStatus.QUEUED);
+        if (projectTail != null) {
+            return projectTail;
+        }
+        Long queueHead = jobRepository.findMinFairSequence(Job.JobStatus.QUEUED);
+        return queueHead != null ? queueHead - 1 : 0L;
+    }
+
+    /**
+     * A job to enqueue
+     */
+    public static class JobRequest {
+
+        private final String name;
+        private final String payload;
+
+        public JobRequest(String name, String payload) {
+            this.name = name;
+            this.payload = payload;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPayload() {
+            return payload;
+        }
+    }
+}
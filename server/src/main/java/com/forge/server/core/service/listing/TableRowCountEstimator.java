@@ -0,0 +1,146 @@
+package com.forge.server.core.service.listing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Table Row Count Estimator
+ * <p>
+ * Supplies listing totals without a full table scan on large tables. The row estimate kept in the
+ * database's table statistics is read first; below the exact-count threshold a real COUNT(*) is
+ * cheap and is used instead. Results are cached briefly per table so paging through a listing
+ * does not repeat the work on every page.
+ * <p>
+ * MySQL estimates come from information_schema.TABLES, which InnoDB samples and the server caches
+ * (information_schema_stats_expiry), so they can be well off the true count. Databases without a
+ * supported statistics view always get an exact count.
+ *
+ * @author Forge Team
+ */
+@Component
+public class TableRowCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableRowCountEstimator.class);
+
+    private static final String PRODUCT_MYSQL = "mysql";
+    private static final String PRODUCT_H2 = "h2";
+    private static final String MYSQL_ESTIMATE_QUERY =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+    private static final String H2_ESTIMATE_QUERY =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = UPPER(?)";
+    private static final String NO_ESTIMATE = "";
+    private static final String LOG_ESTIMATE_FAILED = "Row estimate for table {} unavailable, counting exactly: {}";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long exactCountThreshold;
+    private final long cacheTtlNanos;
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    private volatile String estimateQuery;
+
+    public TableRowCountEstimator(JdbcTemplate jdbcTemplate,
+            @Value("${forge.listing.exact-count-threshold:100000}") long exactCountThreshold,
+            @Value("${forge.listing.count-cache-ttl:30s}") Duration cacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exactCountThreshold = exactCountThreshold;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
+
+    /**
+     * Counts the rows of a table, exactly when that is cheap and approximately otherwise
+     *
+     * @param table      table name
+     * @param exactCount exact count query, used when the table is small or has no statistics
+     * @return row count
+     */
+    public RowCount count(String table, LongSupplier exactCount) {
+        long now = System.nanoTime();
+        CachedCount cached = cache.get(table);
+        if (cached != null && now - cached.computedAt < cacheTtlNanos) {
+            return cached.count;
+        }
+        Long estimate = estimate(table);
+        RowCount count = estimate == null || estimate < exactCountThreshold
+                ? new RowCount(exactCount.getAsLong(), false)
+                : new RowCount(estimate, true);
+        cache.put(table, new CachedCount(count, now));
+        return count;
+    }
+
+    private Long estimate(String table) {
+        String query = estimateQuery();
+        if (query.isEmpty()) {
+            return null;
+        }
+        try {
+            List<Long> rows = jdbcTemplate.queryForList(query, Long.class, table);
+            return rows.isEmpty() ? null : rows.get(0);
+        } catch (DataAccessException e) {
+            logger.debug(LOG_ESTIMATE_FAILED, table, e.getMessage());
+            return null;
+        }
+    }
+
+    private String estimateQuery() {
+        String query = estimateQuery;
+        if (query == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? NO_ESTIMATE : product.toLowerCase(Locale.ROOT);
+            if (normalized.contains(PRODUCT_MYSQL)) {
+                query = MYSQL_ESTIMATE_QUERY;
+            } else if (normalized.contains(PRODUCT_H2)) {
+                query = H2_ESTIMATE_QUERY;
+            } else {
+                query = NO_ESTIMATE;
+            }
+            estimateQuery = query;
+        }
+        return query;
+    }
+
+    /**
+     * Row count and whether it is an estimate
+     */
+    public static class RowCount {
+
+        private final long value;
+        private final boolean approximate;
+
+        public RowCount(long value, boolean approximate) {
+            this.value = value;
+            this.approximate = approximate;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        public boolean isApproximate() {
+            return approximate;
+        }
+    }
+
+    private static class CachedCount {
+
+        private final RowCount count;
+        private final long computedAt;
+
+        CachedCount(RowCount count, long computedAt) {
+            this.count = count;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.forge.server.core.service.listing;
+
+import com.forge.server.common.util.KeysetCursor;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.repository.projection.UserAdminView;
+import com.forge.server.core.repository.projection.UserSummary;
+import com.forge.shared.model.response.CursorPage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * User Listing Service
+ * <p>
+ * Lists users with keyset pagination: each page seeks past the id of the last row of the
+ * previous page instead of skipping an offset, so deep pages cost the same as the first. Rows
+ * are read as projections of only the listed columns, and the total comes from
+ * {@link TableRowCountEstimator} rather than a COUNT(*) per page.
+ *
+ * @author Forge Team
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserListingService {
+
+    private static final String USERS_TABLE = "users";
+    private static final UUID FIRST_PAGE = new UUID(0L, 0L);
+
+    private final UserRepository userRepository;
+    private final TableRowCountEstimator rowCountEstimator;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public UserListingService(UserRepository userRepository, TableRowCountEstimator rowCountEstimator,
+            @Value("${forge.listing.default-page-size:50}") int defaultPageSize,
+            @Value("${forge.listing.max-page-size:200}") int maxPageSize) {
+        this.userRepository = userRepository;
+        this.rowCountEstimator = rowCountEstimator;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Lists the public view of users in registration order
+     *
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit  requested page size, or null for the default
+     * @return one page of users
+     */
+    public CursorPage<UserSummary> listUsers(String cursor, Integer limit) {
+        return page(cursor, limit, userRepository::findSummariesAfter, UserSummary::getId);
+    }
+
+    /**
+     * Lists the administrative view of users in registration order
+     *
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit  requested page size, or null for the default
+     * @return one page of users
+     */
+    public CursorPage<UserAdminView> listUsersForAdmin(String cursor, Integer limit) {
+        return page(cursor, limit, userRepository::findAdminViewsAfter, UserAdminView::getId);
+    }
+
+    private <T> CursorPage<T> page(String cursor, Integer limit, BiFunction<UUID, Limit, List<T>> query,
+            Function<T, UUID> idOf) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        UUID afterId = cursor == null || cursor.isBlank() ? FIRST_PAGE : KeysetCursor.decode(cursor);
+
+        // One extra row tells whether another page exists without a separate query
+        List<T> rows = query.apply(afterId, Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+            nextCursor = KeysetCursor.encode(idOf.apply(rows.get(pageSize - 1)));
+        }
+
+        TableRowCountEstimator.RowCount total = rowCountEstimator.count(USERS_TABLE, userRepository::count);
+        return new CursorPage<>(rows, nextCursor, total.getValue(), total.isApproximate());
+    }
+}
@@ -0,0 +1,350 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.server.common.jfr.AuthenticationEvent;
+import com.forge.server.common.jfr.PasswordHashEvent;
+import com.forge.server.common.jfr.PluginConfigurationIoEvent;
+import com.forge.server.common.jfr.PluginLifecycleEvent;
+import com.forge.server.common.jfr.RepositoryCallEvent;
+import com.forge.shared.model.response.ProfileFrame;
+import com.forge.shared.model.response.ProfileResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Continuous Profiler
+ * <p>
+ * Runs an in-process JFR recording stream for the life of the server, sampling the stacks of
+ * running Java threads and of sampled allocations. JFR samples a handful of threads per period
+ * and throttles allocation samples, so the overhead stays around one percent and the profiler
+ * can stay on in production.
+ * <p>
+ * Samples are aggregated into folded stacks, one line per distinct stack with frames from the
+ * root down separated by semicolons, followed by a weight. This is the input format of common
+ * flame graph tools. The window is kept as a ring of buckets: each bucket covers a slice of the
+ * window and is cleared when the ring comes back round to it, so old samples age out without
+ * per-sample bookkeeping. Allocation stacks end with the allocated class and are weighted by
+ * the bytes each sample stands for.
+ * <p>
+ * The stream also retains its raw events, including the Forge events, for the same window, so
+ * a {@code .jfr} file can be dumped on demand and opened in JDK Mission Control.
+ *
+ * @author Forge Team
+ */
+@Service
+public class ContinuousProfiler {
+
+    /** Profile Type Enumeration */
+    public enum ProfileType {
+        CPU, ALLOCATION
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ContinuousProfiler.class);
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String FIELD_OBJECT_CLASS = "objectClass";
+    private static final String FIELD_WEIGHT = "weight";
+    private static final String SETTING_THROTTLE = "throttle";
+    private static final String FRAME_SEPARATOR = ";";
+    private static final String UNKNOWN_FRAME = "[unknown]";
+    private static final String TRUNCATED_FRAME = "[truncated]";
+
+    private static final String LOG_STARTED = "Continuous profiler started (execution sample period {}, allocation sample rate {}, window {})";
+    private static final String LOG_UNAVAILABLE = "Continuous profiler unavailable, JFR could not be started: {}";
+
+    private static final String ERROR_NOT_RUNNING = "Continuous profiler is not running";
+
+    private final boolean enabled;
+    private final Duration window;
+    private final Duration executionSamplePeriod;
+    private final String allocationSampleRate;
+    private final int topFrames;
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+    private RecordingStream stream;
+
+    public ContinuousProfiler(@Value("${forge.profiler.enabled:true}") boolean enabled,
+            @Value("${forge.profiler.window:5m}") Duration window,
+            @Value("${forge.profiler.buckets:10}") int bucketCount,
+            @Value("${forge.profiler.execution-sample-period:20ms}") Duration executionSamplePeriod,
+            @Value("${forge.profiler.allocation-sample-rate:100/s}") String allocationSampleRate,
+            @Value("${forge.profiler.top-frames:20}") int topFrames) {
+        this.enabled = enabled;
+        this.window = window;
+        this.executionSamplePeriod = executionSamplePeriod;
+        this.allocationSampleRate = allocationSampleRate;
+        this.topFrames = topFrames;
+        this.bucketMillis = Math.max(1, window.toMillis() / bucketCount);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            RecordingStream recordingStream = new RecordingStream();
+            recordingStream.enable(EXECUTION_SAMPLE).withPeriod(executionSamplePeriod);
+            recordingStream.enable(ALLOCATION_SAMPLE).with(SETTING_THROTTLE, allocationSampleRate).withStackTrace();
+            recordingStream.enable(AuthenticationEvent.class);
+            recordingStream.enable(PasswordHashEvent.class);
+            recordingStream.enable(PluginLifecycleEvent.class);
+            recordingStream.enable(PluginConfigurationIoEvent.class);
+            recordingStream.enable(RepositoryCallEvent.class);
+            recordingStream.setMaxAge(window);
+            recordingStream.onEvent(EXECUTION_SAMPLE, this::onExecutionSample);
+            recordingStream.onEvent(ALLOCATION_SAMPLE, this::onAllocationSample);
+            recordingStream.startAsync();
+            stream = recordingStream;
+            logger.info(LOG_STARTED, executionSamplePeriod, allocationSampleRate, window);
+        } catch (IllegalStateException | SecurityException e) {
+            logger.warn(LOG_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Checks whether the recording stream is running
+     *
+     * @return true if samples are being collected
+     */
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Summarises the current window
+     *
+     * @return sample counts and the hottest methods by CPU and by allocation
+     */
+    public ProfileResponse getProfile() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> cpu = foldedStacks(ProfileType.CPU, now);
+        Map<String, Long> allocation = foldedStacks(ProfileType.ALLOCATION, now);
+
+        long executionSamples = 0;
+        for (long count : cpu.values()) {
+            executionSamples += count;
+        }
+        long allocationBytes = 0;
+        for (long bytes : allocation.values()) {
+            allocationBytes += bytes;
+        }
+        long allocationSamples;
+        synchronized (this) {
+            allocationSamples = 0;
+            for (Bucket bucket : buckets) {
+                if (isLive(bucket, now)) {
+                    allocationSamples += bucket.allocationSamples;
+                }
+            }
+        }
+        return new ProfileResponse(toLocalDateTime(now - window.toMillis()), toLocalDateTime(now), executionSamples,
+                allocationSamples, allocationBytes, hottestFrames(cpu, 0), hottestFrames(allocation, 1));
+    }
+
+    /**
+     * Gets the folded stacks of the current window
+     *
+     * @param type execution or allocation profile
+     * @return one line per stack, frames from the root down, followed by its sample count or bytes
+     */
+    public String getFoldedStacks(ProfileType type) {
+        Map<String, Long> stacks = foldedStacks(type, System.currentTimeMillis());
+        StringBuilder folded = new StringBuilder(stacks.size() * 256);
+        stacks.forEach((stack, weight) -> folded.append(stack).append(' ').append(weight).append('\n'));
+        return folded.toString();
+    }
+
+    /**
+     * Writes the raw events of the current window to a JFR file
+     *
+     * @param destination file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void dump(Path destination) throws IOException {
+        if (stream == null) {
+            throw new IllegalStateException(ERROR_NOT_RUNNING);
+        }
+        stream.dump(destination);
+    }
+
+    /**
+     * Adds weight to a stack
+     *
+     * @param type         execution or allocation profile
+     * @param stack        folded stack
+     * @param weight       samples or bytes
+     * @param epochMillis  time of the sample
+     */
+    synchronized void record(ProfileType type, String stack, long weight, long epochMillis) {
+        long slot = epochMillis / bucketMillis;
+        Bucket bucket = buckets[(int) (slot % buckets.length)];
+        if (bucket.slot != slot) {
+            if (bucket.slot > slot) {
+                return;
+            }
+            bucket.reset(slot);
+        }
+        if (type == ProfileType.CPU) {
+            bucket.cpu.merge(stack, weight, Long::sum);
+        } else {
+            bucket.allocation.merge(stack, weight, Long::sum);
+            bucket.allocationSamples++;
+        }
+    }
+
+    /**
+     * Merges the live buckets
+     *
+     * @param type        execution or allocation profile
+     * @param epochMillis current time
+     * @return weight per folded stack
+     */
+    synchronized Map<String, Long> foldedStacks(ProfileType type, long epochMillis) {
+        Map<String, Long> merged = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            if (isLive(bucket, epochMillis)) {
+                (type == ProfileType.CPU ? bucket.cpu : bucket.allocation)
+                        .forEach((stack, weight) -> merged.merge(stack, weight, Long::sum));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Ranks the methods of a profile by self weight
+     *
+     * @param stacks      weight per folded stack
+     * @param leafFrames  frames at the end of each stack that are not methods, such as the allocated class
+     * @return the hottest methods, hottest first
+     */
+    List<ProfileFrame> hottestFrames(Map<String, Long> stacks, int leafFrames) {
+        Map<String, long[]> weights = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        stacks.forEach((stack, weight) -> {
+            String[] frames = stack.split(FRAME_SEPARATOR);
+            int top = frames.length - 1 - leafFrames;
+            if (top < 0) {
+                return;
+            }
+            seen.clear();
+            for (int i = 0; i <= top; i++) {
+                // Recursive frames count once towards the total
+                if (seen.add(frames[i])) {
+                    weights.computeIfAbsent(frames[i], frame -> new long[2])[1] += weight;
+                }
+            }
+            weights.get(frames[top])[0] += weight;
+        });
+
+        List<ProfileFrame> result = new ArrayList<>(weights.size());
+        weights.forEach((frame, weight) -> result.add(new ProfileFrame(frame, weight[0], weight[1])));
+        result.sort(Comparator.comparingLong(ProfileFrame::getSelf).thenComparingLong(ProfileFrame::getTotal)
+                .reversed());
+        return result.size() > topFrames ? new ArrayList<>(result.subList(0, topFrames)) : result;
+    }
+
+    private void onExecutionSample(RecordedEvent event) {
+        String stack = fold(event.getStackTrace(), null);
+        if (stack != null) {
+            record(ProfileType.CPU, stack, 1, event.getStartTime().toEpochMilli());
+        }
+    }
+
+    private void onAllocationSample(RecordedEvent event) {
+        RecordedClass objectClass = event.getClass(FIELD_OBJECT_CLASS);
+        String stack = fold(event.getStackTrace(), objectClass != null ? objectClass.getName() : UNKNOWN_FRAME);
+        if (stack != null) {
+            record(ProfileType.ALLOCATION, stack, event.getLong(FIELD_WEIGHT), event.getStartTime().toEpochMilli());
+        }
+    }
+
+    private boolean isLive(Bucket bucket, long epochMillis) {
+        return bucket.slot > epochMillis / bucketMillis - buckets.length;
+    }
+
+    private static String fold(RecordedStackTrace stackTrace, String leaf) {
+        if (stackTrace == null) {
+            return null;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder stack = new StringBuilder(frames.size() * 48);
+        if (stackTrace.isTruncated()) {
+            stack.append(TRUNCATED_FRAME).append(FRAME_SEPARATOR);
+        }
+        // JFR lists the top frame first; folded stacks start at the root
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            RecordedFrame frame = frames.get(i);
+            if (frame.getMethod() == null) {
+                stack.append(UNKNOWN_FRAME);
+            } else {
+                stack.append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName());
+            }
+            stack.append(FRAME_SEPARATOR);
+        }
+        if (leaf != null) {
+            stack.append(leaf);
+        } else if (stack.length() > 0) {
+            stack.setLength(stack.length() - FRAME_SEPARATOR.length());
+        }
+        return stack.length() > 0 ? stack.toString() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Samples of one slice of the window
+     */
+    private static class Bucket {
+        private final Map<String, Long> cpu = new HashMap<>();
+        private final Map<String, Long> allocation = new HashMap<>();
+        private long allocationSamples;
+        private long slot = Long.MIN_VALUE;
+
+        private void reset(long slot) {
+            cpu.clear();
+            allocation.clear();
+            allocationSamples = 0;
+            this.slot = slot;
+        }
+    }
+}
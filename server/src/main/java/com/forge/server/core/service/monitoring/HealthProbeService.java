@@ -0,0 +1,232 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.plugins.PluginManager;
+import com.forge.server.plugins.api.PluginState;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Health Probe Service
+ * <p>
+ * Computes the readiness checks (database pool saturation, plugin states, free space in the
+ * work directory and executor queue depth) on the shared timer and keeps the results as an
+ * immutable snapshot. Probes only read the snapshot, so however often Kubernetes polls they cost
+ * a map lookup; the pool check reads Hikari's own gauges rather than borrowing a connection.
+ * <p>
+ * A snapshot older than the max age reports DOWN: if a check hangs, for example on a stalled
+ * mount, the instance drops out of rotation instead of reporting its last good state forever.
+ *
+ * @author Forge Team
+ */
+@Service
+public class HealthProbeService {
+
+    public static final String CHECK_DATABASE_POOL = "databasePool";
+    public static final String CHECK_PLUGINS = "plugins";
+    public static final String CHECK_WORK_DIRECTORY = "workDirectory";
+    public static final String CHECK_EXECUTORS = "executors";
+
+    private static final String METRIC_POOL_ACTIVE = "hikaricp.connections.active";
+    private static final String METRIC_POOL_MAX = "hikaricp.connections.max";
+    private static final String METRIC_POOL_PENDING = "hikaricp.connections.pending";
+    private static final String METRIC_JETTY_QUEUED = "jetty.threads.jobs";
+    private static final String TAG_POOL = "pool";
+
+    private static final String DETAIL_ACTIVE = "active";
+    private static final String DETAIL_MAX = "max";
+    private static final String DETAIL_PENDING = "pending";
+    private static final String DETAIL_MAX_PENDING = "maxPending";
+    private static final String DETAIL_FAILED = "failed";
+    private static final String DETAIL_PATH = "path";
+    private static final String DETAIL_FREE = "free";
+    private static final String DETAIL_THRESHOLD = "threshold";
+    private static final String DETAIL_TIMER_QUEUED = "timerQueued";
+    private static final String DETAIL_REQUESTS_QUEUED = "requestsQueued";
+    private static final String DETAIL_MAX_QUEUED = "maxQueued";
+    private static final String DETAIL_REFRESHED_AT = "refreshedAt";
+    private static final String DETAIL_ERROR = "error";
+
+    private static final String ERROR_STALE = "Health snapshot is older than the max age";
+    private static final String ERROR_NOT_COMPUTED = "Health has not been computed yet";
+
+    private final MeterRegistry meterRegistry;
+    private final PluginManager pluginManager;
+    private final TimerService timerService;
+    private final File workDirectory;
+    private final int maxPoolPending;
+    private final long minFreeBytes;
+    private final int maxQueued;
+    private final Duration interval;
+    private final Duration maxAge;
+    private volatile Snapshot snapshot;
+    private TimerHandle refreshTimer;
+
+    public HealthProbeService(MeterRegistry meterRegistry, PluginManager pluginManager, TimerService timerService,
+            @Value("${forge.work.directory:work}") String workDirectory,
+            @Value("${forge.health.database-pool.max-pending:5}") int maxPoolPending,
+            @Value("${forge.health.work-directory.min-free:1GB}") DataSize minFree,
+            @Value("${forge.health.executors.max-queued:1000}") int maxQueued,
+            @Value("${forge.health.refresh-interval:5s}") Duration interval,
+            @Value("${forge.health.max-age:30s}") Duration maxAge) {
+        this.meterRegistry = meterRegistry;
+        this.pluginManager = pluginManager;
+        this.timerService = timerService;
+        this.workDirectory = new File(workDirectory);
+        this.maxPoolPending = maxPoolPending;
+        this.minFreeBytes = minFree.toBytes();
+        this.maxQueued = maxQueued;
+        this.interval = interval;
+        this.maxAge = maxAge;
+    }
+
+    @PostConstruct
+    public void start() {
+        refresh();
+        refreshTimer = timerService.scheduleWithFixedDelay(this::refresh, interval, interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshTimer.cancel();
+    }
+
+    /**
+     * Gets the cached result of a check
+     *
+     * @param check check name
+     * @return result as of the last refresh, or DOWN if that is older than the max age
+     */
+    public Health getHealth(String check) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.unknown().withDetail(DETAIL_ERROR, ERROR_NOT_COMPUTED).build();
+        }
+        if (Duration.between(current.refreshedAt, Instant.now()).compareTo(maxAge) > 0) {
+            return Health.down().withDetail(DETAIL_ERROR, ERROR_STALE)
+                    .withDetail(DETAIL_REFRESHED_AT, current.refreshedAt.toString()).build();
+        }
+        return current.checks.get(check);
+    }
+
+    /**
+     * Gets the names of the checks, in the order they are reported
+     *
+     * @return check names
+     */
+    public List<String> getCheckNames() {
+        return List.of(CHECK_DATABASE_POOL, CHECK_PLUGINS, CHECK_WORK_DIRECTORY, CHECK_EXECUTORS);
+    }
+
+    /**
+     * Recomputes every check and replaces the snapshot
+     */
+    void refresh() {
+        Map<String, Health> checks = new LinkedHashMap<>();
+        checks.put(CHECK_DATABASE_POOL, safely(this::checkDatabasePool));
+        checks.put(CHECK_PLUGINS, safely(this::checkPlugins));
+        checks.put(CHECK_WORK_DIRECTORY, safely(this::checkWorkDirectory));
+        checks.put(CHECK_EXECUTORS, safely(this::checkExecutors));
+        snapshot = new Snapshot(Collections.unmodifiableMap(checks), Instant.now());
+    }
+
+    private Health checkDatabasePool() {
+        Health.Builder builder = Health.up();
+        boolean saturated = false;
+        for (Gauge pending : meterRegistry.find(METRIC_POOL_PENDING).gauges()) {
+            String pool = pending.getId().getTag(TAG_POOL);
+            int waiting = (int) pending.value();
+            saturated |= waiting > maxPoolPending;
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put(DETAIL_ACTIVE, (int) gaugeValue(METRIC_POOL_ACTIVE, pool));
+            details.put(DETAIL_MAX, (int) gaugeValue(METRIC_POOL_MAX, pool));
+            details.put(DETAIL_PENDING, waiting);
+            builder.withDetail(pool, details);
+        }
+        builder.withDetail(DETAIL_MAX_PENDING, maxPoolPending);
+        return saturated ? builder.down().build() : builder.build();
+    }
+
+    private Health checkPlugins() {
+        Map<String, PluginState> states = pluginManager.getPluginStates();
+        List<String> failed = new ArrayList<>();
+        states.forEach((pluginName, state) -> {
+            if (state == PluginState.FAILED) {
+                failed.add(pluginName);
+            }
+        });
+        Health.Builder builder = failed.isEmpty() ? Health.up() : Health.down().withDetail(DETAIL_FAILED, failed);
+        return builder.withDetails(states).build();
+    }
+
+    private Health checkWorkDirectory() {
+        // The directory may not have been created yet; its free space is that of the nearest existing parent
+        File existing = workDirectory.getAbsoluteFile();
+        while (!existing.exists() && existing.getParentFile() != null) {
+            existing = existing.getParentFile();
+        }
+        long free = existing.getUsableSpace();
+        Health.Builder builder = free >= minFreeBytes ? Health.up() : Health.down();
+        return builder.withDetail(DETAIL_PATH, workDirectory.getAbsolutePath())
+                .withDetail(DETAIL_FREE, free)
+                .withDetail(DETAIL_THRESHOLD, minFreeBytes)
+                .build();
+    }
+
+    private Health checkExecutors() {
+        int timerQueued = timerService.getQueuedTaskCount();
+        Gauge jettyQueued = meterRegistry.find(METRIC_JETTY_QUEUED).gauge();
+        int requestsQueued = jettyQueued != null ? (int) jettyQueued.value() : 0;
+        Health.Builder builder = timerQueued > maxQueued || requestsQueued > maxQueued ? Health.down() : Health.up();
+        return builder.withDetail(DETAIL_TIMER_QUEUED, timerQueued)
+                .withDetail(DETAIL_REQUESTS_QUEUED, requestsQueued)
+                .withDetail(DETAIL_MAX_QUEUED, maxQueued)
+                .build();
+    }
+
+    private double gaugeValue(String name, String pool) {
+        Gauge gauge = meterRegistry.find(name).tag(TAG_POOL, pool).gauge();
+        return gauge != null ? gauge.value() : Double.NaN;
+    }
+
+    private static Health safely(Supplier<Health> check) {
+        try {
+            return check.get();
+        } catch (RuntimeException e) {
+            return Health.down(e).build();
+        }
+    }
+
+    /**
+     * Results of one refresh
+     */
+    private static class Snapshot {
+        private final Map<String, Health> checks;
+        private final Instant refreshedAt;
+
+        private Snapshot(Map<String, Health> checks, Instant refreshedAt) {
+            this.checks = checks;
+            this.refreshedAt = refreshedAt;
+        }
+    }
+}
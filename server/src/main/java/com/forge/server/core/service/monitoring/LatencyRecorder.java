@@ -0,0 +1,194 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.shared.model.response.EndpointLatencyResponse;
+import com.forge.shared.model.response.LatencySummary;
+import com.forge.shared.model.response.SlowRequestResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Recorder
+ * <p>
+ * Records the latency of every request per endpoint in HdrHistograms, which keep the full
+ * distribution to three significant digits in constant memory, so tail percentiles are exact
+ * rather than the averages of averages a timer gauge gives. Requests record into a lock-free
+ * {@link Recorder}; on the shared timer each endpoint's interval histogram is swapped out,
+ * becomes the "recent" distribution and is added to the running total.
+ * <p>
+ * Requests slower than the threshold are also kept, with their time breakdown, in a fixed-size
+ * ring buffer that overwrites the oldest entries.
+ *
+ * @author Forge Team
+ */
+@Service
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MS = 1_000.0;
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowRequestResponse> slowRequests;
+    private final AtomicLong slowSequence = new AtomicLong();
+    private final long slowThresholdNanos;
+    private final Duration interval;
+    private final TimerService timerService;
+    private TimerHandle rotationTimer;
+
+    public LatencyRecorder(TimerService timerService,
+            @Value("${forge.latency.slow-threshold:500ms}") Duration slowThreshold,
+            @Value("${forge.latency.slow-buffer-size:256}") int slowBufferSize,
+            @Value("${forge.latency.interval:1m}") Duration interval) {
+        this.timerService = timerService;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowRequests = new AtomicReferenceArray<>(slowBufferSize);
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        rotationTimer = timerService.scheduleWithFixedDelay(this::rotate, interval, interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rotationTimer.cancel();
+    }
+
+    /**
+     * Records a completed request
+     *
+     * @param endpoint   HTTP method and route pattern
+     * @param handler    controller method that served the request
+     * @param uri        request URI
+     * @param status     response status
+     * @param timings    time breakdown of the request
+     * @param totalNanos total request time
+     */
+    public void record(String endpoint, String handler, String uri, int status, RequestTimings timings,
+            long totalNanos) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats(handler));
+        }
+        stats.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(totalNanos), HIGHEST_TRACKABLE_MICROS));
+        stats.requests.increment();
+        stats.jwtNanos.add(timings.getNanos(RequestTimings.Segment.JWT));
+        stats.databaseNanos.add(timings.getNanos(RequestTimings.Segment.DATABASE));
+        stats.pluginNanos.add(timings.getNanos(RequestTimings.Segment.PLUGIN));
+
+        if (totalNanos >= slowThresholdNanos) {
+            SlowRequestResponse slow = new SlowRequestResponse(LocalDateTime.now(), endpoint, uri, status,
+                    totalNanos / NANOS_PER_MS, timings.getNanos(RequestTimings.Segment.JWT) / NANOS_PER_MS,
+                    timings.getNanos(RequestTimings.Segment.DATABASE) / NANOS_PER_MS,
+                    timings.getCalls(RequestTimings.Segment.DATABASE),
+                    timings.getNanos(RequestTimings.Segment.PLUGIN) / NANOS_PER_MS);
+            long sequence = slowSequence.getAndIncrement();
+            slowRequests.set((int) (sequence % slowRequests.length()), slow);
+        }
+    }
+
+    /**
+     * Gets the latency of every endpoint that has served a request, slowest p99 first
+     *
+     * @return endpoint latencies as of the last rotation
+     */
+    public List<EndpointLatencyResponse> getEndpoints() {
+        List<EndpointLatencyResponse> result = new ArrayList<>(endpoints.size());
+        endpoints.forEach((endpoint, stats) -> result.add(stats.toResponse(endpoint)));
+        result.sort(Comparator.comparingDouble((EndpointLatencyResponse latency) -> latency.getTotal().getP99Ms())
+                .reversed());
+        return result;
+    }
+
+    /**
+     * Gets the sampled slow requests, newest first
+     *
+     * @return slow requests still in the ring buffer
+     */
+    public List<SlowRequestResponse> getSlowRequests() {
+        long newest = slowSequence.get();
+        int size = slowRequests.length();
+        List<SlowRequestResponse> result = new ArrayList<>(size);
+        for (long sequence = newest - 1; sequence >= 0 && sequence >= newest - size; sequence--) {
+            SlowRequestResponse slow = slowRequests.get((int) (sequence % size));
+            if (slow != null) {
+                result.add(slow);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Closes the current recording interval of every endpoint
+     */
+    public void rotate() {
+        endpoints.values().forEach(EndpointStats::rotate);
+    }
+
+    private static LatencySummary summarize(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new LatencySummary();
+        }
+        return new LatencySummary(histogram.getTotalCount(), histogram.getMean() / MICROS_PER_MS,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MS,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MS,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MS,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MS,
+                histogram.getMaxValue() / MICROS_PER_MS);
+    }
+
+    /**
+     * Histograms and breakdown totals of one endpoint
+     */
+    private static class EndpointStats {
+
+        private final String handler;
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder jwtNanos = new LongAdder();
+        private final LongAdder databaseNanos = new LongAdder();
+        private final LongAdder pluginNanos = new LongAdder();
+        private volatile LatencySummary recentSummary = new LatencySummary();
+        private volatile LatencySummary totalSummary = recentSummary;
+
+        EndpointStats(String handler) {
+            this.handler = handler;
+        }
+
+        synchronized void rotate() {
+            Histogram recent = recorder.getIntervalHistogram();
+            total.add(recent);
+            recentSummary = summarize(recent);
+            totalSummary = summarize(total);
+        }
+
+        EndpointLatencyResponse toResponse(String endpoint) {
+            double count = Math.max(1, requests.sum());
+            return new EndpointLatencyResponse(endpoint, handler, recentSummary, totalSummary,
+                    jwtNanos.sum() / count / NANOS_PER_MS, databaseNanos.sum() / count / NANOS_PER_MS,
+                    pluginNanos.sum() / count / NANOS_PER_MS);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.server.common.jfr.RepositoryCallEvent;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository Timing Post Processor
+ * <p>
+ * Adds an interceptor to every Spring Data repository proxy that charges the time of each
+ * repository call to the {@link RequestTimings.Segment#DATABASE} segment of the current request
+ * and emits a {@link RepositoryCallEvent} for calls over the event threshold. Work Hibernate
+ * defers past the call, such as a flush on commit of an outer transaction, is not included.
+ *
+ * @author Forge Team
+ */
+@Component
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            timingInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor timingInterceptor(String repository) {
+        return invocation -> {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            event.begin();
+            long began = RequestTimings.begin(RequestTimings.Segment.DATABASE);
+            boolean succeeded = false;
+            try {
+                Object result = invocation.proceed();
+                succeeded = true;
+                return result;
+            } finally {
+                RequestTimings.end(RequestTimings.Segment.DATABASE, began);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.setRepository(repository);
+                    event.setMethod(invocation.getMethod().getName());
+                    event.setSucceeded(succeeded);
+                    event.commit();
+                }
+            }
+        };
+    }
+}
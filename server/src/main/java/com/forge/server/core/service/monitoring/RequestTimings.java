@@ -0,0 +1,106 @@
+package com.forge.server.core.service.monitoring;
+
+/**
+ * Request Timings
+ * <p>
+ * Where the current request thread has spent its time, by segment. The request timing filter
+ * binds an instance to the thread for the duration of the request; instrumented code brackets
+ * its work with {@link #begin} and {@link #end}, which do nothing on threads without one. Nested
+ * calls within one segment, such as a repository calling another, are only counted once.
+ *
+ * @author Forge Team
+ */
+public final class RequestTimings {
+
+    /** Segment Enumeration */
+    public enum Segment {
+        JWT, DATABASE, PLUGIN
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final int SEGMENTS = Segment.values().length;
+
+    private final long startNanos;
+    private final long[] nanos = new long[SEGMENTS];
+    private final int[] calls = new int[SEGMENTS];
+    private final int[] depth = new int[SEGMENTS];
+
+    private RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts timing a request on the current thread
+     *
+     * @return timings of the request
+     */
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Stops timing on the current thread
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Marks the start of work in a segment
+     *
+     * @param segment segment the work belongs to
+     * @return start time, to be passed to {@link #end}
+     */
+    public static long begin(Segment segment) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.depth[segment.ordinal()]++;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of work in a segment
+     *
+     * @param segment segment the work belongs to
+     * @param began   value returned by the matching {@link #begin}
+     */
+    public static void end(Segment segment, long began) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && --timings.depth[segment.ordinal()] == 0) {
+            timings.nanos[segment.ordinal()] += System.nanoTime() - began;
+            timings.calls[segment.ordinal()]++;
+        }
+    }
+
+    /**
+     * Gets the time at which the request started
+     *
+     * @return start time, in {@link System#nanoTime} units
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Gets the time spent in a segment
+     *
+     * @param segment segment
+     * @return nanoseconds spent
+     */
+    public long getNanos(Segment segment) {
+        return nanos[segment.ordinal()];
+    }
+
+    /**
+     * Gets the number of outermost calls made in a segment
+     *
+     * @param segment segment
+     * @return call count
+     */
+    public int getCalls(Segment segment) {
+        return calls[segment.ordinal()];
+    }
+}
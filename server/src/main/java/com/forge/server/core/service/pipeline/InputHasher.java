@@ -0,0 +1,163 @@
+package com.forge.server.core.service.pipeline;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Input Hasher
+ * <p>
+ * Computes the cache key of a step from its declared input files and environment keys.
+ * File content hashes are remembered by path and reused while a file's modification time and
+ * size are unchanged, so repeated runs over a mostly unchanged workspace only re-read the files
+ * that were touched.
+ *
+ * @author Forge Team
+ */
+@Component
+public class InputHasher {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String GLOB_SYNTAX = "glob:";
+    private static final String MISSING_VALUE = "\u0000unset";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Map<Path, FileFingerprint> fingerprints;
+
+    public InputHasher(@Value("${forge.pipeline.step-cache.max-tracked-files:100000}") int maxTrackedFiles) {
+        this.fingerprints = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, FileFingerprint> eldest) {
+                return size() > maxTrackedFiles;
+            }
+        };
+    }
+
+    /**
+     * Computes the cache key of a step
+     *
+     * @param step        cacheable step
+     * @param workspace   workspace the input globs are resolved against
+     * @param environment environment the step runs with
+     * @return hex-encoded SHA-256 cache key
+     * @throws IOException if an input file cannot be read
+     */
+    public String computeKey(PipelineStep step, Path workspace, Map<String, String> environment) throws IOException {
+        StepCacheSpec spec = step.getCacheSpec();
+        MessageDigest digest = newDigest();
+        update(digest, step.getKey());
+        spec.getOutputGlobs().forEach(glob -> update(digest, glob));
+
+        for (String relativePath : matchFiles(workspace, spec.getInputGlobs())) {
+            update(digest, relativePath);
+            digest.update(hashFile(workspace.resolve(relativePath)));
+        }
+        for (String key : new TreeSet<>(spec.getEnvironmentKeys())) {
+            update(digest, key);
+            update(digest, environment.getOrDefault(key, MISSING_VALUE));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Lists the regular files under a workspace matching any of the globs
+     *
+     * @param workspace workspace root
+     * @param globs     globs relative to the workspace
+     * @return sorted workspace-relative paths using '/' separators
+     * @throws IOException if the workspace cannot be walked
+     */
+    public TreeSet<String> matchFiles(Path workspace, List<String> globs) throws IOException {
+        List<PathMatcher> matchers = globs.stream()
+                .map(glob -> FileSystems.getDefault().getPathMatcher(GLOB_SYNTAX + glob))
+                .toList();
+        TreeSet<String> matched = new TreeSet<>();
+        if (matchers.isEmpty() || !Files.isDirectory(workspace)) {
+            return matched;
+        }
+        try (Stream<Path> files = Files.walk(workspace)) {
+            files.filter(Files::isRegularFile)
+                    .map(workspace::relativize)
+                    .filter(relative -> matchers.stream().anyMatch(matcher -> matcher.matches(relative)))
+                    .forEach(relative -> matched.add(relative.toString().replace('\\', '/')));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return matched;
+    }
+
+    private byte[] hashFile(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        FileFingerprint cached;
+        synchronized (fingerprints) {
+            cached = fingerprints.get(key);
+        }
+        if (cached != null && cached.modified == modified && cached.size == size) {
+            return cached.hash;
+        }
+
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(key), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // Reading drives the digest
+            }
+        }
+        byte[] hash = digest.digest();
+        synchronized (fingerprints) {
+            fingerprints.put(key, new FileFingerprint(modified, size, hash));
+        }
+        return hash;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Content hash of a file as of a given modification time and size
+     */
+    private static class FileFingerprint {
+
+        private final long modified;
+        private final long size;
+        private final byte[] hash;
+
+        FileFingerprint(long modified, long size, byte[] hash) {
+            this.modified = modified;
+            this.size = size;
+            this.hash = hash;
+        }
+    }
+}
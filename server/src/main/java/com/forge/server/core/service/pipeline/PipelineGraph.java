@@ -0,0 +1,140 @@
+package com.forge.server.core.service.pipeline;
+
+import com.forge.server.common.exception.PipelineDefinitionException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Pipeline Graph
+ * <p>
+ * Immutable, validated DAG of pipeline steps with a precomputed topological order.
+ *
+ * @author Forge Team
+ */
+public class PipelineGraph {
+
+    private static final String ERROR_DUPLICATE_STEP = "Duplicate pipeline step id: %s";
+    private static final String ERROR_UNKNOWN_DEPENDENCY = "Step '%s' depends on unknown step '%s'";
+    private static final String ERROR_CYCLE = "Pipeline steps contain a dependency cycle";
+
+    private final String pipelineName;
+    private final Map<String, PipelineStep> steps;
+    private final Map<String, List<String>> successors;
+    private final List<String> topologicalOrder;
+
+    /**
+     * Builds and validates a pipeline graph
+     *
+     * @param pipelineName name of the pipeline, used to tag metrics
+     * @param stepList     steps of the pipeline
+     * @throws PipelineDefinitionException if the steps do not form a DAG
+     */
+    public PipelineGraph(String pipelineName, List<PipelineStep> stepList) {
+        this.pipelineName = pipelineName;
+        this.steps = new LinkedHashMap<>();
+        for (PipelineStep step : stepList) {
+            if (steps.putIfAbsent(step.getId(), step) != null) {
+                throw new PipelineDefinitionException(String.format(ERROR_DUPLICATE_STEP, step.getId()));
+            }
+        }
+
+        this.successors = new HashMap<>();
+        for (PipelineStep step : steps.values()) {
+            successors.putIfAbsent(step.getId(), new ArrayList<>());
+            for (String dependency : step.getDependsOn()) {
+                if (!steps.containsKey(dependency)) {
+                    throw new PipelineDefinitionException(
+                            String.format(ERROR_UNKNOWN_DEPENDENCY, step.getId(), dependency));
+                }
+                successors.computeIfAbsent(dependency, id -> new ArrayList<>()).add(step.getId());
+            }
+        }
+        this.topologicalOrder = Collections.unmodifiableList(sortTopologically());
+    }
+
+    public String getPipelineName() {
+        return pipelineName;
+    }
+
+    public PipelineStep getStep(String stepId) {
+        return steps.get(stepId);
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    /**
+     * Gets the steps that directly depend on a step
+     *
+     * @param stepId step id
+     * @return successor step ids
+     */
+    public List<String> getSuccessors(String stepId) {
+        return successors.getOrDefault(stepId, List.of());
+    }
+
+    /**
+     * Gets all step ids such that every step appears after its dependencies
+     *
+     * @return topologically ordered step ids
+     */
+    public List<String> getTopologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /**
+     * Computes each step's remaining critical path: its own duration plus the longest chain of
+     * durations through its successors to the end of the pipeline
+     *
+     * @param duration duration of each step in milliseconds
+     * @return remaining critical path per step id, in milliseconds
+     */
+    public Map<String, Long> remainingCriticalPaths(ToLongFunction<PipelineStep> duration) {
+        Map<String, Long> criticalPaths = new HashMap<>();
+        for (int i = topologicalOrder.size() - 1; i >= 0; i--) {
+            String id = topologicalOrder.get(i);
+            long longestSuccessor = 0;
+            for (String successor : getSuccessors(id)) {
+                longestSuccessor = Math.max(longestSuccessor, criticalPaths.get(successor));
+            }
+            criticalPaths.put(id, duration.applyAsLong(steps.get(id)) + longestSuccessor);
+        }
+        return criticalPaths;
+    }
+
+    private List<String> sortTopologically() {
+        Map<String, Integer> inDegree = new HashMap<>();
+        Deque<String> ready = new ArrayDeque<>();
+        for (PipelineStep step : steps.values()) {
+            inDegree.put(step.getId(), step.getDependsOn().size());
+            if (step.getDependsOn().isEmpty()) {
+                ready.add(step.getId());
+            }
+        }
+
+        List<String> order = new ArrayList<>(steps.size());
+        while (!ready.isEmpty()) {
+            String id = ready.poll();
+            order.add(id);
+            for (String successor : getSuccessors(id)) {
+                if (inDegree.merge(successor, -1, Integer::sum) == 0) {
+                    ready.add(successor);
+                }
+            }
+        }
+
+        if (order.size() != steps.size()) {
+            throw new PipelineDefinitionException(ERROR_CYCLE);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,195 @@
+package com.forge.server.core.service.pipeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Pipeline Run
+ * <p>
+ * Execution state of one pipeline run. Ready steps are handed out longest remaining critical
+ * path first, so when executors are scarce the chain that bounds wall-clock time starts first.
+ * Instances are created by {@link CriticalPathScheduler} and are safe for concurrent use.
+ *
+ * @author Forge Team
+ */
+public class PipelineRun {
+
+    private final PipelineGraph graph;
+    private final int maxParallelism;
+    private final Map<String, Long> remainingCriticalPath;
+    private final Map<String, Integer> pendingDependencies;
+    private final Map<String, Long> actualDurations;
+    private final Map<String, Duration> timeSaved;
+    private final PriorityQueue<String> ready;
+    private final Consumer<PipelineRun> onComplete;
+    private final long startNanos;
+
+    private long endNanos;
+    private int running;
+    private boolean failed;
+
+    PipelineRun(PipelineGraph graph, int maxParallelism, Map<String, Long> remainingCriticalPath,
+            Consumer<PipelineRun> onComplete) {
+        this.graph = graph;
+        this.maxParallelism = maxParallelism;
+        this.remainingCriticalPath = remainingCriticalPath;
+        this.onComplete = onComplete;
+        this.pendingDependencies = new HashMap<>();
+        this.actualDurations = new HashMap<>();
+        this.timeSaved = new HashMap<>();
+        Map<String, Integer> topologicalIndex = new HashMap<>();
+        for (String stepId : graph.getTopologicalOrder()) {
+            topologicalIndex.put(stepId, topologicalIndex.size());
+        }
+        // Longest remaining critical path first; ties fall back to declaration order for stable dispatch
+        this.ready = new PriorityQueue<>(Comparator.<String>comparingLong(remainingCriticalPath::get).reversed()
+                .thenComparing(topologicalIndex::get));
+        this.startNanos = System.nanoTime();
+
+        for (String stepId : graph.getTopologicalOrder()) {
+            int dependencies = graph.getStep(stepId).getDependsOn().size();
+            pendingDependencies.put(stepId, dependencies);
+            if (dependencies == 0) {
+                ready.add(stepId);
+            }
+        }
+    }
+
+    /**
+     * Takes up to availableExecutors ready steps, longest remaining critical path first
+     *
+     * @param availableExecutors number of idle executors
+     * @return steps to dispatch now, possibly empty
+     */
+    public synchronized List<PipelineStep> nextReady(int availableExecutors) {
+        List<PipelineStep> dispatch = new ArrayList<>();
+        while (!failed && dispatch.size() < availableExecutors && !ready.isEmpty()) {
+            dispatch.add(graph.getStep(ready.poll()));
+        }
+        running += dispatch.size();
+        return dispatch;
+    }
+
+    /**
+     * Marks a dispatched step as finished and releases the steps that were waiting on it
+     *
+     * @param stepId   finished step id
+     * @param duration how long the step took
+     */
+    public synchronized void stepCompleted(String stepId, Duration duration) {
+        running--;
+        actualDurations.put(stepId, duration.toMillis());
+        for (String successor : graph.getSuccessors(stepId)) {
+            if (pendingDependencies.merge(successor, -1, Integer::sum) == 0) {
+                ready.add(successor);
+            }
+        }
+        if (actualDurations.size() == graph.size()) {
+            endNanos = System.nanoTime();
+            onComplete.accept(this);
+        }
+    }
+
+    /**
+     * Marks a dispatched step as skipped because its outputs were restored from the step cache
+     *
+     * @param stepId      skipped step id
+     * @param restoreTime how long restoring the outputs took
+     * @param saved       execution time saved by the cache hit
+     */
+    public synchronized void stepRestoredFromCache(String stepId, Duration restoreTime, Duration saved) {
+        timeSaved.put(stepId, saved);
+        stepCompleted(stepId, restoreTime);
+    }
+
+    /**
+     * Marks a dispatched step as failed; no further steps are handed out
+     *
+     * @param stepId failed step id
+     */
+    public synchronized void stepFailed(String stepId) {
+        running--;
+        failed = true;
+    }
+
+    public synchronized boolean isComplete() {
+        return actualDurations.size() == graph.size();
+    }
+
+    public synchronized boolean isFailed() {
+        return failed;
+    }
+
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    public PipelineGraph getGraph() {
+        return graph;
+    }
+
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    /**
+     * Gets the estimated remaining critical path of a step at the time the run started
+     *
+     * @param stepId step id
+     * @return remaining critical path in milliseconds
+     */
+    public long getRemainingCriticalPathMillis(String stepId) {
+        return remainingCriticalPath.get(stepId);
+    }
+
+    /**
+     * Gets the observed duration of a completed step
+     *
+     * @param stepId step id
+     * @return observed duration in milliseconds, or null if the step has not completed
+     */
+    public synchronized Long getObservedDurationMillis(String stepId) {
+        return actualDurations.get(stepId);
+    }
+
+    /**
+     * Gets the execution time saved by each step restored from the step cache
+     *
+     * @return time saved per step id
+     */
+    public synchronized Map<String, Duration> getTimeSaved() {
+        return Map.copyOf(timeSaved);
+    }
+
+    /**
+     * Gets the wall-clock time from start to the completion of the last step
+     *
+     * @return achieved makespan, or null while the run is incomplete
+     */
+    public synchronized Duration getMakespan() {
+        return isComplete() ? Duration.ofNanos(endNanos - startNanos) : null;
+    }
+
+    /**
+     * Gets the theoretical lower bound on makespan for the observed step durations: the longer of
+     * the critical path and the total work spread perfectly across maxParallelism executors
+     *
+     * @return makespan lower bound, or null while the run is incomplete
+     */
+    public synchronized Duration getMakespanLowerBound() {
+        if (!isComplete()) {
+            return null;
+        }
+        long criticalPath = graph.remainingCriticalPaths(step -> actualDurations.get(step.getId())).values()
+                .stream().mapToLong(Long::longValue).max().orElse(0L);
+        long totalWork = actualDurations.values().stream().mapToLong(Long::longValue).sum();
+        long perfectlyParallel = (totalWork + maxParallelism - 1) / maxParallelism;
+        return Duration.ofMillis(Math.max(criticalPath, perfectlyParallel));
+    }
+}
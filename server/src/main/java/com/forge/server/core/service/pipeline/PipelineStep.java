@@ -0,0 +1,55 @@
+package com.forge.server.core.service.pipeline;
+
+import java.util.Set;
+
+/**
+ * A single step in a pipeline DAG.
+ * <p>
+ * The step id is unique within one pipeline; the step key identifies the same logical step
+ * across runs (e.g. "build" or "test-shard-3") and is what historical durations are tracked by.
+ * Steps with a {@link StepCacheSpec} can be skipped when their declared inputs are unchanged.
+ *
+ * @author Forge Team
+ */
+public class PipelineStep {
+
+    private final String id;
+    private final String key;
+    private final Set<String> dependsOn;
+    private final StepCacheSpec cacheSpec;
+
+    public PipelineStep(String id, String key, Set<String> dependsOn, StepCacheSpec cacheSpec) {
+        this.id = id;
+        this.key = key;
+        this.dependsOn = dependsOn != null ? Set.copyOf(dependsOn) : Set.of();
+        this.cacheSpec = cacheSpec;
+    }
+
+    public PipelineStep(String id, String key, Set<String> dependsOn) {
+        this(id, key, dependsOn, null);
+    }
+
+    public PipelineStep(String id, Set<String> dependsOn) {
+        this(id, id, dependsOn);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Set<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    public StepCacheSpec getCacheSpec() {
+        return cacheSpec;
+    }
+
+    public boolean isCacheable() {
+        return cacheSpec != null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.forge.server.core.service.pipeline;
+
+import java.util.List;
+
+/**
+ * Step Cache Specification
+ * <p>
+ * Declares what a cacheable step reads and writes. Input and output globs are matched against
+ * paths relative to the workspace (e.g. "src/**" or "*.gradle"); environment keys name the variables
+ * whose values affect the step's result.
+ *
+ * @author Forge Team
+ */
+public class StepCacheSpec {
+
+    private final List<String> inputGlobs;
+    private final List<String> environmentKeys;
+    private final List<String> outputGlobs;
+
+    public StepCacheSpec(List<String> inputGlobs, List<String> environmentKeys, List<String> outputGlobs) {
+        this.inputGlobs = inputGlobs != null ? List.copyOf(inputGlobs) : List.of();
+        this.environmentKeys = environmentKeys != null ? List.copyOf(environmentKeys) : List.of();
+        this.outputGlobs = outputGlobs != null ? List.copyOf(outputGlobs) : List.of();
+    }
+
+    public List<String> getInputGlobs() {
+        return inputGlobs;
+    }
+
+    public List<String> getEnvironmentKeys() {
+        return environmentKeys;
+    }
+
+    public List<String> getOutputGlobs() {
+        return outputGlobs;
+    }
+}
@@ -0,0 +1,51 @@
+package com.forge.server.core.service.pipeline;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Step Duration History
+ * <p>
+ * Keeps an exponentially weighted moving average of observed durations per step key,
+ * used to estimate how long a step will take the next time it runs.
+ *
+ * @author Forge Team
+ */
+@Component
+public class StepDurationHistory {
+
+    private static final double SMOOTHING = 0.3;
+
+    private final Map<String, Double> averageMillis = new ConcurrentHashMap<>();
+    private final long defaultEstimateMillis;
+
+    public StepDurationHistory(@Value("${forge.pipeline.default-step-duration:60s}") Duration defaultEstimate) {
+        this.defaultEstimateMillis = defaultEstimate.toMillis();
+    }
+
+    /**
+     * Records an observed step duration
+     *
+     * @param stepKey  step key
+     * @param duration observed duration
+     */
+    public void record(String stepKey, Duration duration) {
+        double observed = duration.toMillis();
+        averageMillis.merge(stepKey, observed, (previous, current) -> previous + SMOOTHING * (current - previous));
+    }
+
+    /**
+     * Estimates the duration of a step, falling back to the configured default for unseen steps
+     *
+     * @param stepKey step key
+     * @return estimated duration in milliseconds
+     */
+    public long estimateMillis(String stepKey) {
+        Double average = averageMillis.get(stepKey);
+        return average != null ? Math.round(average) : defaultEstimateMillis;
+    }
+}
@@ -0,0 +1,207 @@
+package com.forge.server.core.service.pipeline;
+
+import com.forge.server.core.service.cache.BuildCacheService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Step Result Cache
+ * <p>
+ * Skips cacheable pipeline steps whose inputs have not changed. A step's outputs are archived
+ * into the build cache under the hash of its inputs; on a later run with the same hash the
+ * outputs are restored into the workspace instead of running the step. The archive records how
+ * long the step originally took, so each hit reports the time it saved.
+ *
+ * @author Forge Team
+ */
+@Service
+public class StepResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepResultCache.class);
+
+    private static final String CACHE_NAMESPACE = "steps";
+    private static final String METADATA_ENTRY = ".forge-step-result";
+    private static final String METRIC_LOOKUPS = "forge.pipeline.step.cache";
+    private static final String TAG_RESULT = "result";
+    private static final String ERROR_ENTRY_OUTSIDE_WORKSPACE = "Cached output escapes the workspace: %s";
+    private static final String LOG_RESTORED = "Restored step {} from cache {} in {} ms, saving {} ms";
+    private static final String LOG_RESTORE_FAILED = "Failed to restore step {} from cache {}, running it instead: {}";
+
+    private final BuildCacheService buildCacheService;
+    private final InputHasher inputHasher;
+    private final Counter hits;
+    private final Counter misses;
+
+    public StepResultCache(BuildCacheService buildCacheService, InputHasher inputHasher,
+            MeterRegistry meterRegistry) {
+        this.buildCacheService = buildCacheService;
+        this.inputHasher = inputHasher;
+        this.hits = Counter.builder(METRIC_LOOKUPS).tag(TAG_RESULT, "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_LOOKUPS).tag(TAG_RESULT, "miss").register(meterRegistry);
+    }
+
+    /**
+     * Looks a step up in the cache and, on a hit, restores its outputs into the workspace
+     *
+     * @param step        step about to run
+     * @param workspace   workspace the step runs in
+     * @param environment environment the step runs with
+     * @return the lookup result; a miss carries the key to {@link #store} the step's outputs under
+     * @throws IOException if the step's inputs cannot be hashed
+     */
+    public CacheLookup lookup(PipelineStep step, Path workspace, Map<String, String> environment)
+            throws IOException {
+        if (!step.isCacheable()) {
+            return CacheLookup.uncacheable();
+        }
+        String key = inputHasher.computeKey(step, workspace, environment);
+        long start = System.nanoTime();
+
+        Optional<BuildCacheService.BuildCacheEntry> entry = buildCacheService.get(CACHE_NAMESPACE, key);
+        if (entry.isPresent()) {
+            try (InputStream in = entry.get().getInputStream()) {
+                Duration originalDuration = extract(in, workspace);
+                Duration restoreTime = Duration.ofNanos(System.nanoTime() - start);
+                Duration saved = originalDuration.minus(restoreTime);
+                hits.increment();
+                logger.debug(LOG_RESTORED, step.getId(), key, restoreTime.toMillis(), saved.toMillis());
+                return CacheLookup.hit(key, restoreTime, saved.isNegative() ? Duration.ZERO : saved);
+            } catch (IOException e) {
+                logger.warn(LOG_RESTORE_FAILED, step.getId(), key, e.getMessage());
+            }
+        }
+        misses.increment();
+        return CacheLookup.miss(key);
+    }
+
+    /**
+     * Archives a step's outputs after it has run
+     *
+     * @param step          step that ran
+     * @param lookup        the miss returned by {@link #lookup} before the step ran
+     * @param workspace     workspace the step ran in
+     * @param executionTime how long the step took
+     * @throws IOException if the outputs cannot be archived
+     */
+    public void store(PipelineStep step, CacheLookup lookup, Path workspace, Duration executionTime)
+            throws IOException {
+        if (lookup.getKey() == null || lookup.isHit()) {
+            return;
+        }
+        Path archive = Files.createTempFile(CACHE_NAMESPACE, ".zip");
+        try {
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+                zip.putNextEntry(new ZipEntry(METADATA_ENTRY));
+                zip.write(Long.toString(executionTime.toMillis()).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+                for (String relativePath : inputHasher.matchFiles(workspace, step.getCacheSpec().getOutputGlobs())) {
+                    zip.putNextEntry(new ZipEntry(relativePath));
+                    Files.copy(workspace.resolve(relativePath), zip);
+                    zip.closeEntry();
+                }
+            }
+            try (InputStream in = Files.newInputStream(archive)) {
+                buildCacheService.put(CACHE_NAMESPACE, lookup.getKey(), in);
+            }
+        } finally {
+            Files.deleteIfExists(archive);
+        }
+    }
+
+    private Duration extract(InputStream in, Path workspace) throws IOException {
+        Path root = workspace.toAbsolutePath().normalize();
+        long originalMillis = 0;
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (METADATA_ENTRY.equals(entry.getName())) {
+                    originalMillis = Long.parseLong(new String(zip.readAllBytes(), StandardCharsets.UTF_8).trim());
+                    continue;
+                }
+                Path target = root.resolve(entry.getName()).normalize();
+                if (!target.startsWith(root)) {
+                    throw new IOException(String.format(ERROR_ENTRY_OUTSIDE_WORKSPACE, entry.getName()));
+                }
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    zip.transferTo(out);
+                }
+            }
+        }
+        return Duration.ofMillis(originalMillis);
+    }
+
+    /**
+     * Result of a step cache lookup
+     */
+    public static class CacheLookup {
+
+        private final String key;
+        private final boolean hit;
+        private final Duration restoreTime;
+        private final Duration timeSaved;
+
+        private CacheLookup(String key, boolean hit, Duration restoreTime, Duration timeSaved) {
+            this.key = key;
+            this.hit = hit;
+            this.restoreTime = restoreTime;
+            this.timeSaved = timeSaved;
+        }
+
+        static CacheLookup uncacheable() {
+            return new CacheLookup(null, false, Duration.ZERO, Duration.ZERO);
+        }
+
+        static CacheLookup miss(String key) {
+            return new CacheLookup(key, false, Duration.ZERO, Duration.ZERO);
+        }
+
+        static CacheLookup hit(String key, Duration restoreTime, Duration timeSaved) {
+            return new CacheLookup(key, true, restoreTime, timeSaved);
+        }
+
+        /**
+         * Gets the input hash of the step
+         *
+         * @return cache key, or null if the step is not cacheable
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Checks whether the step's outputs were restored and the step can be skipped
+         *
+         * @return true on a cache hit
+         */
+        public boolean isHit() {
+            return hit;
+        }
+
+        public Duration getRestoreTime() {
+            return restoreTime;
+        }
+
+        public Duration getTimeSaved() {
+            return timeSaved;
+        }
+    }
+}
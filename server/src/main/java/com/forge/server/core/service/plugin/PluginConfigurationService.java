@@ -1,5 +1,11 @@
 package com.forge.server.core.service.plugin;
 
+import com.forge.server.common.jfr.PluginConfigurationIoEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -10,71 +16,104 @@ import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.logging.Logger;
 
 @Service
 public class PluginConfigurationService {
 
-    private static final Logger logger = Logger.getLogger(PluginConfigurationService.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(PluginConfigurationService.class);
     private static final String CONFIG_DIR = "plugins/config";
     private static final String CONFIG_FILE_EXTENSION = ".properties";
-    private static final String SAVING_CONFIGURATION_FOR_PLUGIN = "Saving configuration for plugin: ";
-    private static final String CONFIGURATION_SAVED_SUCCESSFULLY = "Configuration saved successfully for plugin: ";
-    private static final String ERROR_SAVING_CONFIGURATION = "Error saving configuration for plugin: ";
-    private static final String LOADING_CONFIGURATION_FOR_PLUGIN = "Loading configuration for plugin: ";
-    private static final String CONFIGURATION_LOADED_SUCCESSFULLY = "Configuration loaded successfully for plugin: ";
-    private static final String ERROR_LOADING_CONFIGURATION = "Error loading configuration for plugin: ";
-    private static final String NO_CONFIGURATION_FILE_FOUND_FOR_PLUGIN = "No configuration file found for plugin: ";
-    private static final String RELOADING_CONFIGURATION_FOR_PLUGIN = "Reloading configuration for plugin: ";
+    private static final String LOG_CONFIGURATION_SAVED = "Saved {} configuration entries for plugin {}";
+    private static final String LOG_CONFIGURATION_LOADED = "Loaded {} configuration entries for plugin {}";
+    private static final String LOG_NO_CONFIGURATION_FILE = "No configuration file found for plugin {}";
+    private static final String LOG_ERROR_LOADING_CONFIGURATION = "Error loading configuration for plugin {}: {}";
+    private static final String STEP_CONFIGURATION_LOAD = "forge.plugins.config.load";
+    private static final String TAG_PLUGIN = "plugin";
+
+    private final ApplicationStartup applicationStartup;
+
+    public PluginConfigurationService(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
 
     public void savePluginConfiguration(String pluginName, Map<String, String> config) throws IOException {
-        logger.info(SAVING_CONFIGURATION_FOR_PLUGIN + pluginName);
-        
-        Path configDir = Paths.get(CONFIG_DIR);
-        if (!Files.exists(configDir)) {
-            Files.createDirectories(configDir);
-        }
+        PluginConfigurationIoEvent event = new PluginConfigurationIoEvent();
+        event.begin();
 
+        Path configDir = Paths.get(CONFIG_DIR);
         Path configFile = configDir.resolve(pluginName.toLowerCase() + CONFIG_FILE_EXTENSION);
-        Properties properties = new Properties();
-        properties.putAll(config);
-        
         try {
-            properties.store(Files.newOutputStream(configFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING), 
-                           "Plugin configuration for " + pluginName);
-            logger.info(CONFIGURATION_SAVED_SUCCESSFULLY + pluginName);
-        } catch (IOException e) {
-            logger.severe(ERROR_SAVING_CONFIGURATION + pluginName + " - " + e.getMessage());
-            throw e;
+            if (!Files.exists(configDir)) {
+                Files.createDirectories(configDir);
+            }
+
+            Properties properties = new Properties();
+            properties.putAll(config);
+
+            try (var outputStream = Files.newOutputStream(configFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                properties.store(outputStream, "Plugin configuration for " + pluginName);
+            }
+            logger.debug(LOG_CONFIGURATION_SAVED, config.size(), pluginName);
+        } finally {
+            commit(event, PluginConfigurationIoEvent.Operation.SAVE, pluginName, configFile, config.size());
         }
     }
 
     public Map<String, String> loadPluginConfiguration(String pluginName) {
-        logger.info(LOADING_CONFIGURATION_FOR_PLUGIN + pluginName);
+        PluginConfigurationIoEvent event = new PluginConfigurationIoEvent();
+        event.begin();
+        StartupStep step = applicationStartup.start(STEP_CONFIGURATION_LOAD).tag(TAG_PLUGIN, pluginName);
 
         Path configFile = Paths.get(CONFIG_DIR, pluginName.toLowerCase() + CONFIG_FILE_EXTENSION);
-        if (!Files.exists(configFile)) {
-            logger.info(NO_CONFIGURATION_FILE_FOUND_FOR_PLUGIN + pluginName);
-            return new HashMap<>();
-        }
+        Map<String, String> config = new HashMap<>();
+        try {
+            if (!Files.exists(configFile)) {
+                logger.debug(LOG_NO_CONFIGURATION_FILE, pluginName);
+                return config;
+            }
 
-        Properties properties = new Properties();
-        try (var inputStream = Files.newInputStream(configFile)) {
-            properties.load(inputStream);
-            Map<String, String> config = new HashMap<>();
-            for (String key : properties.stringPropertyNames()) {
-                config.put(key, properties.getProperty(key));
+            Properties properties = new Properties();
+            try (var inputStream = Files.newInputStream(configFile)) {
+                properties.load(inputStream);
+                for (String key : properties.stringPropertyNames()) {
+                    config.put(key, properties.getProperty(key));
+                }
+                logger.debug(LOG_CONFIGURATION_LOADED, config.size(), pluginName);
+                return config;
+            } catch (IOException e) {
+                logger.warn(LOG_ERROR_LOADING_CONFIGURATION, pluginName, e.getMessage());
+                return new HashMap<>();
             }
-            logger.info(CONFIGURATION_LOADED_SUCCESSFULLY + pluginName);
-            return config;
+        } finally {
+            step.end();
+            commit(event, PluginConfigurationIoEvent.Operation.LOAD, pluginName, configFile, config.size());
+        }
+    }
+
+    /**
+     * Commits a configuration I/O event if it is being recorded; the file size is only read then
+     */
+    private static void commit(PluginConfigurationIoEvent event, PluginConfigurationIoEvent.Operation operation,
+            String pluginName, Path configFile, int entries) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setOperation(operation);
+        event.setPluginName(pluginName);
+        event.setPath(configFile.toString());
+        event.setEntries(entries);
+        try {
+            event.setBytes(Files.size(configFile));
+            event.setFileFound(true);
         } catch (IOException e) {
-            logger.warning(ERROR_LOADING_CONFIGURATION + pluginName + " - " + e.getMessage());
-            return new HashMap<>();
+            event.setFileFound(false);
         }
+        event.commit();
     }
 
     public void reloadPluginConfiguration(String pluginName) {
-        logger.info(RELOADING_CONFIGURATION_FOR_PLUGIN + pluginName);
         loadPluginConfiguration(pluginName);
     }
 }
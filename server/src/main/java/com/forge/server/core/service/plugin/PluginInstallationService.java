@@ -6,24 +6,22 @@ import com.forge.server.plugins.api.Plugin;
 import com.forge.server.plugins.api.PluginState;
 import com.forge.shared.model.response.PluginInstallResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 @Service
 public class PluginInstallationService {
 
     private static final String PLUGIN_INSTALLED_SUCCESSFULLY = "Plugin installed successfully";
-    private static final String PLUGIN_ALREADY_SUCCESSFULLY = "Plugin already installed: ";
     private static final String ERROR_PLUGIN_ALREADY_INSTALLED = "Plugin '%s' is already installed";
     private static final String PLUGIN_INSTALLATION_FAILED = "Plugin installation failed: ";
     private static final String ERROR_PLUGIN_INSTALLATION_FAILED = PLUGIN_INSTALLATION_FAILED + " %s";
-    private static final String ERROR_DURING_PLUGIN_INSTALLATION = "I/O error during plugin installation: ";
-    private static final String INSTALLING_PLUGIN = "Installing plugin: ";
+    private static final String LOG_INSTALLING_PLUGIN = "Installing plugin: {}";
 
-    private static final Logger logger = Logger.getLogger(PluginInstallationService.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(PluginInstallationService.class);
 
     private final PluginManager pluginManager;
 
@@ -32,11 +30,10 @@ public class PluginInstallationService {
     }
 
     public PluginInstallResponse installPlugin(String pluginName) {
-        logger.info(INSTALLING_PLUGIN + pluginName);
+        logger.debug(LOG_INSTALLING_PLUGIN, pluginName);
         try {
             Plugin existingPlugin = pluginManager.getPlugin(pluginName);
             if (existingPlugin != null) {
-                logger.warning(PLUGIN_ALREADY_SUCCESSFULLY + pluginName);
                 throw new PluginException(String.format(ERROR_PLUGIN_ALREADY_INSTALLED, pluginName));
             }
 
@@ -44,7 +41,6 @@ public class PluginInstallationService {
             try {
                 installedPlugin = pluginManager.installPlugin(pluginName);
             } catch (IOException e) {
-                logger.log(Level.SEVERE, ERROR_DURING_PLUGIN_INSTALLATION + pluginName + " - " + e.getMessage(), e);
                 throw new PluginException(
                         String.format(ERROR_PLUGIN_INSTALLATION_FAILED, "I/O error: " + e.getMessage()), e);
             }
@@ -55,15 +51,11 @@ public class PluginInstallationService {
             response.setState(
                     installedPlugin.getState() != null ? installedPlugin.getState().name() : PluginState.LOADED.name());
             response.setMessage(PLUGIN_INSTALLED_SUCCESSFULLY);
-            logger.info(PLUGIN_INSTALLED_SUCCESSFULLY + ": " + pluginName);
             return response;
         } catch (PluginException e) {
-            logger.log(Level.SEVERE, PLUGIN_INSTALLATION_FAILED + pluginName + " - " + e.getMessage(), e);
             throw e;
         } catch (Exception e) {
-            logger.log(Level.SEVERE, PLUGIN_INSTALLATION_FAILED + pluginName + " - " + e.getMessage(), e);
             throw new PluginException(String.format(ERROR_PLUGIN_INSTALLATION_FAILED, e.getMessage()), e);
         }
     }
 }
-
@@ -0,0 +1,371 @@
+package com.forge.server.core.service.registration;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forge.shared.model.request.RegisterRequest;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.PasswordEncoderService;
+import com.forge.server.core.service.validation.UserValidationService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk User Provisioning Service
+ * <p>
+ * Registers many users from a stream of registration requests (newline-delimited JSON or a JSON
+ * array). Rows are read incrementally and processed in fixed-size chunks, so memory use does not
+ * grow with the size of the import. For each chunk:
+ * <ol>
+ * <li>rows are validated and duplicates are rejected, both within the chunk and against the
+ * database with one IN query per field;</li>
+ * <li>passwords are hashed in parallel on a bounded pool shared by all imports;</li>
+ * <li>the users are inserted in a single transaction through Hibernate JDBC batching. If the batch
+ * hits a unique constraint (a concurrent registration), the chunk is retried row by row.</li>
+ * </ol>
+ * Every row produces exactly one result, reported in input order.
+ *
+ * @author Forge Team
+ */
+@Service
+public class BulkUserProvisioningService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkUserProvisioningService.class);
+
+    private static final String HASH_THREAD_PREFIX = "forge-password-hash-";
+    private static final int HASH_QUEUE_PER_THREAD = 4;
+    private static final String METRIC_PROVISIONED = "forge.users.provisioned";
+    private static final String TAG_RESULT = "result";
+    private static final String ERROR_DUPLICATE_IN_CHUNK = "Duplicate of an earlier row in this import";
+    private static final String ERROR_MALFORMED_ROW = "Malformed row, import stopped: %s";
+    private static final String ERROR_HASHING_FAILED = "Password hashing failed";
+    private static final String LOG_BATCH_CONFLICT = "Batch insert of {} users hit a constraint, retrying row by row";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoderService passwordEncoderService;
+    private final UserValidationService validationService;
+    private final UsernameAvailabilityService usernameAvailabilityService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor hashingPool;
+    private final int chunkSize;
+    private final Counter created;
+    private final Counter failed;
+
+    public BulkUserProvisioningService(UserRepository userRepository, PasswordEncoderService passwordEncoderService,
+            UserValidationService validationService, UsernameAvailabilityService usernameAvailabilityService,
+            ObjectMapper objectMapper, Validator validator, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry, @Value("${forge.users.bulk.chunk-size:500}") int chunkSize,
+            @Value("${forge.users.bulk.hash-threads:0}") int hashThreads) {
+        this.userRepository = userRepository;
+        this.passwordEncoderService = passwordEncoderService;
+        this.validationService = validationService;
+        this.usernameAvailabilityService = usernameAvailabilityService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        // Bounded queue plus caller-runs: concurrent imports apply backpressure instead of queueing without limit
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.hashingPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(threads * HASH_QUEUE_PER_THREAD), runnable -> {
+                    Thread thread = new Thread(runnable, HASH_THREAD_PREFIX + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.created = Counter.builder(METRIC_PROVISIONED).tag(TAG_RESULT, "created").register(meterRegistry);
+        this.failed = Counter.builder(METRIC_PROVISIONED).tag(TAG_RESULT, "failed").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdownNow();
+    }
+
+    /**
+     * Provisions users from a stream of registration requests
+     *
+     * @param input  newline-delimited JSON objects, or a JSON array, of registration requests
+     * @param result receives one result per row, in input order, as each chunk completes
+     * @return totals for the import
+     * @throws IOException if the input cannot be read
+     */
+    public ProvisioningSummary provision(InputStream input, Consumer<ProvisioningResult> result) throws IOException {
+        ProvisioningSummary summary = new ProvisioningSummary();
+        Consumer<ProvisioningResult> counted = row -> {
+            summary.record(row);
+            (ProvisioningResult.STATUS_CREATED.equals(row.getStatus()) ? created : failed).increment();
+            result.accept(row);
+        };
+
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        int rowNumber = 0;
+        try (MappingIterator<RegisterRequest> rows = objectMapper.readerFor(RegisterRequest.class).readValues(input)) {
+            while (rows.hasNextValue()) {
+                chunk.add(new PendingRow(++rowNumber, rows.nextValue()));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, counted);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // A JSON syntax error leaves the stream position unknown, so nothing after it can be trusted
+            processChunk(chunk, counted);
+            chunk.clear();
+            counted.accept(ProvisioningResult.failed(rowNumber + 1, null,
+                    String.format(ERROR_MALFORMED_ROW, e.getOriginalMessage())));
+        }
+        processChunk(chunk, counted);
+        return summary;
+    }
+
+    private void processChunk(List<PendingRow> chunk, Consumer<ProvisioningResult> result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<PendingRow> accepted = rejectInvalidAndDuplicates(chunk);
+        hashPasswords(accepted);
+        insert(accepted.stream().filter(row -> row.result == null).toList());
+        chunk.forEach(row -> result.accept(row.result));
+    }
+
+    private List<PendingRow> rejectInvalidAndDuplicates(List<PendingRow> chunk) {
+        List<PendingRow> valid = new ArrayList<>(chunk.size());
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        for (PendingRow row : chunk) {
+            Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(row.request);
+            if (!violations.isEmpty()) {
+                row.fail(violations.stream().map(ConstraintViolation::getMessage).sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (seenUsernames.contains(normalize(row.request.getUsername()))
+                    || seenEmails.contains(normalize(row.request.getEmail()))) {
+                row.fail(ERROR_DUPLICATE_IN_CHUNK);
+            } else {
+                seenUsernames.add(normalize(row.request.getUsername()));
+                seenEmails.add(normalize(row.request.getEmail()));
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return valid;
+        }
+
+        Set<String> existingUsernames = userRepository.findExistingUsernames(
+                valid.stream().map(row -> row.request.getUsername()).toList())
+                .stream().map(BulkUserProvisioningService::normalize).collect(Collectors.toSet());
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                valid.stream().map(row -> row.request.getEmail()).toList())
+                .stream().map(BulkUserProvisioningService::normalize).collect(Collectors.toSet());
+
+        List<PendingRow> accepted = new ArrayList<>(valid.size());
+        for (PendingRow row : valid) {
+            String username = row.request.getUsername();
+            String email = row.request.getEmail();
+            if (existingUsernames.contains(normalize(username))) {
+                row.fail(String.format(UserValidationService.USERNAME_S_IS_ALREADY_TAKEN, username));
+            } else if (existingEmails.contains(normalize(email))) {
+                row.fail(String.format(UserValidationService.EMAIL_S_IS_ALREADY_REGISTERED, email));
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private void hashPasswords(List<PendingRow> rows) {
+        List<Future<String>> hashes = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            String password = row.request.getPassword();
+            hashes.add(hashingPool.submit(() -> passwordEncoderService.encode(password)));
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                rows.get(i).passwordHash = hashes.get(i).get();
+            } catch (ExecutionException e) {
+                rows.get(i).fail(ERROR_HASHING_FAILED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rows.subList(i, rows.size()).forEach(row -> row.fail(ERROR_HASHING_FAILED));
+                return;
+            }
+        }
+    }
+
+    private void insert(List<PendingRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            List<User> saved = transactionTemplate.execute(status -> {
+                List<User> users = userRepository.saveAll(rows.stream().map(PendingRow::toUser).toList());
+                userRepository.flush();
+                return users;
+            });
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).created(saved.get(i).getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            logger.info(LOG_BATCH_CONFLICT, rows.size());
+            rows.forEach(this::insertOne);
+        }
+    }
+
+    private void insertOne(PendingRow row) {
+        try {
+            User saved = transactionTemplate.execute(status -> userRepository.saveAndFlush(row.toUser()));
+            row.created(saved.getId());
+        } catch (DataIntegrityViolationException e) {
+            row.fail(validationService.toUserAlreadyExists(e, row.request.getUsername(), row.request.getEmail())
+                    .getMessage());
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A row of the import awaiting its result
+     */
+    private final class PendingRow {
+
+        private final int rowNumber;
+        private final RegisterRequest request;
+        private String passwordHash;
+        private ProvisioningResult result;
+
+        private PendingRow(int rowNumber, RegisterRequest request) {
+            this.rowNumber = rowNumber;
+            this.request = request;
+        }
+
+        private User toUser() {
+            User user = new User(request.getUsername(), request.getEmail(), passwordHash);
+            user.setRole(User.UserRole.DEVELOPER);
+            return user;
+        }
+
+        private void created(UUID id) {
+            usernameAvailabilityService.recordUsername(request.getUsername());
+            result = ProvisioningResult.created(rowNumber, request.getUsername(), id);
+        }
+
+        private void fail(String error) {
+            result = ProvisioningResult.failed(rowNumber, request.getUsername(), error);
+        }
+    }
+
+    /**
+     * Outcome of one row of a bulk import
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ProvisioningResult {
+
+        public static final String STATUS_CREATED = "CREATED";
+        public static final String STATUS_FAILED = "FAILED";
+
+        private final int row;
+        private final String username;
+        private final String status;
+        private final UUID id;
+        private final String error;
+
+        private ProvisioningResult(int row, String username, String status, UUID id, String error) {
+            this.row = row;
+            this.username = username;
+            this.status = status;
+            this.id = id;
+            this.error = error;
+        }
+
+        static ProvisioningResult created(int row, String username, UUID id) {
+            return new ProvisioningResult(row, username, STATUS_CREATED, id, null);
+        }
+
+        static ProvisioningResult failed(int row, String username, String error) {
+            return new ProvisioningResult(row, username, STATUS_FAILED, null, error);
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Totals for a bulk import
+     */
+    public static class ProvisioningSummary {
+
+        private int created;
+        private int failed;
+
+        private void record(ProvisioningResult result) {
+            if (ProvisioningResult.STATUS_CREATED.equals(result.getStatus())) {
+                created++;
+            } else {
+                failed++;
+            }
+        }
+
+        public int getCreated() {
+            return created;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.forge.server.core.service.registration;
+
+import com.forge.server.common.util.BloomFilter;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Username Availability Service
+ * <p>
+ * Answers "is this username available" for the signup form. A Bloom filter of every registered
+ * username sits in front of the database: a negative answer from the filter is definitive, so
+ * most checks for fresh names never issue a query. Only filter positives, which include the
+ * configured false positive rate, fall through to an exists query.
+ * <p>
+ * The filter is warmed once the application is ready, updated on every registration and rebuilt
+ * periodically so deleted usernames eventually stop producing positives. Until the first warm-up
+ * completes every check goes to the database.
+ *
+ * @author Forge Team
+ */
+@Service
+public class UsernameAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameAvailabilityService.class);
+
+    private static final String METRIC_CHECKS = "forge.users.username.availability";
+    private static final String TAG_RESULT = "result";
+    private static final String LOG_FILTER_BUILT = "Username filter built ({} bits, {} hashes)";
+    private static final String LOG_FILTER_BUILD_FAILED = "Failed to build username filter: {}";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TimerService timerService;
+    private final long expectedUsernames;
+    private final double falsePositiveRate;
+    private final Duration rebuildInterval;
+    private final Counter filterNegatives;
+    private final Counter databaseTaken;
+    private final Counter databaseAvailable;
+
+    private volatile BloomFilter filter;
+    private volatile Queue<String> recordedDuringRebuild;
+    private TimerHandle rebuildTimer;
+
+    public UsernameAvailabilityService(UserRepository userRepository, PlatformTransactionManager transactionManager,
+            TimerService timerService, MeterRegistry meterRegistry,
+            @Value("${forge.users.username-filter.expected-usernames:1000000}") long expectedUsernames,
+            @Value("${forge.users.username-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${forge.users.username-filter.rebuild-interval:6h}") Duration rebuildInterval) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timerService = timerService;
+        this.expectedUsernames = expectedUsernames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+        this.filterNegatives = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "filter_negative").register(meterRegistry);
+        this.databaseTaken = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "db_taken").register(meterRegistry);
+        this.databaseAvailable = Counter.builder(METRIC_CHECKS).tag(TAG_RESULT, "db_available").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        rebuildTimer = timerService.scheduleWithFixedDelay(this::rebuild, rebuildInterval, rebuildInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuildTimer != null) {
+            rebuildTimer.cancel();
+        }
+    }
+
+    /**
+     * Checks whether a username is free to register
+     *
+     * @param username username to check
+     * @return true if no user has the username
+     */
+    public boolean isAvailable(String username) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalize(username))) {
+            filterNegatives.increment();
+            return true;
+        }
+        boolean taken = userRepository.existsByUsername(username);
+        (taken ? databaseTaken : databaseAvailable).increment();
+        return !taken;
+    }
+
+    /**
+     * Records a newly registered username
+     *
+     * @param username registered username
+     */
+    public void recordUsername(String username) {
+        String normalized = normalize(username);
+        Queue<String> rebuilding = recordedDuringRebuild;
+        if (rebuilding != null) {
+            rebuilding.add(normalized);
+        }
+        // Read the filter after the rebuild buffer so a name is never missed by both
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(normalized);
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the users table, sized for the larger of the configured expectation
+     * and twice the current user count
+     */
+    public void rebuild() {
+        Queue<String> recorded = new ConcurrentLinkedQueue<>();
+        recordedDuringRebuild = recorded;
+        try {
+            BloomFilter rebuilt = readOnlyTransaction.execute(status -> {
+                long count = userRepository.count();
+                BloomFilter next = new BloomFilter(Math.max(expectedUsernames, count * 2), falsePositiveRate);
+                try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                    usernames.forEach(username -> next.put(normalize(username)));
+                }
+                return next;
+            });
+            filter = rebuilt;
+            recordedDuringRebuild = null;
+            // Names registered while the scan ran may be missing from the snapshot
+            recorded.forEach(rebuilt::put);
+            logger.info(LOG_FILTER_BUILT, rebuilt.getBitCount(), rebuilt.getHashCount());
+        } catch (RuntimeException e) {
+            recordedDuringRebuild = null;
+            logger.warn(LOG_FILTER_BUILD_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Usernames are compared case-insensitively by MySQL's default collation, so the filter is
+     * keyed on the lower-cased name; this can only add positives, never hide a taken name
+     */
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,273 @@
+package com.forge.server.core.service.timer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hierarchical Timing Wheel
+ * <p>
+ * Hashed hierarchical timing wheel in the style of Varghese and Lauck. Level 0 has one slot per
+ * tick; each higher level has slots spanning a whole revolution of the level below, and its
+ * timers cascade down as their slot comes round. Scheduling and cancelling are O(1): callers only
+ * append to lock-free queues, and a single wheel thread owns every bucket. Expired tasks run on a
+ * separate executor so a slow task never delays the wheel.
+ *
+ * @author Forge Team
+ */
+public class HierarchicalTimingWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HierarchicalTimingWheel.class);
+
+    private static final String THREAD_NAME = "forge-timer";
+    private static final int MAX_ADDS_PER_TICK = 100_000;
+    private static final String METRIC_LAG = "forge.timer.lag";
+    private static final String METRIC_PENDING = "forge.timer.pending";
+    private static final String METRIC_EXPIRED = "forge.timer.expired";
+    private static final String METRIC_CANCELLED = "forge.timer.cancelled";
+    private static final String ERROR_WHEEL_SIZE = "Timing wheel size must be a power of two: %d";
+    private static final String ERROR_RANGE = "Timing wheel of %d levels x %d slots overflows the tick counter";
+    private static final String ERROR_TICK = "Timing wheel tick must be at least 1ms: %s";
+    private static final String LOG_TASK_FAILED = "Timer task failed";
+    private static final String LOG_TASK_REJECTED = "Timer task rejected by executor: {}";
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final long slotMask;
+    private final int levels;
+    private final TimerBucket[][] wheels;
+    private final Executor taskExecutor;
+    private final Queue<ScheduledTimer> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledTimer> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Thread worker;
+    private final Timer lagTimer;
+    private final Counter expired;
+    private final Counter cancelled;
+
+    private volatile boolean running;
+    private volatile long startNanos;
+    private long currentTick;
+
+    /**
+     * Creates a timing wheel; call {@link #start()} before timers can fire
+     *
+     * @param tick          duration of one level-0 slot, the timer resolution
+     * @param wheelSize     slots per level, a power of two
+     * @param levels        number of levels; the wheel spans tick * wheelSize^levels
+     * @param taskExecutor  executor that runs expired tasks
+     * @param meterRegistry registry for lag and throughput metrics
+     */
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levels, Executor taskExecutor,
+            MeterRegistry meterRegistry) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException(String.format(ERROR_TICK, tick));
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException(String.format(ERROR_WHEEL_SIZE, wheelSize));
+        }
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || wheelBits * levels >= Long.SIZE - 2) {
+            throw new IllegalArgumentException(String.format(ERROR_RANGE, levels, wheelSize));
+        }
+        this.tickNanos = tick.toNanos();
+        this.slotMask = wheelSize - 1;
+        this.levels = levels;
+        this.taskExecutor = taskExecutor;
+        this.wheels = new TimerBucket[levels][wheelSize];
+        for (TimerBucket[] wheel : wheels) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                wheel[slot] = new TimerBucket();
+            }
+        }
+        this.worker = new Thread(this::runWheel, THREAD_NAME);
+        this.worker.setDaemon(true);
+
+        this.lagTimer = Timer.builder(METRIC_LAG)
+                .description("Delay between a timer's deadline and its task starting")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.expired = Counter.builder(METRIC_EXPIRED).register(meterRegistry);
+        this.cancelled = Counter.builder(METRIC_CANCELLED).register(meterRegistry);
+        Gauge.builder(METRIC_PENDING, pendingCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Starts the wheel thread
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * Stops the wheel thread; pending timers never fire
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Schedules a task to run once after a delay
+     *
+     * @param task  task to run on the task executor
+     * @param delay delay from now; rounded up to the next tick
+     * @return handle that can cancel the timer
+     */
+    public ScheduledTimer schedule(Runnable task, Duration delay) {
+        ScheduledTimer timer = new ScheduledTimer(this, task, System.nanoTime() + Math.max(0, delay.toNanos()));
+        pendingCount.incrementAndGet();
+        pendingAdds.add(timer);
+        return timer;
+    }
+
+    /**
+     * Gets the number of timers that have neither fired nor been cancelled
+     *
+     * @return pending timer count
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    void onCancelled(ScheduledTimer timer) {
+        pendingCount.decrementAndGet();
+        cancelled.increment();
+        pendingCancels.add(timer);
+    }
+
+    private void runWheel() {
+        while (running) {
+            long sleepNanos = startNanos + (currentTick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            advance(currentTick + 1);
+        }
+    }
+
+    private void advance(long tick) {
+        currentTick = tick;
+        processCancels();
+        processAdds();
+
+        for (int level = levels - 1; level >= 1; level--) {
+            int shift = wheelBits * level;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                cascade(wheels[level][(int) ((tick >>> shift) & slotMask)]);
+            }
+        }
+
+        ScheduledTimer timer = wheels[0][(int) (tick & slotMask)].drain();
+        while (timer != null) {
+            ScheduledTimer next = timer.next;
+            timer.next = null;
+            expire(timer);
+            timer = next;
+        }
+    }
+
+    private void cascade(TimerBucket bucket) {
+        ScheduledTimer timer = bucket.drain();
+        while (timer != null) {
+            ScheduledTimer next = timer.next;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    private void processCancels() {
+        ScheduledTimer timer;
+        while ((timer = pendingCancels.poll()) != null) {
+            if (timer.bucket != null) {
+                timer.bucket.remove(timer);
+            }
+        }
+    }
+
+    private void processAdds() {
+        for (int i = 0; i < MAX_ADDS_PER_TICK; i++) {
+            ScheduledTimer timer = pendingAdds.poll();
+            if (timer == null) {
+                return;
+            }
+            if (timer.isPending()) {
+                long offsetNanos = timer.getDeadlineNanos() - startNanos;
+                timer.deadlineTick = Math.max(0, (offsetNanos + tickNanos - 1) / tickNanos);
+                place(timer);
+            }
+        }
+    }
+
+    /**
+     * Places a timer in the lowest level whose range covers its remaining delay. A level-L slot is
+     * visited exactly when the tick counter reaches the timer's deadline with its low L levels
+     * zeroed, which is always after the current tick and no later than the deadline.
+     */
+    private void place(ScheduledTimer timer) {
+        if (!timer.isPending()) {
+            return;
+        }
+        long delta = timer.deadlineTick - currentTick;
+        if (delta <= 0) {
+            expire(timer);
+            return;
+        }
+
+        long span = 1L << (wheelBits * levels);
+        long slotTick = timer.deadlineTick;
+        if (delta >= span) {
+            // Beyond the top level: park in the furthest top-level slot and re-place on cascade
+            slotTick = currentTick + span - 1;
+            delta = span - 1;
+        }
+        int level = 0;
+        while (level < levels - 1 && delta >= (1L << (wheelBits * (level + 1)))) {
+            level++;
+        }
+        wheels[level][(int) ((slotTick >>> (wheelBits * level)) & slotMask)].add(timer);
+    }
+
+    private void expire(ScheduledTimer timer) {
+        if (!timer.markExpired()) {
+            return;
+        }
+        pendingCount.decrementAndGet();
+        expired.increment();
+        try {
+            taskExecutor.execute(() -> runTask(timer));
+        } catch (RejectedExecutionException e) {
+            logger.warn(LOG_TASK_REJECTED, e.getMessage());
+        }
+    }
+
+    private void runTask(ScheduledTimer timer) {
+        lagTimer.record(Math.max(0, System.nanoTime() - timer.getDeadlineNanos()), TimeUnit.NANOSECONDS);
+        try {
+            timer.getTask().run();
+        } catch (RuntimeException e) {
+            logger.error(LOG_TASK_FAILED, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.forge.server.core.service.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduled Timer
+ * <p>
+ * A single timeout on a {@link HierarchicalTimingWheel}. Timers are linked into the wheel's
+ * buckets as a doubly-linked list so that both scheduling and cancellation are O(1).
+ *
+ * @author Forge Team
+ */
+public final class ScheduledTimer implements TimerHandle {
+
+    static final int STATE_PENDING = 0;
+    static final int STATE_CANCELLED = 1;
+    static final int STATE_EXPIRED = 2;
+
+    private final HierarchicalTimingWheel wheel;
+    private final Runnable task;
+    private final long deadlineNanos;
+    private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+    // Owned by the wheel thread
+    long deadlineTick;
+    TimerBucket bucket;
+    ScheduledTimer previous;
+    ScheduledTimer next;
+
+    ScheduledTimer(HierarchicalTimingWheel wheel, Runnable task, long deadlineNanos) {
+        this.wheel = wheel;
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public boolean cancel() {
+        if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+            return false;
+        }
+        wheel.onCancelled(this);
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state.get() == STATE_CANCELLED;
+    }
+
+    /**
+     * Checks whether the timer has fired
+     *
+     * @return true if the task has been handed to the executor
+     */
+    public boolean isExpired() {
+        return state.get() == STATE_EXPIRED;
+    }
+
+    /**
+     * Gets the deadline on the {@link System#nanoTime()} clock
+     *
+     * @return deadline in nanoseconds
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    boolean isPending() {
+        return state.get() == STATE_PENDING;
+    }
+
+    boolean markExpired() {
+        return state.compareAndSet(STATE_PENDING, STATE_EXPIRED);
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+}
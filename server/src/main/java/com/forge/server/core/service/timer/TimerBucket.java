@@ -0,0 +1,59 @@
+package com.forge.server.core.service.timer;
+
+/**
+ * Timer Bucket
+ * <p>
+ * One slot of a timing wheel: an intrusive doubly-linked list of timers. Only the wheel thread
+ * touches a bucket, so no synchronisation is needed.
+ *
+ * @author Forge Team
+ */
+final class TimerBucket {
+
+    private ScheduledTimer head;
+    private ScheduledTimer tail;
+
+    void add(ScheduledTimer timer) {
+        timer.bucket = this;
+        timer.previous = tail;
+        timer.next = null;
+        if (tail == null) {
+            head = timer;
+        } else {
+            tail.next = timer;
+        }
+        tail = timer;
+    }
+
+    void remove(ScheduledTimer timer) {
+        if (timer.previous == null) {
+            head = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next == null) {
+            tail = timer.previous;
+        } else {
+            timer.next.previous = timer.previous;
+        }
+        timer.bucket = null;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * Detaches every timer from the bucket
+     *
+     * @return first timer of the detached list, linked through {@link ScheduledTimer#next}
+     */
+    ScheduledTimer drain() {
+        ScheduledTimer first = head;
+        for (ScheduledTimer timer = first; timer != null; timer = timer.next) {
+            timer.bucket = null;
+            timer.previous = null;
+        }
+        head = null;
+        tail = null;
+        return first;
+    }
+}
@@ -0,0 +1,94 @@
+package com.forge.server.core.service.timer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Timer Configuration Properties
+ * <p>
+ * Loads shared timing wheel configuration from application properties.
+ * Configure via: forge.timer.tick, forge.timer.wheel-size, forge.timer.levels, etc.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "forge.timer")
+public class TimerConfig {
+
+    private Duration tick = Duration.ofMillis(10);
+    private int wheelSize = 256;
+    private int levels = 4;
+    private int executorThreads = 4;
+
+    /**
+     * Gets the timer resolution, the span of one level-0 slot
+     *
+     * @return tick duration
+     */
+    public Duration getTick() {
+        return tick;
+    }
+
+    /**
+     * Sets the timer resolution
+     *
+     * @param tick tick duration
+     */
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Gets the number of slots per wheel level, a power of two
+     *
+     * @return slots per level
+     */
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * Sets the number of slots per wheel level
+     *
+     * @param wheelSize slots per level
+     */
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    /**
+     * Gets the number of wheel levels
+     *
+     * @return number of levels
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Sets the number of wheel levels
+     *
+     * @param levels number of levels
+     */
+    public void setLevels(int levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Gets the number of threads that run expired timer tasks
+     *
+     * @return executor thread count
+     */
+    public int getExecutorThreads() {
+        return executorThreads;
+    }
+
+    /**
+     * Sets the number of threads that run expired timer tasks
+     *
+     * @param executorThreads executor thread count
+     */
+    public void setExecutorThreads(int executorThreads) {
+        this.executorThreads = executorThreads;
+    }
+}
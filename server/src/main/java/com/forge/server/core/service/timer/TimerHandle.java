@@ -0,0 +1,25 @@
+package com.forge.server.core.service.timer;
+
+/**
+ * Timer Handle
+ * <p>
+ * Handle to a one-shot or recurring timer scheduled on the {@link TimerService}.
+ *
+ * @author Forge Team
+ */
+public interface TimerHandle {
+
+    /**
+     * Cancels the timer; a recurring timer stops rescheduling itself
+     *
+     * @return true if this call cancelled the timer, false if it had already fired or been cancelled
+     */
+    boolean cancel();
+
+    /**
+     * Checks whether the timer has been cancelled
+     *
+     * @return true if cancelled
+     */
+    boolean isCancelled();
+}
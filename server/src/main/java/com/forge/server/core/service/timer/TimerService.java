@@ -0,0 +1,211 @@
+package com.forge.server.core.service.timer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Timer Service
+ * <p>
+ * Shared timer facility for the server. Every time-based feature (trigger schedules, job
+ * timeouts, lease expiry, retries, periodic cleanup) schedules on this one hierarchical timing
+ * wheel rather than creating its own scheduled executor, so thousands of timers cost one thread
+ * and O(1) to schedule or cancel. One-shot, fixed-delay and cron timers are supported.
+ *
+ * @author Forge Team
+ */
+@Service
+public class TimerService {
+
+    private static final String TASK_THREAD_PREFIX = "forge-timer-task-";
+
+    private final HierarchicalTimingWheel wheel;
+    private final ThreadPoolExecutor taskExecutor;
+
+    public TimerService(TimerConfig timerConfig, MeterRegistry meterRegistry) {
+        this.taskExecutor = new ThreadPoolExecutor(timerConfig.getExecutorThreads(), timerConfig.getExecutorThreads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), taskThreadFactory());
+        this.wheel = new HierarchicalTimingWheel(timerConfig.getTick(), timerConfig.getWheelSize(),
+                timerConfig.getLevels(), taskExecutor, meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+        taskExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs a task once after a delay
+     *
+     * @param task  task to run
+     * @param delay delay from now
+     * @return handle that can cancel the timer
+     */
+    public TimerHandle schedule(Runnable task, Duration delay) {
+        return wheel.schedule(task, delay);
+    }
+
+    /**
+     * Runs a task repeatedly, waiting a fixed delay after each run completes
+     *
+     * @param task         task to run
+     * @param initialDelay delay before the first run
+     * @param delay        delay between the end of one run and the start of the next
+     * @return handle that cancels all future runs
+     */
+    public TimerHandle scheduleWithFixedDelay(Runnable task, Duration initialDelay, Duration delay) {
+        RecurringTimer timer = new RecurringTimer(task, () -> delay);
+        timer.scheduleNext(initialDelay);
+        return timer;
+    }
+
+    /**
+     * Runs a task on a cron schedule
+     *
+     * @param expression Spring cron expression (second minute hour day-of-month month day-of-week)
+     * @param zone       time zone the expression is evaluated in
+     * @param task       task to run
+     * @return handle that cancels all future runs
+     * @throws IllegalArgumentException if the expression is invalid
+     */
+    public TimerHandle scheduleCron(String expression, ZoneId zone, Runnable task) {
+        CronSchedule schedule = new CronSchedule(CronExpression.parse(expression), zone);
+        RecurringTimer timer = new RecurringTimer(task, schedule::delayUntilNext);
+        Duration first = schedule.delayUntilNext();
+        if (first != null) {
+            timer.scheduleNext(first);
+        }
+        return timer;
+    }
+
+    /**
+     * Gets the number of timers that have neither fired nor been cancelled
+     *
+     * @return pending timer count
+     */
+    public int getPendingCount() {
+        return wheel.getPendingCount();
+    }
+
+    /**
+     * Gets the number of fired timers waiting for a free task thread
+     *
+     * @return queued task count
+     */
+    public int getQueuedTaskCount() {
+        return taskExecutor.getQueue().size();
+    }
+
+    private static ThreadFactory taskThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, TASK_THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A timer that reschedules itself on the wheel after each run
+     */
+    private final class RecurringTimer implements TimerHandle, Runnable {
+
+        private final Runnable task;
+        private final Supplier<Duration> nextDelay;
+        private volatile boolean cancelled;
+        private volatile ScheduledTimer current;
+
+        private RecurringTimer(Runnable task, Supplier<Duration> nextDelay) {
+            this.task = task;
+            this.nextDelay = nextDelay;
+        }
+
+        private void scheduleNext(Duration delay) {
+            if (cancelled) {
+                return;
+            }
+            current = wheel.schedule(this, delay);
+            if (cancelled) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                Duration delay = nextDelay.get();
+                if (delay != null) {
+                    scheduleNext(delay);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            ScheduledTimer timer = current;
+            if (timer != null) {
+                timer.cancel();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Computes successive cron fire times. The wheel's monotonic clock and the wall clock can
+     * drift slightly, so the next fire time is always computed from the later of now and the
+     * previous fire time to avoid running the same occurrence twice.
+     */
+    private static final class CronSchedule {
+
+        private final CronExpression expression;
+        private final ZoneId zone;
+        private ZonedDateTime lastFireTime;
+
+        private CronSchedule(CronExpression expression, ZoneId zone) {
+            this.expression = expression;
+            this.zone = zone;
+        }
+
+        private synchronized Duration delayUntilNext() {
+            ZonedDateTime now = ZonedDateTime.now(zone);
+            ZonedDateTime from = lastFireTime != null && lastFireTime.isAfter(now) ? lastFireTime : now;
+            ZonedDateTime next = expression.next(from);
+            if (next == null) {
+                return null;
+            }
+            lastFireTime = next;
+            return Duration.between(now, next);
+        }
+    }
+}
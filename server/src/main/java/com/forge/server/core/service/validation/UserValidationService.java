@@ -1,10 +1,14 @@
 package com.forge.server.core.service.validation;
 
 import com.forge.server.common.exception.UserAlreadyExistsException;
-import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.entity.User;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 /**
  *
  * @author Forge Team
@@ -14,46 +18,38 @@ public class UserValidationService {
 
     public static final String USERNAME_S_IS_ALREADY_TAKEN = "Username '%s' is already taken";
     public static final String EMAIL_S_IS_ALREADY_REGISTERED = "Email '%s' is already registered";
-    private final UserRepository userRepository;
-
-    public UserValidationService(UserRepository userRepository) {
-        this.userRepository = userRepository;
-    }
+    public static final String USERNAME_OR_EMAIL_ALREADY_REGISTERED = "Username or email is already registered";
 
     /**
-     * Validates that username is unique
+     * Translates a unique constraint violation raised by inserting a user
+     * <p>
+     * The database's unique constraints are the authoritative uniqueness check, so registration
+     * inserts directly and maps the resulting error here instead of querying first.
      *
-     * @param username username to validate
-     * @throws UserAlreadyExistsException if username already exists
+     * @param exception constraint violation raised by the insert
+     * @param username  username that was inserted
+     * @param email     email that was inserted
+     * @return exception naming the conflicting field
      */
-    public void validateUsernameUnique(String username) {
-        if (userRepository.existsByUsername(username)) {
-            throw new UserAlreadyExistsException(String.format(USERNAME_S_IS_ALREADY_TAKEN, username));
+    public UserAlreadyExistsException toUserAlreadyExists(DataIntegrityViolationException exception,
+            String username, String email) {
+        String violated = violatedConstraint(exception);
+        if (violated.contains(User.UNIQUE_USERNAME)) {
+            return new UserAlreadyExistsException(String.format(USERNAME_S_IS_ALREADY_TAKEN, username));
         }
-    }
-
-    /**
-     * Validates that email is unique
-     *
-     * @param email email to validate
-     * @throws UserAlreadyExistsException if email already exists
-     */
-    public void validateEmailUnique(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new UserAlreadyExistsException(String.format(EMAIL_S_IS_ALREADY_REGISTERED, email));
+        if (violated.contains(User.UNIQUE_EMAIL)) {
+            return new UserAlreadyExistsException(String.format(EMAIL_S_IS_ALREADY_REGISTERED, email));
         }
+        return new UserAlreadyExistsException(USERNAME_OR_EMAIL_ALREADY_REGISTERED);
     }
 
-    /**
-     * Validates both username and email are unique
-     *
-     * @param username username to validate
-     * @param email    email to validate
-     * @throws UserAlreadyExistsException if either username or email already exists
-     */
-    public void validateUserUnique(String username, String email) {
-        validateUsernameUnique(username);
-        validateEmailUnique(email);
+    private static String violatedConstraint(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = exception.getMostSpecificCause().getMessage();
+        return message != null ? message.toLowerCase(Locale.ROOT) : "";
     }
 }
-
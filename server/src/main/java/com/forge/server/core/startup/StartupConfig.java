@@ -0,0 +1,111 @@
+package com.forge.server.core.startup;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.NetworkConnector;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.lang.reflect.Method;
+
+/**
+ * Startup Configuration
+ * <p>
+ * The fast-start profile turns on spring.main.lazy-initialization so that controllers, plugin
+ * services and other request-path beans are created on first use rather than during boot. Beans
+ * with a {@link PostConstruct} hook stay eager: they schedule timers, load key material or warm
+ * caches, and deferring them would leave that work undone until something happened to ask for them.
+ * <p>
+ * Also adds startup steps for the parts of boot that Spring does not record itself: Hibernate's
+ * schema update and the start of each Jetty connector.
+ *
+ * @author Forge Team
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    static final String STEP_CONNECTOR_START = "forge.jetty.connector.start";
+    private static final String TAG_PROTOCOLS = "protocols";
+    private static final String TAG_PORT = "port";
+    private static final String TAG_FAILURE = "failure";
+
+    @Bean
+    static LazyInitializationExcludeFilter postConstructBeansStayEager() {
+        return (beanName, beanDefinition, beanType) -> hasPostConstruct(beanType);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer schemaManagementStartupSteps(ApplicationStartup applicationStartup) {
+        return properties -> properties.put(AvailableSettings.SCHEMA_MANAGEMENT_TOOL,
+                new StartupRecordingSchemaManagementTool(applicationStartup));
+    }
+
+    @Bean
+    WebServerFactoryCustomizer<JettyServletWebServerFactory> connectorStartupSteps(
+            ApplicationStartup applicationStartup) {
+        return factory -> factory.addServerCustomizers(server -> {
+            for (Connector connector : server.getConnectors()) {
+                connector.addEventListener(new ConnectorStartupListener(applicationStartup));
+            }
+        });
+    }
+
+    private static boolean hasPostConstruct(Class<?> beanType) {
+        for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(PostConstruct.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records a startup step from when a connector starts until it is listening
+     */
+    private static class ConnectorStartupListener implements LifeCycle.Listener {
+
+        private final ApplicationStartup applicationStartup;
+        private StartupStep step;
+
+        private ConnectorStartupListener(ApplicationStartup applicationStartup) {
+            this.applicationStartup = applicationStartup;
+        }
+
+        @Override
+        public void lifeCycleStarting(LifeCycle event) {
+            step = applicationStartup.start(STEP_CONNECTOR_START)
+                    .tag(TAG_PROTOCOLS, String.join(",", ((Connector) event).getProtocols()));
+        }
+
+        @Override
+        public void lifeCycleStarted(LifeCycle event) {
+            if (step != null) {
+                if (event instanceof NetworkConnector connector) {
+                    step.tag(TAG_PORT, String.valueOf(connector.getLocalPort()));
+                }
+                step.end();
+                step = null;
+            }
+        }
+
+        @Override
+        public void lifeCycleFailure(LifeCycle event, Throwable cause) {
+            if (step != null) {
+                step.tag(TAG_FAILURE, cause.toString());
+                step.end();
+                step = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.forge.server.core.startup;
+
+import com.forge.shared.model.response.StartupStepSummary;
+import com.forge.shared.model.response.StartupSummaryResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup Timeline Summarizer
+ * <p>
+ * Ranks the beans and phases of a recorded startup timeline by self time, the duration of a
+ * step minus that of the steps nested in it. Ranking by total time would put the context refresh
+ * and every bean at the root of a deep dependency chain first, which says nothing about where the
+ * time actually went.
+ * <p>
+ * Bean instantiations are reported per bean name; every other step is a phase, reported per step
+ * name with the durations of its occurrences added up.
+ *
+ * @author Forge Team
+ */
+@Component
+public class StartupTimelineSummarizer {
+
+    static final String STEP_BEAN_INSTANTIATE = "spring.beans.instantiate";
+    static final String TAG_BEAN_NAME = "beanName";
+
+    private final int top;
+
+    public StartupTimelineSummarizer(@Value("${forge.startup.summary.top:10}") int top) {
+        this.top = top;
+    }
+
+    /**
+     * Summarises a startup timeline
+     *
+     * @param timeline recorded timeline
+     * @return span of the timeline and its slowest beans and phases
+     */
+    public StartupSummaryResponse summarize(StartupTimeline timeline) {
+        List<TimelineEvent> events = timeline.getEvents();
+        Map<Long, Long> nestedNanos = new HashMap<>();
+        Instant end = timeline.getStartTime();
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nestedNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+            if (event.getEndTime().isAfter(end)) {
+                end = event.getEndTime();
+            }
+        }
+
+        Map<String, Totals> beans = new HashMap<>();
+        Map<String, Totals> phases = new HashMap<>();
+        for (TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            long totalNanos = event.getDuration().toNanos();
+            // Steps on other threads can be parented to whatever step was current, so clamp at zero
+            long selfNanos = Math.max(0, totalNanos - nestedNanos.getOrDefault(step.getId(), 0L));
+            String beanName = STEP_BEAN_INSTANTIATE.equals(step.getName()) ? beanName(step) : null;
+            Totals totals = beanName != null
+                    ? beans.computeIfAbsent(beanName, name -> new Totals())
+                    : phases.computeIfAbsent(step.getName(), name -> new Totals());
+            totals.add(selfNanos, totalNanos);
+        }
+
+        return new StartupSummaryResponse(timeline.getStartTime(),
+                millis(Duration.between(timeline.getStartTime(), end).toNanos()), events.size(),
+                slowest(beans), slowest(phases));
+    }
+
+    private List<StartupStepSummary> slowest(Map<String, Totals> steps) {
+        return steps.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Totals> entry) -> entry.getValue().selfNanos)
+                        .reversed())
+                .limit(top)
+                .map(entry -> new StartupStepSummary(entry.getKey(), entry.getValue().count,
+                        millis(entry.getValue().selfNanos), millis(entry.getValue().totalNanos)))
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (TAG_BEAN_NAME.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * Accumulated durations of one bean or phase
+     */
+    private static class Totals {
+        private int count;
+        private long selfNanos;
+        private long totalNanos;
+
+        private void add(long self, long total) {
+            count++;
+            selfNanos += self;
+            totalNanos += total;
+        }
+    }
+}
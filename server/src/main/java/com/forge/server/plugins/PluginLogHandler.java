@@ -0,0 +1,118 @@
+package com.forge.server.plugins;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Plugin Log Handler
+ * <p>
+ * Bridges the {@code java.util.logging} logger handed to plugins through
+ * {@link com.forge.server.plugins.api.PluginContext#getLogger()} to SLF4J, adding the plugin
+ * name and version to every event as structured fields. The plugin API keeps its JUL signature,
+ * so existing plugins need no changes.
+ * <p>
+ * The JUL logger's level is set from the SLF4J logger's when the bridge is created, so calls
+ * below it are rejected by JUL before a {@link LogRecord} is allocated.
+ *
+ * @author Forge Team
+ */
+final class PluginLogHandler extends Handler {
+
+    private static final String KEY_PLUGIN = "plugin";
+    private static final String KEY_PLUGIN_VERSION = "pluginVersion";
+
+    private final org.slf4j.Logger target;
+    private final String pluginName;
+    private final String pluginVersion;
+
+    private PluginLogHandler(org.slf4j.Logger target, String pluginName, String pluginVersion) {
+        this.target = target;
+        this.pluginName = pluginName;
+        this.pluginVersion = pluginVersion;
+        setFormatter(new SimpleFormatter());
+    }
+
+    /**
+     * Creates a JUL logger whose records go to the SLF4J logger of the same name
+     *
+     * @param loggerName    logger name
+     * @param pluginName    plugin name added to each event
+     * @param pluginVersion plugin version added to each event
+     * @return bridged logger
+     */
+    static Logger bridge(String loggerName, String pluginName, String pluginVersion) {
+        org.slf4j.Logger target = LoggerFactory.getLogger(loggerName);
+        Logger logger = Logger.getLogger(loggerName);
+        // A reinstalled plugin gets the same JUL logger back; replace the previous bridge
+        for (Handler handler : logger.getHandlers()) {
+            if (handler instanceof PluginLogHandler) {
+                logger.removeHandler(handler);
+            }
+        }
+        logger.addHandler(new PluginLogHandler(target, pluginName, pluginVersion));
+        logger.setUseParentHandlers(false);
+        logger.setLevel(julLevel(target));
+        return logger;
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        Level level = slf4jLevel(record.getLevel());
+        if (!target.isEnabledForLevel(level)) {
+            return;
+        }
+        target.atLevel(level)
+                .addKeyValue(KEY_PLUGIN, pluginName)
+                .addKeyValue(KEY_PLUGIN_VERSION, pluginVersion)
+                .setCause(record.getThrown())
+                .log(getFormatter().formatMessage(record));
+    }
+
+    @Override
+    public void flush() {
+        // Events are handed to SLF4J as they are published
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    private static Level slf4jLevel(java.util.logging.Level level) {
+        int value = level.intValue();
+        if (value >= java.util.logging.Level.SEVERE.intValue()) {
+            return Level.ERROR;
+        }
+        if (value >= java.util.logging.Level.WARNING.intValue()) {
+            return Level.WARN;
+        }
+        if (value >= java.util.logging.Level.INFO.intValue()) {
+            return Level.INFO;
+        }
+        if (value >= java.util.logging.Level.FINE.intValue()) {
+            return Level.DEBUG;
+        }
+        return Level.TRACE;
+    }
+
+    private static java.util.logging.Level julLevel(org.slf4j.Logger logger) {
+        if (logger.isTraceEnabled()) {
+            return java.util.logging.Level.FINEST;
+        }
+        if (logger.isDebugEnabled()) {
+            return java.util.logging.Level.FINE;
+        }
+        if (logger.isInfoEnabled()) {
+            return java.util.logging.Level.INFO;
+        }
+        if (logger.isWarnEnabled()) {
+            return java.util.logging.Level.WARNING;
+        }
+        return java.util.logging.Level.SEVERE;
+    }
+}
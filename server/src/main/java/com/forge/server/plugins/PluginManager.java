@@ -1,5 +1,6 @@
 package com.forge.server.plugins;
 
+import com.forge.server.common.jfr.PluginLifecycleEvent;
 import com.forge.server.common.plugin.exception.PluginException;
 import com.forge.server.core.service.plugin.PluginConfigurationService;
 import com.forge.server.plugins.api.Plugin;
@@ -8,10 +9,12 @@ import com.forge.server.plugins.api.PluginRegistry;
 import com.forge.server.plugins.api.PluginState;
 import com.forge.server.plugins.loader.PluginClassLoader;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 
-import java.util.logging.Logger;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -20,6 +23,7 @@ import java.nio.file.Paths;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -27,7 +31,7 @@ import java.util.jar.JarFile;
 @Component
 public class PluginManager implements PluginRegistry {
 
-    private static final Logger logger = Logger.getLogger(PluginManager.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(PluginManager.class);
 
     private static final String PLUGIN_SERVICE_FILE = "META-INF/services/com.forge.server.plugins.api.Plugin";
     private static final String DIST_LIB = "dist/lib";
@@ -43,8 +47,12 @@ public class PluginManager implements PluginRegistry {
     private static final String FAILED_TO_INSTANTIATE_PLUGIN = "Failed to instantiate plugin: ";
     private static final String ERROR_DURING_PLUGIN_INSTALLATION = "Unexpected error during plugin installation: ";
     private static final String PLUGIN_NOT_FOUND = "Plugin not found: ";
-    private static final String PLUGIN_ALREADY_STARTED = "Plugin already started: ";
-    private static final String PLUGIN_STARTED_SUCCESSFULLY = "Plugin started successfully: ";
+    private static final String LOG_PLUGIN_INSTALLED = "Plugin installed: {} v{} in {} ms";
+    private static final String LOG_PLUGIN_ALREADY_STARTED = "Plugin already started: {}";
+    private static final String LOG_PLUGIN_STARTED = "Plugin started: {} v{}";
+    private static final String PLUGIN_LOGGER_PREFIX = "com.forge.";
+    private static final String STEP_PLUGIN_DISCOVERY = "forge.plugins.discover";
+    private static final String TAG_PLUGIN = "plugin";
 
     // Thread-safe storage for plugins
     private final Map<String, PluginWrapper> plugins;
@@ -54,10 +62,13 @@ public class PluginManager implements PluginRegistry {
 
     private final PluginConfigurationService configurationService;
 
-    public PluginManager(PluginConfigurationService configurationService) {
+    private final ApplicationStartup applicationStartup;
+
+    public PluginManager(PluginConfigurationService configurationService, ApplicationStartup applicationStartup) {
         this.plugins = new ConcurrentHashMap<>();
         this.classLoaders = new ConcurrentHashMap<>();
         this.configurationService = configurationService;
+        this.applicationStartup = applicationStartup;
     }
 
     @Override
@@ -66,7 +77,37 @@ public class PluginManager implements PluginRegistry {
         return wrapper != null ? wrapper.getPlugin() : null;
     }
 
+    /**
+     * Gets the lifecycle state of every installed plugin
+     *
+     * @return state by plugin name
+     */
+    public Map<String, PluginState> getPluginStates() {
+        Map<String, PluginState> states = new TreeMap<>();
+        plugins.forEach((pluginName, wrapper) -> states.put(pluginName, wrapper.getState()));
+        return states;
+    }
+
     public Plugin installPlugin(String pluginName) throws PluginException, IOException {
+        PluginLifecycleEvent event = new PluginLifecycleEvent();
+        event.begin();
+        Plugin plugin = null;
+        try {
+            plugin = loadPlugin(pluginName);
+            return plugin;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setPluginName(pluginName);
+                event.setOperation(PluginLifecycleEvent.Operation.INSTALL);
+                event.setSucceeded(plugin != null);
+                event.setPluginVersion(plugin != null ? plugin.getVersion() : null);
+                event.commit();
+            }
+        }
+    }
+
+    private Plugin loadPlugin(String pluginName) throws PluginException, IOException {
         long startTime = System.currentTimeMillis();
         Path jarFile = Paths.get(System.getProperty(USER_DIR), DIST_LIB, pluginName.toLowerCase() + PLUGIN_JAR);
 
@@ -74,7 +115,13 @@ public class PluginManager implements PluginRegistry {
             throw new PluginException(PLUGIN_JAR_FILE_NOT_FOUND + jarFile);
         }
 
-        String className = discoverPluginClass(jarFile);
+        String className;
+        StartupStep discovery = applicationStartup.start(STEP_PLUGIN_DISCOVERY).tag(TAG_PLUGIN, pluginName);
+        try {
+            className = discoverPluginClass(jarFile);
+        } finally {
+            discovery.end();
+        }
         if (className == null) {
             throw new PluginException(PLUGIN_CLASS_NOT_FOUND_IN_JAR + jarFile);
         }
@@ -91,13 +138,13 @@ public class PluginManager implements PluginRegistry {
             @SuppressWarnings("unchecked") Class<? extends Plugin> pluginType = (Class<? extends Plugin>) pluginClass;
             Plugin plugin = pluginType.getDeclaredConstructor().newInstance();
             Map<String, String> config = configurationService.loadPluginConfiguration(pluginName);
-            PluginContext context = new SimplePluginContext(pluginName, config);
+            PluginContext context = new SimplePluginContext(pluginName, plugin.getVersion(), config);
             plugin.init(context);
             plugins.put(pluginName, new PluginWrapper(plugin, context));
             classLoaders.put(pluginName, classLoader);
 
             long duration = System.currentTimeMillis() - startTime;
-            logger.info("Plugin installed: " + pluginName + " v" + plugin.getVersion() + " in " + duration + "ms");
+            logger.info(LOG_PLUGIN_INSTALLED, pluginName, plugin.getVersion(), duration);
             return plugin;
         } catch (ClassNotFoundException e) {
             classLoader.close();
@@ -153,6 +200,26 @@ public class PluginManager implements PluginRegistry {
     }
 
     public void startPlugin(String pluginName) throws PluginException {
+        PluginLifecycleEvent event = new PluginLifecycleEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            activatePlugin(pluginName);
+            succeeded = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Plugin plugin = getPlugin(pluginName);
+                event.setPluginName(pluginName);
+                event.setOperation(PluginLifecycleEvent.Operation.START);
+                event.setSucceeded(succeeded);
+                event.setPluginVersion(plugin != null ? plugin.getVersion() : null);
+                event.commit();
+            }
+        }
+    }
+
+    private void activatePlugin(String pluginName) throws PluginException {
         PluginWrapper wrapper = plugins.get(pluginName);
         if (wrapper == null) {
             throw new PluginException(PLUGIN_NOT_FOUND + pluginName);
@@ -160,14 +227,14 @@ public class PluginManager implements PluginRegistry {
 
         Plugin plugin = wrapper.getPlugin();
         if (plugin.getState() == PluginState.STARTED) {
-            logger.info(PLUGIN_ALREADY_STARTED + pluginName);
+            logger.info(LOG_PLUGIN_ALREADY_STARTED, pluginName);
             return;
         }
 
         try {
             plugin.start();
             wrapper.setState(PluginState.STARTED);
-            logger.info(PLUGIN_STARTED_SUCCESSFULLY + pluginName);
+            logger.info(LOG_PLUGIN_STARTED, pluginName, plugin.getVersion());
         } catch (PluginException e) {
             wrapper.setState(PluginState.FAILED);
             throw e;
@@ -185,14 +252,15 @@ public class PluginManager implements PluginRegistry {
     private static class SimplePluginContext implements PluginContext {
 
         private final String pluginName;
-        private final Logger logger;
+        private final java.util.logging.Logger logger;
         private volatile Map<String, String> config;
 
-        public SimplePluginContext(String pluginName, Map<String, String> config) {
+        public SimplePluginContext(String pluginName, String pluginVersion, Map<String, String> config) {
             String pluginClass = pluginName.substring(0, 1).toUpperCase() + pluginName.substring(1).toLowerCase()
                     + "Plugin";
             this.pluginName = pluginName;
-            this.logger = Logger.getLogger("com.forge." + pluginName.toLowerCase() + "." + pluginClass);
+            this.logger = PluginLogHandler.bridge(PLUGIN_LOGGER_PREFIX + pluginName.toLowerCase() + "." + pluginClass,
+                    pluginName, pluginVersion);
             this.config = config != null ? new ConcurrentHashMap<>(config) : new ConcurrentHashMap<>();
         }
 
@@ -207,7 +275,7 @@ public class PluginManager implements PluginRegistry {
         }
 
         @Override
-        public Logger getLogger() {
+        public java.util.logging.Logger getLogger() {
             return logger;
         }
 
@@ -0,0 +1,56 @@
+package com.forge.server.security.authorization;
+
+/**
+ * Permission
+ * <p>
+ * An action a principal may be allowed to perform. Each permission owns one bit of a
+ * {@code long}, so a set of permissions is a single mask and checking one is a bitwise AND.
+ * New permissions are appended; the ordinal is the bit position and there is room for 64.
+ *
+ * @author Forge Team
+ */
+public enum Permission {
+
+    USER_READ,
+    USER_ADMIN,
+    API_KEY_MANAGE,
+    PLUGIN_READ,
+    PLUGIN_MANAGE,
+    BUILD_CACHE_READ,
+    BUILD_CACHE_WRITE,
+    JOB_READ,
+    JOB_SUBMIT,
+    JOB_CANCEL,
+    PROJECT_ADMIN;
+
+    private final long mask = 1L << ordinal();
+
+    /**
+     * Gets the bit of this permission
+     *
+     * @return mask with only this permission set
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Combines permissions into a mask
+     *
+     * @param permissions permissions to combine
+     * @return mask with the given permissions set
+     */
+    public static long maskOf(Permission... permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("At most " + Long.SIZE + " permissions fit in a mask");
+        }
+    }
+}
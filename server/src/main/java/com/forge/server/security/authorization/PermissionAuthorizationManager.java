@@ -0,0 +1,107 @@
+package com.forge.server.security.authorization;
+
+import com.forge.server.security.util.AppUserDetails;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Permission Authorization Manager
+ * <p>
+ * Grants access when the authenticated principal holds a set of permissions. The required
+ * permissions are either fixed, for request rules in the security configuration, or read from
+ * {@link RequiresPermission} on the invoked method, resolved once per method and cached as a
+ * mask. The decision itself is a bitwise AND against the principal's {@link PermissionSet}.
+ *
+ * @author Forge Team
+ */
+public final class PermissionAuthorizationManager<T> implements AuthorizationManager<T> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final long requiredMask;
+
+    private PermissionAuthorizationManager(long requiredMask) {
+        this.requiredMask = requiredMask;
+    }
+
+    /**
+     * Creates a manager requiring fixed permissions, for request authorization rules
+     *
+     * @param permissions permissions the principal must hold
+     * @param <T>         secured object type
+     * @return authorization manager
+     */
+    public static <T> PermissionAuthorizationManager<T> require(Permission... permissions) {
+        return new PermissionAuthorizationManager<>(Permission.maskOf(permissions));
+    }
+
+    /**
+     * Creates a manager reading the required permissions from {@link RequiresPermission}
+     *
+     * @return authorization manager for method invocations
+     */
+    public static AuthorizationManager<MethodInvocation> annotated() {
+        return new AnnotatedMethodManager();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, T object) {
+        return decide(authentication.get(), requiredMask);
+    }
+
+    /**
+     * Checks whether an authentication holds every permission of a mask
+     *
+     * @param authentication current authentication, may be null
+     * @param mask           required permissions
+     * @return true if all are held
+     */
+    public static boolean isGranted(Authentication authentication, long mask) {
+        return authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof AppUserDetails user
+                && user.getPermissions().hasAll(mask);
+    }
+
+    private static AuthorizationDecision decide(Authentication authentication, long mask) {
+        return isGranted(authentication, mask) ? GRANTED : DENIED;
+    }
+
+    /**
+     * Resolves {@link RequiresPermission} per method, caching the resulting mask
+     */
+    private static final class AnnotatedMethodManager implements AuthorizationManager<MethodInvocation> {
+
+        private final ConcurrentHashMap<Method, Long> masks = new ConcurrentHashMap<>();
+
+        @Override
+        public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+            Method method = invocation.getMethod();
+            Long mask = masks.get(method);
+            if (mask == null) {
+                mask = masks.computeIfAbsent(method, key -> resolve(key, invocation.getThis()));
+            }
+            return decide(authentication.get(), mask);
+        }
+
+        private static long resolve(Method method, Object target) {
+            Method specific = target != null ? AopUtils.getMostSpecificMethod(method, target.getClass()) : method;
+            RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(specific,
+                    RequiresPermission.class);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(specific.getDeclaringClass(),
+                        RequiresPermission.class);
+            }
+            return annotation != null ? Permission.maskOf(annotation.value()) : 0L;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.forge.server.security.authorization;
+
+import com.forge.server.core.entity.User;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Permission Set
+ * <p>
+ * Immutable, compiled permissions of one principal: a mask of account-wide permissions derived
+ * from the user role, and a mask per project the user is a member of. Account-wide permissions
+ * apply in every project. Compilation happens when the principal is built, so an authorization
+ * check is a bitwise AND against a field, plus one map lookup for a project-scoped check.
+ * <p>
+ * Principals without project memberships share one cached instance per role.
+ *
+ * @author Forge Team
+ */
+public final class PermissionSet {
+
+    private static final long VIEWER_MASK = Permission.maskOf(Permission.USER_READ, Permission.API_KEY_MANAGE,
+            Permission.PLUGIN_READ, Permission.BUILD_CACHE_READ, Permission.JOB_READ);
+    private static final long DEVELOPER_MASK = VIEWER_MASK | Permission.maskOf(Permission.PLUGIN_MANAGE,
+            Permission.BUILD_CACHE_WRITE, Permission.JOB_SUBMIT, Permission.JOB_CANCEL);
+    private static final long ADMIN_MASK = -1L >>> (Long.SIZE - Permission.values().length);
+
+    private static final Map<User.UserRole, PermissionSet> BY_ROLE = new EnumMap<>(User.UserRole.class);
+
+    static {
+        for (User.UserRole role : User.UserRole.values()) {
+            BY_ROLE.put(role, new PermissionSet(roleMask(role), Map.of()));
+        }
+    }
+
+    private final long global;
+    private final Map<String, Long> projects;
+
+    private PermissionSet(long global, Map<String, Long> projects) {
+        this.global = global;
+        this.projects = projects;
+    }
+
+    /**
+     * Gets the shared permission set of a role, for a user without project memberships
+     *
+     * @param role user role
+     * @return permission set of the role
+     */
+    public static PermissionSet of(User.UserRole role) {
+        return BY_ROLE.get(role);
+    }
+
+    /**
+     * Compiles the permissions of a user with project memberships
+     *
+     * @param role        user role
+     * @param memberships role held in each project, by project ID
+     * @return compiled permission set
+     */
+    public static PermissionSet of(User.UserRole role, Map<String, ProjectRole> memberships) {
+        if (memberships.isEmpty()) {
+            return of(role);
+        }
+        Map<String, Long> projects = new HashMap<>(memberships.size() * 2);
+        memberships.forEach((projectId, projectRole) -> projects.put(projectId, projectRole.mask()));
+        return new PermissionSet(roleMask(role), Map.copyOf(projects));
+    }
+
+    /**
+     * Gets the account-wide permissions of a role
+     *
+     * @param role user role
+     * @return permission mask
+     */
+    public static long roleMask(User.UserRole role) {
+        return switch (role) {
+            case ADMIN -> ADMIN_MASK;
+            case DEVELOPER -> DEVELOPER_MASK;
+            case VIEWER -> VIEWER_MASK;
+        };
+    }
+
+    /**
+     * Checks an account-wide permission
+     *
+     * @param permission permission to check
+     * @return true if granted
+     */
+    public boolean has(Permission permission) {
+        return (global & permission.mask()) != 0;
+    }
+
+    /**
+     * Checks that every permission of a mask is granted account-wide
+     *
+     * @param mask permissions to check, see {@link Permission#maskOf}
+     * @return true if all are granted
+     */
+    public boolean hasAll(long mask) {
+        return (global & mask) == mask;
+    }
+
+    /**
+     * Checks a permission within a project
+     *
+     * @param projectId  project ID
+     * @param permission permission to check
+     * @return true if granted account-wide or by the user's role in the project
+     */
+    public boolean has(String projectId, Permission permission) {
+        if ((global & permission.mask()) != 0) {
+            return true;
+        }
+        Long project = projects.get(projectId);
+        return project != null && (project & permission.mask()) != 0;
+    }
+
+    /**
+     * Gets the account-wide permission mask
+     *
+     * @return permission mask
+     */
+    public long getGlobalMask() {
+        return global;
+    }
+}
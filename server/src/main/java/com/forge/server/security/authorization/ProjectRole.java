@@ -0,0 +1,32 @@
+package com.forge.server.security.authorization;
+
+/**
+ * Project Role
+ * <p>
+ * Role a user holds within a single project. Like the account-wide role, each project role
+ * compiles to a fixed permission mask once, when the enum is initialised.
+ *
+ * @author Forge Team
+ */
+public enum ProjectRole {
+
+    VIEWER(Permission.maskOf(Permission.JOB_READ, Permission.BUILD_CACHE_READ)),
+    CONTRIBUTOR(VIEWER.mask | Permission.maskOf(Permission.JOB_SUBMIT, Permission.JOB_CANCEL,
+            Permission.BUILD_CACHE_WRITE)),
+    MAINTAINER(CONTRIBUTOR.mask | Permission.PROJECT_ADMIN.mask());
+
+    private final long mask;
+
+    ProjectRole(long mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Gets the permissions granted by this role within its project
+     *
+     * @return permission mask
+     */
+    public long mask() {
+        return mask;
+    }
+}
@@ -0,0 +1,29 @@
+package com.forge.server.security.authorization;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires Permission
+ * <p>
+ * Restricts a method, or every method of a class, to principals holding all of the given
+ * permissions. It is checked against the principal's compiled {@link PermissionSet} without any
+ * expression evaluation; a method annotation replaces a class annotation.
+ *
+ * @author Forge Team
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresPermission {
+
+    /**
+     * Permissions the principal must hold
+     *
+     * @return required permissions
+     */
+    Permission[] value();
+}
@@ -4,11 +4,16 @@ import com.forge.common.constants.JwtConstants;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * JWT Configuration Properties
  * <p>
  * Loads JWT-related configuration from application properties.
  * Configure via: app.jwt.secret, app.jwt.expiration-ms, etc.
+ * <p>
+ * Tokens are signed with the HMAC secret by default. With an asymmetric signing algorithm the
+ * secret is unused; key pairs are generated, rotated and published by JwtKeyManager.
  */
 @Configuration
 @ConfigurationProperties(prefix = "app.jwt")
@@ -19,6 +24,17 @@ public class JwtConfig {
     private long refreshExpirationMs = 604800000; // 7 days
     private String tokenPrefix = JwtConstants.TOKEN_PREFIX;
     private String headerName = JwtConstants.HEADER_NAME;
+    private SigningAlgorithm signingAlgorithm = SigningAlgorithm.HS256;
+    private Duration keyRotationInterval = Duration.ofDays(7);
+    private Duration keyPublicationDelay = Duration.ofMinutes(15);
+    private Duration keyRefreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Algorithms tokens can be signed with
+     */
+    public enum SigningAlgorithm {
+        HS256, ES256, EDDSA
+    }
 
     /**
      * Gets the JWT secret key
@@ -109,4 +125,78 @@ public class JwtConfig {
     public void setHeaderName(String headerName) {
         this.headerName = headerName;
     }
+
+    /**
+     * Gets the algorithm tokens are signed with
+     *
+     * @return signing algorithm
+     */
+    public SigningAlgorithm getSigningAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    /**
+     * Sets the algorithm tokens are signed with
+     *
+     * @param signingAlgorithm signing algorithm
+     */
+    public void setSigningAlgorithm(SigningAlgorithm signingAlgorithm) {
+        this.signingAlgorithm = signingAlgorithm;
+    }
+
+    /**
+     * Gets how long an asymmetric key is used before a new one is generated
+     *
+     * @return key rotation interval
+     */
+    public Duration getKeyRotationInterval() {
+        return keyRotationInterval;
+    }
+
+    /**
+     * Sets how long an asymmetric key is used before a new one is generated
+     *
+     * @param keyRotationInterval key rotation interval
+     */
+    public void setKeyRotationInterval(Duration keyRotationInterval) {
+        this.keyRotationInterval = keyRotationInterval;
+    }
+
+    /**
+     * Gets how long a new key is published before tokens are signed with it
+     * <p>
+     * Must exceed the key refresh interval plus the time verifiers cache the key set.
+     *
+     * @return key publication delay
+     */
+    public Duration getKeyPublicationDelay() {
+        return keyPublicationDelay;
+    }
+
+    /**
+     * Sets how long a new key is published before tokens are signed with it
+     *
+     * @param keyPublicationDelay key publication delay
+     */
+    public void setKeyPublicationDelay(Duration keyPublicationDelay) {
+        this.keyPublicationDelay = keyPublicationDelay;
+    }
+
+    /**
+     * Gets how often keys are reloaded and checked for rotation; also the JWKS cache lifetime
+     *
+     * @return key refresh interval
+     */
+    public Duration getKeyRefreshInterval() {
+        return keyRefreshInterval;
+    }
+
+    /**
+     * Sets how often keys are reloaded and checked for rotation
+     *
+     * @param keyRefreshInterval key refresh interval
+     */
+    public void setKeyRefreshInterval(Duration keyRefreshInterval) {
+        this.keyRefreshInterval = keyRefreshInterval;
+    }
 }
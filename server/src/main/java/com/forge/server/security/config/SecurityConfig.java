@@ -2,18 +2,37 @@ package com.forge.server.security.config;
 
 import com.forge.common.constants.ApiConstants;
 import com.forge.common.constants.SecurityConstants;
+import com.forge.server.security.authorization.Permission;
+import com.forge.server.security.authorization.PermissionAuthorizationManager;
+import com.forge.server.security.authorization.RequiresPermission;
+import com.forge.server.security.filter.ConcurrencyLimitFilter;
 import com.forge.server.security.filter.JwtAuthenticationFilter;
+import com.forge.server.security.filter.RequestTimingFilter;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,14 +51,21 @@ public class SecurityConfig {
 
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final RequestTimingFilter requestTimingFilter;
 
     /**
      * Constructor for SecurityConfig
      *
      * @param jwtAuthenticationFilter JWT authentication filter
+     * @param concurrencyLimitFilter  load shedding filter, run before authentication
+     * @param requestTimingFilter     per-endpoint latency recording, run before everything else
      */
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+            ConcurrencyLimitFilter concurrencyLimitFilter, RequestTimingFilter requestTimingFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.requestTimingFilter = requestTimingFilter;
     }
 
     /**
@@ -56,13 +82,59 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.POST, ApiConstants.FULL_REGISTER_PATH, ApiConstants.FULL_LOGIN_PATH).permitAll()
+                        .requestMatchers(HttpMethod.POST, ApiConstants.FULL_REGISTER_PATH, ApiConstants.FULL_LOGIN_PATH,
+                                ApiConstants.FULL_REFRESH_PATH).permitAll()
+                        .requestMatchers(HttpMethod.GET, ApiConstants.FULL_USERNAME_AVAILABLE_PATH,
+                                ApiConstants.JWKS_PATH).permitAll()
+                        .requestMatchers(ApiConstants.ACTUATOR_PROFILER_PATH, ApiConstants.ACTUATOR_STARTUP_PATH)
+                        .access(PermissionAuthorizationManager.require(Permission.USER_ADMIN))
                         .requestMatchers(ApiConstants.API_HEALTH_PATH + "/**", ApiConstants.ACTUATOR_PATH).permitAll()
+                        .requestMatchers(ApiConstants.API_ADMIN_PATH + "/**")
+                        .access(PermissionAuthorizationManager.require(Permission.USER_ADMIN))
                         .anyRequest().authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .exceptionHandling(exceptions -> exceptions
+                        .defaultAuthenticationEntryPointFor(buildCacheEntryPoint(),
+                                new AntPathRequestMatcher(ApiConstants.API_BUILD_CACHE_PATTERN))
+                        .defaultAuthenticationEntryPointFor(new Http403ForbiddenEntryPoint(),
+                                AnyRequestMatcher.INSTANCE))
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterBefore(requestTimingFilter, DisableEncodeUrlFilter.class);
         return http.build();
     }
 
+    /**
+     * Enforces {@link RequiresPermission} on controller and service methods with a bitwise check
+     * of the principal's compiled permissions, ahead of any expression-based annotations
+     *
+     * @return method authorization advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresPermissionAuthorization() {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                Pointcuts.union(new AnnotationMatchingPointcut(RequiresPermission.class, true),
+                        new AnnotationMatchingPointcut(null, RequiresPermission.class, true)),
+                PermissionAuthorizationManager.annotated());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() - 1);
+        return interceptor;
+    }
+
+    /**
+     * Challenges unauthenticated build cache requests for HTTP Basic credentials, which build
+     * tools only send once asked for them
+     *
+     * @return build cache authentication entry point
+     */
+    private static AuthenticationEntryPoint buildCacheEntryPoint() {
+        return (request, response, authException) -> {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE,
+                    "Basic realm=\"" + SecurityConstants.BUILD_CACHE_REALM + "\"");
+            // Not sendError: the error dispatch to /error would itself be refused as unauthenticated
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        };
+    }
+
     /**
      * Configures CORS settings
      *
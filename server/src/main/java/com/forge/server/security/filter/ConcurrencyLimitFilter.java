@@ -0,0 +1,169 @@
+package com.forge.server.security.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.forge.common.constants.MessageConstants;
+import com.forge.server.common.util.AdaptiveConcurrencyLimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Concurrency Limit Filter
+ * <p>
+ * Bounds the number of requests the server works on at once with an
+ * {@link AdaptiveConcurrencyLimit}, so that under overload excess requests are rejected with an
+ * immediate 503 instead of queueing in Jetty until every endpoint times out together. It runs
+ * ahead of authentication, so shed requests cost no token parsing or database lookup.
+ * <p>
+ * Requests matching the priority paths (health checks, login and token refresh by default)
+ * may use reserved slots beyond the limit and are not measured, so a slow login hash does not
+ * read as server congestion. Asynchronous requests, such as streamed responses, hold their slot
+ * until they complete but are not measured either.
+ *
+ * @author Forge Team
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String ERROR_OVERLOADED = "Server is overloaded, please retry shortly";
+    private static final String METRIC_LIMIT = "forge.http.concurrency.limit";
+    private static final String METRIC_INFLIGHT = "forge.http.concurrency.inflight";
+    private static final String METRIC_REJECTED = "forge.http.concurrency.rejected";
+    private static final String TAG_LANE = "lane";
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final byte[] OVERLOADED_BODY = ("{\"" + MessageConstants.STATUS + "\":\""
+            + MessageConstants.STATUS_ERROR + "\",\"" + MessageConstants.MESSAGE + "\":\"" + ERROR_OVERLOADED + "\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final boolean enabled;
+    private final List<String> priorityPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter rejected;
+    private final Counter priorityRejected;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+            @Value("${forge.http.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${forge.http.concurrency-limit.initial-limit:100}") int initialLimit,
+            @Value("${forge.http.concurrency-limit.min-limit:20}") int minLimit,
+            @Value("${forge.http.concurrency-limit.max-limit:1000}") int maxLimit,
+            @Value("${forge.http.concurrency-limit.priority-headroom:20}") int priorityHeadroom,
+            @Value("${forge.http.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${forge.http.concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${forge.http.concurrency-limit.window-size:200}") int windowSize,
+            @Value("${forge.http.concurrency-limit.window-duration:1s}") Duration windowDuration,
+            @Value("${forge.http.concurrency-limit.priority-paths:/api/health/**,/actuator/health/**,"
+                    + "/api/auth/login,/api/auth/refresh}") List<String> priorityPaths) {
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, priorityHeadroom, rttTolerance,
+                smoothing, windowSize, windowDuration);
+        this.enabled = enabled;
+        this.priorityPaths = List.copyOf(priorityPaths);
+        this.rejected = Counter.builder(METRIC_REJECTED).tag(TAG_LANE, "default").register(meterRegistry);
+        this.priorityRejected = Counter.builder(METRIC_REJECTED).tag(TAG_LANE, "priority").register(meterRegistry);
+        Gauge.builder(METRIC_LIMIT, limit, AdaptiveConcurrencyLimit::getLimit).register(meterRegistry);
+        Gauge.builder(METRIC_INFLIGHT, limit, AdaptiveConcurrencyLimit::getInflight).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean priority = isPriority(request);
+        if (!limit.tryAcquire(priority)) {
+            (priority ? priorityRejected : rejected).increment();
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limit.release(priority ? -1 : System.nanoTime() - start);
+            }
+        }
+    }
+
+    private boolean isPriority(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : priorityPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(OVERLOADED_BODY.length);
+        response.getOutputStream().write(OVERLOADED_BODY);
+    }
+
+    /**
+     * Releases the slot of an asynchronous request once, whichever way it ends
+     */
+    private class ReleaseListener implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // The container drops listeners when an async cycle restarts, so carry this one over
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.release(-1);
+            }
+        }
+    }
+}
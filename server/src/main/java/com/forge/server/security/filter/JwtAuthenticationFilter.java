@@ -1,11 +1,19 @@
 package com.forge.server.security.filter;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import com.forge.common.constants.ApiConstants;
 import com.forge.common.constants.JwtConstants;
+import com.forge.common.constants.SecurityConstants;
+import com.forge.server.common.jfr.AuthenticationEvent;
+import com.forge.server.core.service.authentication.ApiKeyService;
+import com.forge.server.core.service.authentication.TokenRevocationService;
+import com.forge.server.core.service.monitoring.RequestTimings;
 import com.forge.server.security.config.JwtConfig;
 import com.forge.server.security.provider.JwtTokenProvider;
 import com.forge.server.security.util.AppUserDetailsService;
@@ -16,38 +24,56 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter
  * <p>
  * Intercepts requests and validates JWT tokens, setting authentication in security context.
+ * API keys are accepted in place of a JWT, sent the same way as a Bearer token. Build cache
+ * clients such as Gradle's HttpBuildCache can only send HTTP Basic credentials, so on the build
+ * cache endpoints an API key is also accepted as the Basic password, with any username.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final RequestMatcher BASIC_AUTH_PATHS = new AntPathRequestMatcher(
+            ApiConstants.API_BUILD_CACHE_PATTERN);
+
     private final JwtConfig jwtConfig;
     private final JwtTokenProvider jwtTokenProvider;
     private final AppUserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ApiKeyService apiKeyService;
 
     /**
      * Constructor for JwtAuthenticationFilter
      *
-     * @param jwtConfig          JWT configuration
-     * @param jwtTokenProvider   JWT token provider
-     * @param userDetailsService user details service
+     * @param jwtConfig              JWT configuration
+     * @param jwtTokenProvider       JWT token provider
+     * @param userDetailsService     user details service
+     * @param tokenRevocationService revoked token lookup
+     * @param apiKeyService          API key verification
      */
     public JwtAuthenticationFilter(JwtConfig jwtConfig, JwtTokenProvider jwtTokenProvider,
-            AppUserDetailsService userDetailsService) {
+            AppUserDetailsService userDetailsService, TokenRevocationService tokenRevocationService,
+            ApiKeyService apiKeyService) {
         this.jwtConfig = jwtConfig;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.apiKeyService = apiKeyService;
     }
 
     /**
@@ -62,22 +88,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        long began = RequestTimings.begin(RequestTimings.Segment.JWT);
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
         try {
             String token = extractTokenFromRequest(request);
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                String userId = jwtTokenProvider.getUserIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                if (userDetails != null) {
-                    Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
-                            userDetails.getAuthorities());
+            boolean hasToken = StringUtils.hasText(token);
+            boolean apiKey = hasToken && apiKeyService.isApiKey(token);
+            if (!hasToken) {
+                event.setCredentialType(AuthenticationEvent.CredentialType.NONE);
+            } else {
+                event.setCredentialType(apiKey ? AuthenticationEvent.CredentialType.API_KEY
+                        : AuthenticationEvent.CredentialType.JWT);
+            }
+            if (apiKey) {
+                Authentication authentication = apiKeyService.authenticate(token, request.getMethod(),
+                        request.getRemoteAddr(), event);
+                if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
+            } else if (hasToken) {
+                // One signature check per request; every claim below is read from this parse
+                Optional<Claims> claims = jwtTokenProvider.parseAccessToken(token)
+                        .filter(verified -> !tokenRevocationService.isRevoked(verified.getId()));
+                if (claims.isPresent()) {
+                    String email = claims.get().get(JwtConstants.CLAIM_EMAIL, String.class);
+
+                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                    if (userDetails != null) {
+                        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails,
+                                null, userDetails.getAuthorities());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
+                }
             }
         } catch (Exception e) {
             logger.error(JwtConstants.LOG_AUTHENTICATION_FAILED, e.getMessage());
             SecurityContextHolder.clearContext();
+        } finally {
+            RequestTimings.end(RequestTimings.Segment.JWT, began);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setUri(request.getRequestURI());
+                event.setAuthenticated(SecurityContextHolder.getContext().getAuthentication() != null);
+                event.commit();
+            }
         }
         filterChain.doFilter(request, response);
     }
@@ -86,13 +141,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * Extracts JWT token from request header
      *
      * @param request HTTP request
-     * @return JWT token or null if not found
+     * @return JWT token, or an API key sent as a Bearer token or a Basic password; null if not found
      */
     private String extractTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(jwtConfig.getHeaderName());
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(jwtConfig.getTokenPrefix())) {
             return bearerToken.substring(jwtConfig.getTokenPrefix().length());
         }
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(SecurityConstants.BASIC_AUTH_PREFIX)
+                && BASIC_AUTH_PATHS.matches(request)) {
+            return extractApiKeyFromBasic(bearerToken.substring(SecurityConstants.BASIC_AUTH_PREFIX.length()));
+        }
         return null;
     }
+
+    /**
+     * Extracts an API key sent as the password of HTTP Basic credentials
+     *
+     * @param credentials Base64-encoded {@code username:password}
+     * @return the API key, or null if the password is not one
+     */
+    private String extractApiKeyFromBasic(String credentials) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder().decode(credentials.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int separator = decoded.indexOf(':');
+        String password = separator >= 0 ? decoded.substring(separator + 1) : null;
+        return password != null && apiKeyService.isApiKey(password) ? password : null;
+    }
 }
@@ -0,0 +1,58 @@
+package com.forge.server.security.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.forge.server.core.service.monitoring.LatencyRecorder;
+import com.forge.server.core.service.monitoring.RequestTimings;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Request Timing Filter
+ * <p>
+ * Outermost filter of the security chain. It binds a {@link RequestTimings} to the request
+ * thread and, once the request completes, records its latency and breakdown against the
+ * controller method that served it. Requests no controller handled, such as those shed by the
+ * concurrency limit or rejected before dispatch, are not recorded, and neither are
+ * asynchronous requests, whose work outlives this thread.
+ *
+ * @author Forge Team
+ */
+@Component
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final LatencyRecorder latencyRecorder;
+
+    public RequestTimingFilter(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            long totalNanos = System.nanoTime() - timings.getStartNanos();
+            Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+            if (handler instanceof HandlerMethod handlerMethod && !request.isAsyncStarted()) {
+                String endpoint = request.getMethod() + " "
+                        + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String handlerName = handlerMethod.getBeanType().getSimpleName() + "."
+                        + handlerMethod.getMethod().getName();
+                latencyRecorder.record(endpoint, handlerName, request.getRequestURI(), response.getStatus(), timings,
+                        totalNanos);
+            }
+        }
+    }
+}
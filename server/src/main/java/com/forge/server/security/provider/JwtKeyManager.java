@@ -0,0 +1,307 @@
+package com.forge.server.security.provider;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import com.forge.common.constants.JwtConstants;
+import com.forge.server.core.entity.JwtSigningKey;
+import com.forge.server.core.entity.id.UuidV7;
+import com.forge.server.core.repository.JwtSigningKeyRepository;
+import com.forge.server.core.service.timer.TimerHandle;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.config.JwtConfig;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * JWT Key Manager
+ * <p>
+ * Owns the asymmetric key pairs used when tokens are signed with ES256 or EdDSA. Tokens carry
+ * the id of their signing key in the kid header, and the public keys are published as a JWK set
+ * so workers and other services can verify tokens offline against a cached copy.
+ * <p>
+ * Keys are stored in the database so every server instance signs and verifies with the same
+ * set. On the shared timer each instance reloads the set and, once the newest key is older than
+ * the rotation interval, generates a successor. A new key is published for the publication
+ * delay before it signs anything, so verifiers that cached the previous set have refreshed by
+ * the time they see its kid. A retired key is kept until every token it signed has expired.
+ * <p>
+ * With the default HS256 algorithm this component is inactive and publishes an empty set.
+ *
+ * @author Forge Team
+ */
+@Component
+public class JwtKeyManager extends LocatorAdapter<Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyManager.class);
+
+    private static final String JWK_USE_SIGNATURE = "sig";
+    private static final String LOG_KEY_GENERATED = "Generated {} JWT signing key {}";
+    private static final String LOG_KEY_DELETED = "Deleted retired JWT signing key {}";
+    private static final String LOG_REFRESH_FAILED = "Failed to refresh JWT signing keys: {}";
+    private static final String ERROR_KEY_DECODE_FAILED = "Failed to decode JWT signing key ";
+
+    private final JwtConfig jwtConfig;
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TimerService timerService;
+    private final boolean enabled;
+
+    private volatile KeyRing keyRing = KeyRing.EMPTY;
+    private TimerHandle refreshTimer;
+
+    public JwtKeyManager(JwtConfig jwtConfig, JwtSigningKeyRepository jwtSigningKeyRepository,
+            PlatformTransactionManager transactionManager, TimerService timerService) {
+        this.jwtConfig = jwtConfig;
+        this.jwtSigningKeyRepository = jwtSigningKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timerService = timerService;
+        this.enabled = jwtConfig.getSigningAlgorithm() != JwtConfig.SigningAlgorithm.HS256;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Fails startup if no key can be loaded, rather than serving without a signing key
+        refresh();
+        Duration interval = jwtConfig.getKeyRefreshInterval();
+        refreshTimer = timerService.scheduleWithFixedDelay(this::scheduledRefresh, interval, interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshTimer != null) {
+            refreshTimer.cancel();
+        }
+    }
+
+    /**
+     * Checks whether tokens are signed with managed asymmetric keys
+     *
+     * @return true for ES256 and EdDSA, false for HS256
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Signs a token with the current signing key, recording its id in the kid header
+     *
+     * @param builder token builder with all claims set
+     * @return builder configured for signing
+     */
+    public JwtBuilder signWith(JwtBuilder builder) {
+        KeyRing current = keyRing;
+        return builder.header().keyId(current.signingKeyId).and()
+                .signWith(current.signingKey, current.signingAlgorithm);
+    }
+
+    /**
+     * Gets the public keys that may have signed a live token, as a JWK set document
+     *
+     * @return JWK set JSON
+     */
+    public String getJwks() {
+        return keyRing.jwks;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        PublicKey key = keyRing.verificationKeys.get(header.getKeyId());
+        if (key == null) {
+            throw new UnsupportedJwtException(JwtConstants.ERROR_UNKNOWN_SIGNING_KEY);
+        }
+        return key;
+    }
+
+    /**
+     * Reloads the keys, generating a successor when the newest key is due for rotation and
+     * deleting keys whose tokens have all expired
+     */
+    public void refresh() {
+        keyRing = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<JwtSigningKey> keys = new ArrayList<>(jwtSigningKeyRepository.findAllByOrderByCreatedAtAsc());
+            JwtSigningKey newest = newest(keys);
+            if (newest == null || !newest.getCreatedAt().plus(jwtConfig.getKeyRotationInterval()).isAfter(now)) {
+                JwtSigningKey generated = generate(now);
+                jwtSigningKeyRepository.save(generated);
+                keys.add(generated);
+                logger.info(LOG_KEY_GENERATED, generated.getAlgorithm(), generated.getId());
+            }
+            deleteRetired(keys, now);
+            return load(keys, now);
+        });
+    }
+
+    private void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn(LOG_REFRESH_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the newest key of the configured algorithm
+     */
+    private JwtSigningKey newest(List<JwtSigningKey> keys) {
+        String algorithm = jwtConfig.getSigningAlgorithm().name();
+        JwtSigningKey newest = null;
+        for (JwtSigningKey key : keys) {
+            if (key.getAlgorithm().equals(algorithm)) {
+                newest = key;
+            }
+        }
+        return newest;
+    }
+
+    /**
+     * Picks the newest key of the configured algorithm that has been published for the
+     * publication delay, or the longest published one if none has yet, as on first start
+     */
+    private JwtSigningKey signingKey(List<JwtSigningKey> keys, LocalDateTime now) {
+        String algorithm = jwtConfig.getSigningAlgorithm().name();
+        JwtSigningKey oldest = null;
+        JwtSigningKey published = null;
+        for (JwtSigningKey key : keys) {
+            if (!key.getAlgorithm().equals(algorithm)) {
+                continue;
+            }
+            if (oldest == null) {
+                oldest = key;
+            }
+            if (!key.getCreatedAt().plus(jwtConfig.getKeyPublicationDelay()).isAfter(now)) {
+                published = key;
+            }
+        }
+        return published != null ? published : oldest;
+    }
+
+    private JwtSigningKey generate(LocalDateTime now) {
+        KeyPair keyPair = jwtConfig.getSigningAlgorithm() == JwtConfig.SigningAlgorithm.EDDSA
+                ? Jwks.CRV.Ed25519.keyPair().build()
+                : Jwts.SIG.ES256.keyPair().build();
+        return new JwtSigningKey(UuidV7.generate(), jwtConfig.getSigningAlgorithm().name(),
+                keyPair.getPrivate().getEncoded(), keyPair.getPublic().getEncoded(), now);
+    }
+
+    /**
+     * A key stops signing once its successor is published; after that it only has to verify
+     * tokens until the longest-lived of them expires
+     */
+    private void deleteRetired(List<JwtSigningKey> keys, LocalDateTime now) {
+        Duration tokenLifetime = Duration.ofMillis(Math.max(jwtConfig.getExpirationMs(),
+                jwtConfig.getRefreshExpirationMs()));
+        while (keys.size() > 1) {
+            JwtSigningKey oldest = keys.get(0);
+            LocalDateTime retiredAt = keys.get(1).getCreatedAt().plus(jwtConfig.getKeyPublicationDelay());
+            if (retiredAt.plus(tokenLifetime).isAfter(now)) {
+                break;
+            }
+            jwtSigningKeyRepository.delete(oldest);
+            keys.remove(0);
+            logger.info(LOG_KEY_DELETED, oldest.getId());
+        }
+    }
+
+    private KeyRing load(List<JwtSigningKey> keys, LocalDateTime now) {
+        JwtSigningKey signing = signingKey(keys, now);
+        Map<String, PublicKey> verificationKeys = new HashMap<>();
+        StringJoiner jwks = new StringJoiner(",", "{\"keys\":[", "]}");
+        PrivateKey signingKey = null;
+        for (JwtSigningKey key : keys) {
+            String keyId = key.getId().toString();
+            SignatureAlgorithm algorithm = signatureAlgorithm(key.getAlgorithm());
+            PublicKey publicKey = decodePublicKey(key);
+            verificationKeys.put(keyId, publicKey);
+            jwks.add(Jwks.json(Jwks.builder().key(publicKey).id(keyId).algorithm(algorithm.getId())
+                    .publicKeyUse(JWK_USE_SIGNATURE).build()));
+            if (key == signing) {
+                signingKey = decodePrivateKey(key);
+            }
+        }
+        return new KeyRing(verificationKeys, signing.getId().toString(), signingKey,
+                signatureAlgorithm(signing.getAlgorithm()), jwks.toString());
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+        return JwtConfig.SigningAlgorithm.valueOf(algorithm) == JwtConfig.SigningAlgorithm.EDDSA
+                ? Jwts.SIG.EdDSA
+                : Jwts.SIG.ES256;
+    }
+
+    private static KeyFactory keyFactory(JwtSigningKey key) throws GeneralSecurityException {
+        return KeyFactory.getInstance(JwtConfig.SigningAlgorithm.valueOf(key.getAlgorithm())
+                == JwtConfig.SigningAlgorithm.EDDSA ? "Ed25519" : "EC");
+    }
+
+    private static PublicKey decodePublicKey(JwtSigningKey key) {
+        try {
+            return keyFactory(key).generatePublic(new X509EncodedKeySpec(key.getPublicKey()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ERROR_KEY_DECODE_FAILED + key.getId(), e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(JwtSigningKey key) {
+        try {
+            return keyFactory(key).generatePrivate(new PKCS8EncodedKeySpec(key.getPrivateKey()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ERROR_KEY_DECODE_FAILED + key.getId(), e);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the keys, swapped as a whole on refresh
+     */
+    private static class KeyRing {
+
+        private static final KeyRing EMPTY = new KeyRing(Map.of(), null, null, null, "{\"keys\":[]}");
+
+        private final Map<String, PublicKey> verificationKeys;
+        private final String signingKeyId;
+        private final PrivateKey signingKey;
+        private final SignatureAlgorithm signingAlgorithm;
+        private final String jwks;
+
+        KeyRing(Map<String, PublicKey> verificationKeys, String signingKeyId, PrivateKey signingKey,
+                SignatureAlgorithm signingAlgorithm, String jwks) {
+            this.verificationKeys = verificationKeys;
+            this.signingKeyId = signingKeyId;
+            this.signingKey = signingKey;
+            this.signingAlgorithm = signingAlgorithm;
+            this.jwks = jwks;
+        }
+    }
+}
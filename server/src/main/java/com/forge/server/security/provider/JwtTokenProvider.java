@@ -2,13 +2,17 @@ package com.forge.server.security.provider;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.security.SecurityException;
 
 import com.forge.common.constants.JwtConstants;
+import com.forge.server.core.entity.id.UuidV7;
 import com.forge.server.security.config.JwtConfig;
 
 import org.slf4j.Logger;
@@ -21,11 +25,15 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT Token Provider
  * <p>
  * Handles JWT token generation, validation, and claims extraction.
+ * <p>
+ * Tokens are signed with the HMAC secret, or with the current asymmetric key from
+ * JwtKeyManager when an ES256 or EdDSA signing algorithm is configured.
  */
 @Component
 public class JwtTokenProvider {
@@ -34,15 +42,19 @@ public class JwtTokenProvider {
 
     private final JwtConfig jwtConfig;
     private final SecretKey secretKey;
+    private final JwtKeyManager jwtKeyManager;
+    private final JwtParser parser;
 
     /**
      * Constructor for JwtTokenProvider
      *
-     * @param jwtConfig JWT configuration
+     * @param jwtConfig     JWT configuration
+     * @param jwtKeyManager asymmetric signing keys, used unless the algorithm is HS256
      * @throws IllegalStateException if JWT secret is null or empty, or if key generation fails
      */
-    public JwtTokenProvider(JwtConfig jwtConfig) {
+    public JwtTokenProvider(JwtConfig jwtConfig, JwtKeyManager jwtKeyManager) {
         this.jwtConfig = jwtConfig;
+        this.jwtKeyManager = jwtKeyManager;
         String secret = jwtConfig.getSecret();
 
         if (secret == null || secret.isEmpty()) {
@@ -70,6 +82,11 @@ public class JwtTokenProvider {
             logger.error(JwtConstants.LOG_SECRET_HASH_FAILED, e.getMessage());
             throw new IllegalStateException(JwtConstants.ERROR_SECRET_KEY_CREATION_FAILED, e);
         }
+
+        // Parsers are immutable and thread-safe, so one is built up front rather than per token
+        this.parser = jwtKeyManager.isEnabled()
+                ? Jwts.parser().keyLocator(jwtKeyManager).build()
+                : Jwts.parser().verifyWith(secretKey).build();
     }
 
     /**
@@ -81,28 +98,78 @@ public class JwtTokenProvider {
      * @return JWT token string
      */
     public String generateToken(String id, String email, String name) {
+        return generateToken(id, email, name, null);
+    }
+
+    /**
+     * Generates JWT token for a user's login session
+     * <p>
+     * The refresh token family is carried so that logging out with the access token can also
+     * end the session's refresh tokens.
+     *
+     * @param id       user ID
+     * @param email    user email
+     * @param name     user name
+     * @param familyId ID of the refresh token family issued with the token, or null if none
+     * @return JWT token string
+     */
+    public String generateToken(String id, String email, String name, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtConfig.getExpirationMs());
 
         Map<String, Object> claims = new HashMap<>();
         claims.put(JwtConstants.CLAIM_EMAIL, email);
         claims.put(JwtConstants.CLAIM_NAME, name);
+        if (familyId != null) {
+            claims.put(JwtConstants.CLAIM_FAMILY, familyId);
+        }
 
-        return Jwts.builder().subject(id).claims(claims).issuedAt(now).expiration(expiryDate).signWith(secretKey)
-                .compact();
+        // The jti lets an access token be revoked before it expires
+        return sign(Jwts.builder().id(UuidV7.generate().toString()).subject(id).claims(claims).issuedAt(now)
+                .expiration(expiryDate));
     }
 
     /**
      * Generates refresh token
+     * <p>
+     * Refresh tokens carry the user's claims, plus the token id and family used for rotation and
+     * reuse detection.
      *
-     * @param id user ID
+     * @param id         user ID
+     * @param email      user email
+     * @param name       user name
+     * @param tokenId    refresh token ID, recorded server-side
+     * @param familyId   ID of the login session the token belongs to
+     * @param expiration expiry of the token, no later than the end of its login session
      * @return refresh token string
      */
-    public String generateRefreshToken(String id) {
+    public String generateRefreshToken(String id, String email, String name, String tokenId, String familyId,
+            Date expiration) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtConfig.getRefreshExpirationMs());
 
-        return Jwts.builder().subject(id).issuedAt(now).expiration(expiryDate).signWith(secretKey).compact();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtConstants.CLAIM_EMAIL, email);
+        claims.put(JwtConstants.CLAIM_NAME, name);
+        claims.put(JwtConstants.CLAIM_TOKEN_USE, JwtConstants.TOKEN_USE_REFRESH);
+        claims.put(JwtConstants.CLAIM_FAMILY, familyId);
+
+        return sign(Jwts.builder().id(tokenId).subject(id).claims(claims).issuedAt(now).expiration(expiration));
+    }
+
+    /**
+     * Verifies a refresh token and returns its claims
+     *
+     * @param token refresh token
+     * @return token claims
+     * @throws JwtException             if the signature is invalid, the token has expired or it is not a refresh token
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public Claims parseRefreshToken(String token) {
+        Claims claims = getClaims(token);
+        if (!JwtConstants.TOKEN_USE_REFRESH.equals(claims.get(JwtConstants.CLAIM_TOKEN_USE, String.class))) {
+            throw new UnsupportedJwtException(JwtConstants.ERROR_NOT_REFRESH_TOKEN);
+        }
+        return claims;
     }
 
     /**
@@ -116,6 +183,26 @@ public class JwtTokenProvider {
         return claims.getSubject();
     }
 
+    /**
+     * Extracts the token ID (jti) from token
+     *
+     * @param token JWT token
+     * @return token ID, or null for tokens issued without one
+     */
+    public String getTokenIdFromToken(String token) {
+        return getClaims(token).getId();
+    }
+
+    /**
+     * Extracts the expiry time from token
+     *
+     * @param token JWT token
+     * @return expiry time
+     */
+    public Date getExpirationFromToken(String token) {
+        return getClaims(token).getExpiration();
+    }
+
     /**
      * Extracts email from token
      *
@@ -138,6 +225,21 @@ public class JwtTokenProvider {
         return claims.get(JwtConstants.CLAIM_NAME, String.class);
     }
 
+    /**
+     * Verifies an access token and returns its claims; refresh tokens are rejected
+     *
+     * @param token JWT token
+     * @return token claims, or empty if the token is invalid, expired or not an access token
+     */
+    public Optional<Claims> parseAccessToken(String token) {
+        Optional<Claims> claims = parse(token);
+        if (claims.isPresent() && claims.get().get(JwtConstants.CLAIM_TOKEN_USE) != null) {
+            logger.warn(JwtConstants.LOG_REFRESH_TOKEN_AS_ACCESS);
+            return Optional.empty();
+        }
+        return claims;
+    }
+
     /**
      * Validates JWT token
      *
@@ -145,21 +247,17 @@ public class JwtTokenProvider {
      * @return true if valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (SignatureException ex) {
-            logger.warn(JwtConstants.LOG_INVALID_SIGNATURE, ex.getMessage());
-        } catch (MalformedJwtException ex) {
-            logger.warn(JwtConstants.LOG_INVALID_TOKEN, ex.getMessage());
-        } catch (ExpiredJwtException ex) {
-            logger.warn(JwtConstants.LOG_EXPIRED_TOKEN, ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            logger.warn(JwtConstants.LOG_UNSUPPORTED_TOKEN, ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            logger.warn(JwtConstants.LOG_EMPTY_CLAIMS, ex.getMessage());
-        }
-        return false;
+        return parse(token).isPresent();
+    }
+
+    /**
+     * Validates a token presented for API access; refresh tokens are rejected
+     *
+     * @param token JWT token to validate
+     * @return true if the token is a valid access token
+     */
+    public boolean validateAccessToken(String token) {
+        return parseAccessToken(token).isPresent();
     }
 
     /**
@@ -177,6 +275,42 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Signs a token with the configured key
+     *
+     * @param builder token builder with all claims set
+     * @return compact token string
+     */
+    private String sign(JwtBuilder builder) {
+        if (jwtKeyManager.isEnabled()) {
+            return jwtKeyManager.signWith(builder).compact();
+        }
+        return builder.signWith(secretKey).compact();
+    }
+
+    /**
+     * Verifies a token, logging why it was rejected
+     *
+     * @param token JWT token
+     * @return token claims, or empty if the token is invalid
+     */
+    private Optional<Claims> parse(String token) {
+        try {
+            return Optional.of(getClaims(token));
+        } catch (SecurityException ex) {
+            logger.warn(JwtConstants.LOG_INVALID_SIGNATURE, ex.getMessage());
+        } catch (MalformedJwtException ex) {
+            logger.warn(JwtConstants.LOG_INVALID_TOKEN, ex.getMessage());
+        } catch (ExpiredJwtException ex) {
+            logger.warn(JwtConstants.LOG_EXPIRED_TOKEN, ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            logger.warn(JwtConstants.LOG_UNSUPPORTED_TOKEN, ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            logger.warn(JwtConstants.LOG_EMPTY_CLAIMS, ex.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Extracts claims from token
      *
@@ -184,6 +318,6 @@ public class JwtTokenProvider {
      * @return token claims
      */
     private Claims getClaims(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
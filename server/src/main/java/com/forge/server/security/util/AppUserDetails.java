@@ -1,5 +1,7 @@
 package com.forge.server.security.util;
 
+import com.forge.server.security.authorization.PermissionSet;
+
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -9,7 +11,8 @@ import java.util.Set;
 /**
  * Application User Details
  * <p>
- * Implements UserDetails for Spring Security authentication.
+ * Implements UserDetails for Spring Security authentication. Besides the role authorities it
+ * carries the user's compiled {@link PermissionSet}, which authorization checks read directly.
  */
 public class AppUserDetails implements UserDetails {
 
@@ -18,6 +21,7 @@ public class AppUserDetails implements UserDetails {
     private final String password;
     private final String username;
     private final Set<GrantedAuthority> authorities;
+    private final PermissionSet permissions;
 
     /**
      * Constructor for AppUserDetails
@@ -27,13 +31,16 @@ public class AppUserDetails implements UserDetails {
      * @param password    user password hash
      * @param name        user name
      * @param authorities user authorities
+     * @param permissions compiled user permissions
      */
-    public AppUserDetails(String id, String email, String password, String name, Set<GrantedAuthority> authorities) {
+    public AppUserDetails(String id, String email, String password, String name, Set<GrantedAuthority> authorities,
+            PermissionSet permissions) {
         this.id = id;
         this.email = email;
         this.password = password;
         this.username = name;
         this.authorities = authorities;
+        this.permissions = permissions;
     }
 
     /**
@@ -75,6 +82,15 @@ public class AppUserDetails implements UserDetails {
         return id;
     }
 
+    /**
+     * Gets the compiled permissions of the user
+     *
+     * @return permission set
+     */
+    public PermissionSet getPermissions() {
+        return permissions;
+    }
+
     /**
      * Gets user email
      *
@@ -3,6 +3,7 @@ package com.forge.server.security.util;
 import com.forge.common.constants.PasswordConstants;
 import com.forge.server.core.entity.User;
 import com.forge.server.core.repository.UserRepository;
+import com.forge.server.security.authorization.PermissionSet;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,17 +12,28 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * Application User Details Service
  * <p>
- * Loads user details for Spring Security authentication.
+ * Loads user details for Spring Security authentication. Authorities and permissions depend only
+ * on the user role, so they are built once per role and shared by every principal.
  */
 @Service
 public class AppUserDetailsService implements UserDetailsService {
 
+    private static final Map<User.UserRole, Set<GrantedAuthority>> AUTHORITIES = new EnumMap<>(User.UserRole.class);
+
+    static {
+        for (User.UserRole role : User.UserRole.values()) {
+            AUTHORITIES.put(role, Set.of(new SimpleGrantedAuthority(PasswordConstants.ROLE_PREFIX + role.name())));
+        }
+    }
+
     private final UserRepository userRepository;
 
     /**
@@ -67,16 +79,13 @@ public class AppUserDetailsService implements UserDetailsService {
      * @return UserDetails instance
      */
     private UserDetails buildUserDetails(User user) {
-        Set<GrantedAuthority> authorities = Set.of(
-                new SimpleGrantedAuthority(PasswordConstants.ROLE_PREFIX + user.getRole().name())
-        );
-
         return new AppUserDetails(
                 user.getId().toString(),
                 user.getEmail(),
                 user.getPasswordHash(),
                 user.getUsername(),
-                authorities
+                AUTHORITIES.get(user.getRole()),
+                PermissionSet.of(user.getRole())
         );
     }
 }
@@ -0,0 +1,33 @@
+-- Forge: convert text UUID primary keys to BINARY(16)
+--
+-- Older deployments store users.id (and jobs.id) as a 36-character string. The entities now map
+-- these keys to BINARY(16) and generate new ids as time-ordered UUIDv7, so the clustered index
+-- grows at its right-hand edge instead of splitting random pages.
+--
+-- ddl-auto=update never changes a column's type, so run this once against MySQL 8 with the server
+-- stopped, before starting the new version. Skip a table if DESCRIBE already shows binary(16).
+--
+-- Existing ids are preserved: UUID_TO_BIN without the swap flag produces the same big-endian byte
+-- order Hibernate writes, so issued JWTs (which carry the user id) stay valid. Existing rows keep
+-- their random v4 values; only rows inserted from now on are time-ordered.
+
+-- users
+ALTER TABLE users ADD COLUMN id_bin BINARY(16) NULL FIRST;
+UPDATE users SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE users
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (id);
+
+-- jobs
+ALTER TABLE jobs ADD COLUMN id_bin BINARY(16) NULL FIRST;
+UPDATE jobs SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE jobs
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (id);
+
+-- Rebuild so the clustered and secondary indexes are compacted under the new key
+OPTIMIZE TABLE users, jobs;
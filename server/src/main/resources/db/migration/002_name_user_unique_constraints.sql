@@ -0,0 +1,33 @@
+-- Forge: give the users unique indexes stable names
+--
+-- Registration now inserts directly and identifies the conflicting field from the name of the
+-- violated constraint. Older schemas carry Hibernate-generated names (UK_<hash>); rename them so
+-- duplicates are reported as "username taken" / "email registered" rather than a generic conflict.
+-- Run against MySQL 8 with the server stopped. Safe to skip on schemas created by this version, and
+-- safe to run again: an index that already has its name is left alone.
+
+-- SELECT ... INTO leaves the variable unchanged when no index needs renaming, so reset it first
+-- and fall back to a no-op statement
+SET @rename_username = NULL;
+SELECT CONCAT('ALTER TABLE users RENAME INDEX `', index_name, '` TO uk_users_username') INTO @rename_username
+FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'username'
+  AND non_unique = 0 AND index_name NOT IN ('PRIMARY', 'uk_users_username')
+LIMIT 1;
+SET @rename_username = IFNULL(@rename_username, 'DO 0');
+PREPARE rename_username FROM @rename_username;
+EXECUTE rename_username;
+DEALLOCATE PREPARE rename_username;
+
+SET @rename_email = NULL;
+SELECT CONCAT('ALTER TABLE users RENAME INDEX `', index_name, '` TO uk_users_email') INTO @rename_email
+FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'email'
+  AND non_unique = 0 AND index_name NOT IN ('PRIMARY', 'uk_users_email')
+LIMIT 1;
+SET @rename_email = IFNULL(@rename_email, 'DO 0');
+PREPARE rename_email FROM @rename_email;
+EXECUTE rename_email;
+DEALLOCATE PREPARE rename_email;
+
+-- Any further unique indexes left on username or email are redundant duplicates and can be dropped
@@ -0,0 +1,16 @@
+-- Forge: give refresh token families an absolute expiry
+--
+-- Each refresh token row now records when its family, the login session it belongs to, expires;
+-- rotation never issues a token that outlives it. ddl-auto=update cannot add a NOT NULL column to
+-- a table that already has rows, so run this once against MySQL 8 with the server stopped, before
+-- starting the new version. Skip it if DESCRIBE refresh_tokens already shows family_expires_at.
+--
+-- Existing families are given the expiry of their latest token, so sessions in progress end no
+-- later than they would have without a further refresh.
+
+ALTER TABLE refresh_tokens ADD COLUMN family_expires_at DATETIME(6) NULL;
+UPDATE refresh_tokens t
+    JOIN (SELECT family_id, MAX(expires_at) AS family_expires_at FROM refresh_tokens GROUP BY family_id) f
+        ON t.family_id = f.family_id
+SET t.family_expires_at = f.family_expires_at;
+ALTER TABLE refresh_tokens MODIFY COLUMN family_expires_at DATETIME(6) NOT NULL;
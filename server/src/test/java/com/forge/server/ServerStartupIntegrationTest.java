@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * 1. Jetty server is running (not Tomcat)
  * 2. Actuator health endpoint is accessible
  * 3. Custom health endpoint is accessible and returns correct status
+ * 4. Liveness and readiness probes are exposed and report UP
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -35,6 +36,8 @@ class ServerStartupIntegrationTest {
     // Endpoint paths
     private static final String ACTUATOR_HEALTH_PATH = "/actuator/health";
     private static final String CUSTOM_HEALTH_PATH = "/api/health";
+    private static final String LIVENESS_PATH = "/actuator/health/liveness";
+    private static final String READINESS_PATH = "/actuator/health/readiness";
 
     // Health status values
     private static final String STATUS_UP = "UP";
@@ -63,6 +66,7 @@ class ServerStartupIntegrationTest {
     private static final String ERROR_STATUS_VALUE = "Status should be UP";
     private static final String ERROR_SERVICE_VALUE = "Service name should be forge-server";
     private static final String ERROR_TIMESTAMP_NULL = "Timestamp should not be null";
+    private static final String ERROR_PROBE_NOT_UP = "Probe should report UP: %s";
 
     @LocalServerPort
     private int port;
@@ -151,5 +155,18 @@ class ServerStartupIntegrationTest {
         assertNotNull(response.getBody(), ERROR_RESPONSE_BODY_NULL);
         assertFalse(response.getBody().isEmpty(), ERROR_RESPONSE_BODY_EMPTY);
     }
-}
 
+    /**
+     * Test to verify the Kubernetes probes report UP
+     */
+    @Test
+    void testProbesAreUp() {
+        for (String path : new String[] { LIVENESS_PATH, READINESS_PATH }) {
+            ResponseEntity<Map> response = restTemplate.getForEntity("http://localhost:" + port + path, Map.class);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode(), String.format(ERROR_PROBE_NOT_UP, path));
+            assertNotNull(response.getBody(), ERROR_HEALTH_BODY_NULL);
+            assertEquals(STATUS_UP, response.getBody().get(FIELD_STATUS), String.format(ERROR_PROBE_NOT_UP, path));
+        }
+    }
+}
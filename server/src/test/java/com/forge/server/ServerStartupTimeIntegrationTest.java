@@ -0,0 +1,59 @@
+package com.forge.server;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Startup time regression test
+ * <p>
+ * Boots a fresh server with the fast-start profile and measures the time until the readiness
+ * probe first answers 200, i.e. until a load balancer would send it traffic. The budget defaults
+ * to {@value #DEFAULT_BUDGET} and can be tightened for a known build machine with
+ * -Dforge.startup.budget=PT20S.
+ * <p>
+ * These tests verify:
+ * 1. Time to the first healthy readiness response stays within the budget
+ */
+class ServerStartupTimeIntegrationTest {
+
+    private static final String BUDGET_PROPERTY = "forge.startup.budget";
+    private static final String DEFAULT_BUDGET = "PT45S";
+    private static final String READINESS_PATH = "/actuator/health/readiness";
+    private static final String LOCAL_SERVER_PORT = "local.server.port";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private static final String ERROR_OVER_BUDGET = "First healthy response took %d ms, budget is %d ms";
+
+    @Test
+    void testTimeToFirstHealthyResponseIsWithinBudget() throws InterruptedException {
+        Duration budget = Duration.parse(System.getProperty(BUDGET_PROPERTY, DEFAULT_BUDGET));
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+
+        // Own database, so closing this context does not drop the tables of the cached test context
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ForgeServerApplication.class)
+                .profiles("test", "fast-start")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:forge_startup;MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+            String url = "http://localhost:" + context.getEnvironment().getProperty(LOCAL_SERVER_PORT) + READINESS_PATH;
+            TestRestTemplate restTemplate = new TestRestTemplate();
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            while (response.getStatusCode() != HttpStatus.OK && System.nanoTime() < deadline) {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+                response = restTemplate.getForEntity(url, String.class);
+            }
+            long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertTrue(response.getStatusCode() == HttpStatus.OK && elapsed <= budget.toMillis(),
+                    String.format(ERROR_OVER_BUDGET, elapsed, budget.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.forge.server.api.controllers;
+
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.registration.BulkUserProvisioningService.ProvisioningResult;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for bulk user provisioning through the admin endpoint
+ * <p>
+ * These tests verify:
+ * 1. The import runs as an async request with the configured timeout rather than the container default
+ * 2. The response streams one line per row followed by the summary
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AdminUserControllerIntegrationTest {
+
+    private static final String BULK_PATH = "/api/admin/users/bulk";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${forge.users.bulk.request-timeout:2h}")
+    private Duration bulkRequestTimeout;
+
+    private MockMvc mockMvc;
+    private List<String> usernames;
+
+    @BeforeEach
+    void setUp() {
+        // Security filters are left out: the USER_ADMIN permission check is not under test here
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        usernames = List.of("bulk-a-" + suffix, "bulk-b-" + suffix);
+    }
+
+    @AfterEach
+    void tearDown() {
+        usernames.forEach(username -> userRepository.findByUsername(username).ifPresent(userRepository::delete));
+    }
+
+    @Test
+    void testBulkProvisionStreamsResultsWithItsOwnTimeout() throws Exception {
+        String input = String.join("\n", row(usernames.get(0)), row(usernames.get(1)), row(usernames.get(0)));
+
+        MvcResult started = mockMvc.perform(post(BULK_PATH).contentType(MediaType.APPLICATION_NDJSON).content(input))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(bulkRequestTimeout.toMillis(), started.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        String[] lines = started.getResponse().getContentAsString().split("\n");
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, started.getResponse().getContentType());
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].contains(ProvisioningResult.STATUS_CREATED));
+        assertTrue(lines[1].contains(ProvisioningResult.STATUS_CREATED));
+        assertTrue(lines[2].contains(ProvisioningResult.STATUS_FAILED));
+        assertTrue(lines[3].startsWith("{\"summary\""));
+        assertTrue(userRepository.findByUsername(usernames.get(1)).isPresent());
+    }
+
+    private static String row(String username) {
+        return "{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\","
+                + "\"password\":\"Secret123!\"}";
+    }
+}
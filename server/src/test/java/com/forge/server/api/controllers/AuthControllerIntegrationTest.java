@@ -0,0 +1,115 @@
+package com.forge.server.api.controllers;
+
+import com.forge.common.constants.ApiConstants;
+import com.forge.server.common.exception.InvalidCredentialsException;
+import com.forge.server.core.entity.ApiKey;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.ApiKeyRepository;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.AuthService;
+import com.forge.server.core.service.PasswordEncoderService;
+import com.forge.server.core.service.authentication.ApiKeyService;
+import com.forge.shared.model.request.LoginRequest;
+import com.forge.shared.model.response.LoginResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for logout over HTTP
+ * <p>
+ * These tests verify:
+ * 1. Logging out revokes the refresh tokens of the session as well as the access token
+ * 2. Logging out with an API key instead of an access token is rejected as a bad request
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AuthControllerIntegrationTest {
+
+    private static final String PASSWORD = "correct-horse-battery";
+    private static final String LOGOUT_PATH = ApiConstants.API_AUTH_PATH + ApiConstants.ENDPOINT_LOGOUT;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordEncoderService passwordEncoderService;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        User developer = new User("logout-" + UUID.randomUUID(), UUID.randomUUID() + "@example.com",
+                passwordEncoderService.encode(PASSWORD));
+        developer.setRole(User.UserRole.DEVELOPER);
+        user = userRepository.saveAndFlush(developer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiKeyRepository.deleteAll(apiKeyRepository.findByUserIdOrderByCreatedAtAsc(user.getId()));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testLogoutRevokesRefreshTokens() {
+        LoginResponse login = restTemplate.postForObject(ApiConstants.FULL_LOGIN_PATH,
+                new LoginRequest(user.getEmail(), PASSWORD), LoginResponse.class);
+
+        ResponseEntity<Void> logout = restTemplate.postForEntity(LOGOUT_PATH,
+                new HttpEntity<>(bearer(login.getAccessToken())), Void.class);
+        assertEquals(HttpStatus.NO_CONTENT, logout.getStatusCode());
+
+        ResponseEntity<String> secure = restTemplate.exchange(
+                ApiConstants.API_AUTH_PATH + ApiConstants.ENDPOINT_SECURE_TEST,
+                HttpMethod.GET, new HttpEntity<>(bearer(login.getAccessToken())),
+                String.class);
+        assertEquals(HttpStatus.FORBIDDEN, secure.getStatusCode());
+
+        // Checked on the service: the HTTP client refuses a 401 that carries no challenge
+        assertThrows(InvalidCredentialsException.class, () -> authService.refresh(login.getRefreshToken()));
+    }
+
+    @Test
+    void testLogoutWithApiKeyRejected() {
+        String apiKey = apiKeyService.create(user.getId(), "ci", ApiKey.Scope.WRITE, null).getKey();
+
+        ResponseEntity<String> logout = restTemplate.postForEntity(LOGOUT_PATH,
+                new HttpEntity<>(bearer(apiKey)), String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, logout.getStatusCode());
+    }
+
+    private static HttpHeaders bearer(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
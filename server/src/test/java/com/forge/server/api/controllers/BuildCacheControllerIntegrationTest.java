@@ -0,0 +1,157 @@
+package com.forge.server.api.controllers;
+
+import com.forge.server.core.entity.ApiKey;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.ApiKeyRepository;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.authentication.ApiKeyService;
+import com.forge.server.core.service.cache.BuildCacheService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the build cache endpoints over HTTP
+ * <p>
+ * These tests verify:
+ * 1. An API key sent as the HTTP Basic password, as Gradle's HttpBuildCache does, can store and load entries
+ * 2. Unauthenticated requests are challenged for Basic credentials
+ * 3. Basic credentials whose password is not a valid API key are rejected
+ * 4. Namespaces the server keeps for itself, such as pipeline step results, cannot be written
+ * 5. Bazel CAS uploads whose content does not hash to their key are rejected
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BuildCacheControllerIntegrationTest {
+
+    private static final String CACHE_PATH = "/api/cache/";
+    private static final String STEPS_NAMESPACE = "steps";
+    private static final byte[] CONTENT = "cached task output".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private BuildCacheService buildCacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private String apiKey;
+
+    @BeforeEach
+    void setUp() {
+        User gradle = new User("gradle-" + UUID.randomUUID(), UUID.randomUUID() + "@example.com", "hash");
+        gradle.setRole(User.UserRole.DEVELOPER);
+        user = userRepository.saveAndFlush(gradle);
+        apiKey = apiKeyService.create(user.getId(), "gradle", ApiKey.Scope.WRITE, null).getKey();
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiKeyRepository.deleteAll(apiKeyRepository.findByUserIdOrderByCreatedAtAsc(user.getId()));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testBasicCredentialsWithApiKey() {
+        String key = randomKey();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("gradle", apiKey);
+
+        ResponseEntity<Void> stored = restTemplate.exchange(CACHE_PATH + key, HttpMethod.PUT,
+                new HttpEntity<>(CONTENT, headers), Void.class);
+        ResponseEntity<byte[]> loaded = restTemplate.exchange(CACHE_PATH + key, HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertEquals(HttpStatus.CREATED, stored.getStatusCode());
+        assertEquals(HttpStatus.OK, loaded.getStatusCode());
+        assertArrayEquals(CONTENT, loaded.getBody());
+    }
+
+    @Test
+    void testUnauthenticatedRequestIsChallenged() {
+        ResponseEntity<byte[]> response = restTemplate.getForEntity(CACHE_PATH + randomKey(), byte[].class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE).startsWith("Basic "));
+    }
+
+    @Test
+    void testBasicCredentialsWithoutApiKeyRejected() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("gradle", "not-an-api-key");
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(CACHE_PATH + randomKey(), HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    @Test
+    void testInternalNamespaceRejected() {
+        String key = randomKey();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("gradle", apiKey);
+
+        ResponseEntity<Void> stored = restTemplate.exchange(CACHE_PATH + STEPS_NAMESPACE + "/" + key, HttpMethod.PUT,
+                new HttpEntity<>(CONTENT, headers), Void.class);
+        ResponseEntity<Void> bazel = restTemplate.exchange(CACHE_PATH + "ac/" + key, HttpMethod.PUT,
+                new HttpEntity<>(CONTENT, headers), Void.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, stored.getStatusCode());
+        assertFalse(buildCacheService.contains(STEPS_NAMESPACE, key));
+        assertEquals(HttpStatus.CREATED, bazel.getStatusCode());
+    }
+
+    @Test
+    void testCasUploadMustMatchDigest() throws NoSuchAlgorithmException {
+        String digest = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        String forged = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("bazel", apiKey);
+
+        ResponseEntity<String> poisoned = restTemplate.exchange(CACHE_PATH + "cas/" + forged, HttpMethod.PUT,
+                new HttpEntity<>(CONTENT, headers), String.class);
+        ResponseEntity<Void> stored = restTemplate.exchange(CACHE_PATH + "cas/" + digest, HttpMethod.PUT,
+                new HttpEntity<>(CONTENT, headers), Void.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, poisoned.getStatusCode());
+        assertFalse(buildCacheService.contains("cas", forged));
+        assertEquals(HttpStatus.CREATED, stored.getStatusCode());
+        assertTrue(buildCacheService.contains("cas", digest));
+    }
+
+    private static String randomKey() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
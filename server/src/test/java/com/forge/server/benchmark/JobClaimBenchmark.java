@@ -0,0 +1,137 @@
+package com.forge.server.benchmark;
+
+import com.forge.server.core.entity.Job;
+import com.forge.server.core.repository.JobRepository;
+import com.forge.server.core.service.job.JobQueueService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Job Claim Benchmark
+ * <p>
+ * Measures how many jobs per second concurrent dispatchers can claim from the persistent queue,
+ * for a range of claim batch sizes. Each run enqueues the same backlog spread over several
+ * projects and lets the dispatchers drain it, so the figure includes the fair-share ordering
+ * and the row locks taken by every claim.
+ * <p>
+ * Claim contention is only meaningful on MySQL/InnoDB:
+ * <pre>
+ * mvn -f server/pom.xml test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.forge.server.benchmark.JobClaimBenchmark \
+ *     -Dforge.benchmark.url=jdbc:mysql://localhost:3306/forge_bench?createDatabaseIfNotExist=true \
+ *     -Dforge.benchmark.user=root -Dforge.benchmark.password=secret -Dforge.benchmark.dispatchers=8
+ * </pre>
+ * Without a URL it runs against in-memory H2, which is useful only as a smoke test.
+ *
+ * @author Forge Team
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({ DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class })
+@EntityScan(basePackageClasses = Job.class)
+@EnableJpaRepositories(basePackageClasses = JobRepository.class)
+@Import(JobQueueService.class)
+public class JobClaimBenchmark {
+
+    private static final String URL = System.getProperty("forge.benchmark.url",
+            "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    private static final String USER = System.getProperty("forge.benchmark.user", "sa");
+    private static final String PASSWORD = System.getProperty("forge.benchmark.password", "");
+    private static final int JOBS = Integer.getInteger("forge.benchmark.jobs", 20_000);
+    private static final int PROJECTS = 10;
+    private static final int DISPATCHERS = Integer.getInteger("forge.benchmark.dispatchers", 4);
+    private static final int[] BATCH_SIZES = { 1, 25, 100 };
+
+    public static void main(String[] args) throws InterruptedException, SQLException {
+        // Passed as arguments, which take precedence over the datasource in application.yml
+        String[] settings = { "--spring.datasource.url=" + URL,
+                "--spring.datasource.driver-class-name=" + DriverManager.getDriver(URL).getClass().getName(),
+                "--spring.datasource.username=" + USER,
+                "--spring.datasource.password=" + PASSWORD, "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.main.banner-mode=off" };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JobClaimBenchmark.class)
+                .web(WebApplicationType.NONE)
+                .run(settings)) {
+            JobQueueService jobQueueService = context.getBean(JobQueueService.class);
+            JobRepository jobRepository = context.getBean(JobRepository.class);
+
+            System.out.printf("%-8s %12s %12s %12s%n", "batch", "dispatchers", "jobs/s", "duplicates");
+            // Warm-up pass so the measured passes run compiled code
+            run(jobQueueService, jobRepository, BATCH_SIZES[BATCH_SIZES.length - 1], false);
+            for (int batchSize : BATCH_SIZES) {
+                run(jobQueueService, jobRepository, batchSize, true);
+            }
+        }
+    }
+
+    private static void run(JobQueueService jobQueueService, JobRepository jobRepository, int batchSize,
+            boolean report) throws InterruptedException {
+        jobRepository.deleteAllInBatch();
+        for (int project = 0; project < PROJECTS; project++) {
+            jobQueueService.enqueueAll("project-" + project, Job.JobPriority.NORMAL, requests(JOBS / PROJECTS));
+        }
+
+        AtomicInteger claimed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(DISPATCHERS);
+        for (int i = 0; i < DISPATCHERS; i++) {
+            String workerId = "dispatcher-" + i;
+            Thread dispatcher = new Thread(() -> {
+                try {
+                    start.await();
+                    List<Job> batch;
+                    while (!(batch = jobQueueService.claim(workerId, batchSize)).isEmpty()) {
+                        claimed.addAndGet(batch.size());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            dispatcher.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        if (report) {
+            // A job handed out twice is counted twice in claimed but once in the table
+            int duplicates = claimed.get() - (int) jobRepository.countByStatus(Job.JobStatus.CLAIMED);
+            System.out.printf("%-8d %12d %12.0f %12d%n", batchSize, DISPATCHERS, claimed.get() / seconds,
+                    duplicates);
+        }
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    private static List<JobQueueService.JobRequest> requests(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new JobQueueService.JobRequest("job-" + i, null))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package com.forge.server.benchmark;
+
+import com.forge.server.common.util.TokenBucketLimiter;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Login Rate Limiter Benchmark
+ * <p>
+ * Measures the per-request cost of the token buckets charged on every login attempt, for one
+ * thread and for many threads contending on the same map. Two workloads are run: every request
+ * from a distinct client (one bucket each, the credential stuffing case) and all requests from
+ * a few clients (hot buckets, so CAS contention). For scale, a single BCrypt verify at the
+ * default strength takes tens of milliseconds.
+ * <pre>
+ * mvn -f server/pom.xml test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.forge.server.benchmark.LoginRateLimiterBenchmark \
+ *     -Dforge.benchmark.threads=8 -Dforge.benchmark.operations=5000000
+ * </pre>
+ *
+ * @author Forge Team
+ */
+public class LoginRateLimiterBenchmark {
+
+    private static final int THREADS = Integer.getInteger("forge.benchmark.threads",
+            Runtime.getRuntime().availableProcessors());
+    private static final int OPERATIONS = Integer.getInteger("forge.benchmark.operations", 2_000_000);
+    private static final int DISTINCT_KEYS = 100_000;
+    private static final int HOT_KEYS = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        String[] keys = new String[DISTINCT_KEYS];
+        for (int i = 0; i < DISTINCT_KEYS; i++) {
+            keys[i] = "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+        }
+        System.out.printf("%-10s %8s %12s %14s%n", "keys", "threads", "ns/op", "throttled");
+        for (int threads : new int[] { 1, THREADS }) {
+            // Warm-up pass so the measured pass runs compiled code
+            run(keys, DISTINCT_KEYS, threads, false);
+            run(keys, DISTINCT_KEYS, threads, true);
+            run(keys, HOT_KEYS, threads, true);
+        }
+    }
+
+    private static void run(String[] keys, int keyCount, int threads, boolean report) throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(20, Duration.ofSeconds(3), DISTINCT_KEYS);
+        int perThread = OPERATIONS / threads;
+        AtomicLong throttled = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 7919;
+            Thread worker = new Thread(() -> {
+                long rejected = 0;
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        if (limiter.tryAcquire(keys[(offset + i) % keyCount]) > 0) {
+                            rejected++;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    throttled.addAndGet(rejected);
+                    done.countDown();
+                }
+            });
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        if (report) {
+            // Latency per call as seen by one thread, with the others running concurrently
+            double nsPerOp = (double) elapsed / perThread;
+            System.out.printf("%-10d %8d %12.1f %14d%n", keyCount, threads, nsPerOp, throttled.get());
+        }
+    }
+}
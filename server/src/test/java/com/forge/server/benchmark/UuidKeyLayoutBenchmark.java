@@ -0,0 +1,107 @@
+package com.forge.server.benchmark;
+
+import com.forge.server.core.entity.id.UuidV7;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * UUID Key Layout Benchmark
+ * <p>
+ * Compares insert throughput and on-disk index size of a users-shaped table keyed by:
+ * the previous layout (random v4 UUID as CHAR(36)), random v4 as BINARY(16), and UUIDv7 as
+ * BINARY(16). Each layout has the same unique secondary indexes as 'users', since every secondary
+ * index entry embeds the primary key.
+ * <p>
+ * Index sizes come from information_schema and are only meaningful on MySQL/InnoDB:
+ * <pre>
+ * mvn -f server/pom.xml test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.forge.server.benchmark.UuidKeyLayoutBenchmark \
+ *     -Dforge.benchmark.url=jdbc:mysql://localhost:3306/forge_bench?createDatabaseIfNotExist=true \
+ *     -Dforge.benchmark.user=root -Dforge.benchmark.password=secret -Dforge.benchmark.rows=1000000
+ * </pre>
+ * Without a URL it runs against in-memory H2, which is useful only as a smoke test.
+ *
+ * @author Forge Team
+ */
+public class UuidKeyLayoutBenchmark {
+
+    private static final String URL = System.getProperty("forge.benchmark.url", "jdbc:h2:mem:bench;MODE=MySQL");
+    private static final String USER = System.getProperty("forge.benchmark.user", "sa");
+    private static final String PASSWORD = System.getProperty("forge.benchmark.password", "");
+    private static final int ROWS = Integer.getInteger("forge.benchmark.rows", 200_000);
+    private static final int BATCH_SIZE = Integer.getInteger("forge.benchmark.batch", 1_000);
+
+    public static void main(String[] args) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD)) {
+            connection.setAutoCommit(false);
+            System.out.printf("%-14s %12s %14s %14s%n", "layout", "rows/s", "data bytes", "index bytes");
+            run(connection, "char36_v4", "CHAR(36)", () -> UUID.randomUUID().toString());
+            run(connection, "binary16_v4", "BINARY(16)", () -> toBytes(UUID.randomUUID()));
+            run(connection, "binary16_v7", "BINARY(16)", () -> toBytes(UuidV7.generate()));
+        }
+    }
+
+    private static void run(Connection connection, String table, String keyType, Supplier<Object> keys)
+            throws SQLException {
+        String name = "bench_" + table;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + name);
+            statement.execute("CREATE TABLE " + name + " (id " + keyType + " NOT NULL PRIMARY KEY, "
+                    + "username VARCHAR(50) NOT NULL UNIQUE, email VARCHAR(255) NOT NULL UNIQUE, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + name + " (id, username, email, created_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setObject(1, keys.get());
+                insert.setString(2, "user" + i);
+                insert.setString(3, "user" + i + "@example.com");
+                insert.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double rowsPerSecond = ROWS / ((System.nanoTime() - start) / 1e9);
+
+        long[] sizes = tableSizes(connection, name);
+        System.out.printf("%-14s %12.0f %14s %14s%n", table, rowsPerSecond,
+                sizes != null ? sizes[0] : "n/a", sizes != null ? sizes[1] : "n/a");
+    }
+
+    private static long[] tableSizes(Connection connection, String table) throws SQLException {
+        if (!URL.startsWith("jdbc:mysql:")) {
+            return null;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (ResultSet rs = statement.executeQuery("SELECT data_length, index_length FROM "
+                    + "information_schema.tables WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                return rs.next() ? new long[] { rs.getLong(1), rs.getLong(2) } : null;
+            }
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,72 @@
+package com.forge.server.common.jfr;
+
+import com.forge.server.core.service.PasswordEncoderService;
+import com.forge.server.core.service.password.BcryptPasswordEncoderStrategy;
+import com.forge.server.core.service.password.PasswordEncoderStrategyFactory;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the Forge JFR events
+ * <p>
+ * These tests verify:
+ * 1. Password hashing emits one event per operation with the algorithm and BCrypt cost
+ * 2. Events are not recorded when no recording has them enabled
+ */
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPasswordHashEventsAreRecorded() throws Exception {
+        PasswordEncoderService service = new PasswordEncoderService(
+                new PasswordEncoderStrategyFactory(List.of(new BcryptPasswordEncoderStrategy())), "BCRYPT");
+
+        Path dump = tempDir.resolve("password.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("forge.PasswordHash");
+            recording.start();
+            String encoded = service.encode("secret");
+            service.matches("wrong", encoded);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // The dump also holds events enabled by other recordings, such as the continuous profiler
+        // of an application context cached by another test class, and events from its threads
+        long testThread = Thread.currentThread().getId();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("forge.PasswordHash"))
+                .filter(event -> event.getThread() != null && event.getThread().getJavaThreadId() == testThread)
+                .toList();
+        assertEquals(2, events.size());
+        RecordedEvent encode = events.get(0);
+        assertEquals("ENCODE", encode.getString("operation"));
+        assertEquals("BCRYPT", encode.getString("algorithm"));
+        assertEquals(10, encode.getInt("cost"));
+        RecordedEvent matches = events.get(1);
+        assertEquals("MATCHES", matches.getString("operation"));
+        assertFalse(matches.getBoolean("matched"));
+        assertTrue(matches.getDuration().toNanos() > 0);
+    }
+
+    @Test
+    void testEventsAreNotCommittedWithoutRecording() {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        event.end();
+        assertFalse(event.shouldCommit());
+    }
+}
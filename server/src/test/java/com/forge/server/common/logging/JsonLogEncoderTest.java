@@ -0,0 +1,63 @@
+package com.forge.server.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the JSON log encoder
+ * <p>
+ * These tests verify:
+ * 1. Each event is one line of valid JSON with the formatted message and escaped special characters
+ * 2. Key-value pairs become top-level fields, numbers unquoted, and stack traces are included
+ */
+class JsonLogEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final JsonLogEncoder encoder = new JsonLogEncoder();
+
+    @Test
+    void testEncodesFormattedMessageAsOneLine() throws Exception {
+        LoggingEvent event = new LoggingEvent(JsonLogEncoderTest.class.getName(),
+                loggerContext.getLogger("com.forge.test"), Level.INFO, "Plugin {} said \"{}\"", null,
+                new Object[] { "github", "line1\nline2" });
+
+        String encoded = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        assertTrue(encoded.endsWith("\n"));
+        assertEquals(1, encoded.lines().count());
+        JsonNode json = objectMapper.readTree(encoded);
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("com.forge.test", json.get("logger").asText());
+        assertEquals("Plugin github said \"line1\nline2\"", json.get("message").asText());
+    }
+
+    @Test
+    void testEncodesKeyValuePairsAndException() throws Exception {
+        LoggingEvent event = new LoggingEvent(JsonLogEncoderTest.class.getName(),
+                loggerContext.getLogger("com.forge.test"), Level.ERROR, "Start failed", new IllegalStateException("boom"),
+                null);
+        event.setKeyValuePairs(List.of(new KeyValuePair("plugin", "github"), new KeyValuePair("attempt", 3)));
+
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        assertEquals("github", json.get("plugin").asText());
+        assertTrue(json.get("attempt").isInt());
+        assertEquals(3, json.get("attempt").asInt());
+        assertTrue(json.get("exception").asText().contains("IllegalStateException: boom"));
+    }
+}
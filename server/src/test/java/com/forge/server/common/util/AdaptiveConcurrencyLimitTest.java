@@ -0,0 +1,76 @@
+package com.forge.server.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the adaptive concurrency limit
+ * <p>
+ * These tests verify:
+ * 1. Requests are admitted up to the limit, and priority requests up to the headroom beyond it
+ * 2. The limit grows while latency is steady and shrinks when latency rises
+ * 3. The limit does not grow while most of it is unused
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLISECOND = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void testAdmissionAndPriorityHeadroom() {
+        AdaptiveConcurrencyLimit limit = limit();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire(false));
+        }
+        assertFalse(limit.tryAcquire(false));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(true));
+        }
+        assertFalse(limit.tryAcquire(true));
+        assertEquals(105, limit.getInflight());
+
+        limit.release(-1);
+
+        assertEquals(104, limit.getInflight());
+        assertFalse(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(true));
+    }
+
+    @Test
+    void testLimitFollowsLatency() {
+        AdaptiveConcurrencyLimit limit = limit();
+
+        window(limit, MILLISECOND, 100);
+        int grown = limit.getLimit();
+        window(limit, 10 * MILLISECOND, grown);
+
+        assertTrue(grown > 100);
+        assertTrue(limit.getLimit() < 100);
+    }
+
+    @Test
+    void testIdleLimitDoesNotGrow() {
+        AdaptiveConcurrencyLimit limit = limit();
+
+        for (int i = 0; i < 5; i++) {
+            window(limit, MILLISECOND, 5);
+        }
+
+        assertEquals(100, limit.getLimit());
+    }
+
+    private static AdaptiveConcurrencyLimit limit() {
+        return new AdaptiveConcurrencyLimit(100, 10, 1000, 5, 1.5, 1.0, 10, Duration.ofSeconds(1));
+    }
+
+    private static void window(AdaptiveConcurrencyLimit limit, long rttNanos, int inflight) {
+        for (int i = 0; i < 10; i++) {
+            limit.sample(rttNanos, inflight, 0);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.forge.server.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the Bloom filter
+ * <p>
+ * These tests verify:
+ * 1. Added values are always reported as possibly present
+ * 2. The false positive rate stays close to the configured target at the sized capacity
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void testNoFalseNegativesAndBoundedFalsePositives() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user-" + i);
+        }
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        double observedRate = (double) falsePositives / INSERTIONS;
+        assertTrue(observedRate < FALSE_POSITIVE_RATE * 1.5, "false positive rate " + observedRate);
+    }
+}
@@ -0,0 +1,68 @@
+package com.forge.server.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the token bucket limiter
+ * <p>
+ * These tests verify:
+ * 1. A key gets a burst of its capacity, then one token per refill period, with the wait reported
+ * 2. Keys are limited independently and reset refills a bucket
+ * 3. Full buckets are evicted, and keys beyond the bound share the overflow bucket
+ */
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void testBurstThenRefill() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, Duration.ofSeconds(1), 100);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip", now));
+        }
+        assertEquals(SECOND, limiter.tryAcquire("ip", now));
+        assertEquals(SECOND / 2, limiter.tryAcquire("ip", now + SECOND / 2));
+        assertEquals(0, limiter.tryAcquire("ip", now + SECOND));
+        assertTrue(limiter.tryAcquire("ip", now + SECOND) > 0);
+    }
+
+    @Test
+    void testKeysAreIndependentAndResettable() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofMinutes(1), 100);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("a", now));
+        assertTrue(limiter.tryAcquire("a", now) > 0);
+        assertEquals(0, limiter.tryAcquire("b", now));
+
+        limiter.reset("a");
+        assertEquals(0, limiter.tryAcquire("a", now));
+    }
+
+    @Test
+    void testIdleEvictionAndOverflow() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofSeconds(1), 2);
+        long now = System.nanoTime();
+
+        assertEquals(0, limiter.tryAcquire("a", now));
+        assertEquals(0, limiter.tryAcquire("b", now));
+        assertEquals(2, limiter.size());
+
+        // New keys share one bucket while the map is full
+        assertEquals(0, limiter.tryAcquire("c", now));
+        assertTrue(limiter.tryAcquire("d", now) > 0);
+        assertEquals(2, limiter.size());
+
+        assertEquals(0, limiter.evictIdle(now));
+        assertEquals(2, limiter.evictIdle(now + SECOND));
+        assertEquals(0, limiter.tryAcquire("d", now + SECOND));
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,151 @@
+package com.forge.server.core.datasource;
+
+import com.forge.server.core.service.timer.TimerConfig;
+import com.forge.server.core.service.timer.TimerService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for ReadWriteRoutingDataSource, with two in-memory H2 databases standing in for the
+ * primary and the replica
+ * <p>
+ * These tests verify:
+ * 1. Read-only transactions use the replica; read-write transactions and non-transactional access use the primary
+ * 2. Reads move to the primary while replica lag exceeds the limit or replication is stopped
+ * 3. Reads fall back to the primary when the replica is unreachable
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String SELECT_ROLE = "SELECT role FROM server_role";
+    private static final String METRIC_ROUTED = "forge.datasource.routed";
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private TimerService timerService;
+    private MeterRegistry meterRegistry;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (lag_seconds BIGINT)");
+        setReplicaLag(0L);
+
+        ReplicaDataSourceConfig config = new ReplicaDataSourceConfig();
+        config.setMaxLag(Duration.ofSeconds(10));
+        config.setLagQuery("SELECT lag_seconds FROM replica_lag");
+        config.setLagColumn("lag_seconds");
+
+        meterRegistry = new SimpleMeterRegistry();
+        timerService = new TimerService(new TimerConfig(), meterRegistry);
+        lagMonitor = new ReplicaLagMonitor(replica, config, timerService, meterRegistry);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routingDataSource.close();
+        timerService.stop();
+    }
+
+    @Test
+    void testRoutesReadOnlyTransactionsToReplica() {
+        lagMonitor.checkLag();
+        // The proxy reads connection defaults from the primary once on construction
+        double primaryWrites = routedCount("primary", "write");
+
+        assertEquals("replica", readOnly.execute(status -> queryRole()));
+        assertEquals("primary", readWrite.execute(status -> queryRole()));
+        assertEquals("primary", queryRole());
+        assertEquals(1.0, routedCount("replica", "read"));
+        assertEquals(primaryWrites + 2, routedCount("primary", "write"));
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhileReplicaLags() {
+        assertEquals("primary", readOnly.execute(status -> queryRole()), "Reads stay on primary before the first check");
+
+        setReplicaLag(60L);
+        lagMonitor.checkLag();
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals(60.0, lagMonitor.getLagSeconds());
+        assertEquals("primary", readOnly.execute(status -> queryRole()));
+
+        setReplicaLag(null);
+        lagMonitor.checkLag();
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnly.execute(status -> queryRole()));
+
+        setReplicaLag(2L);
+        lagMonitor.checkLag();
+        assertTrue(lagMonitor.isReplicaUsable());
+        assertEquals("replica", readOnly.execute(status -> queryRole()));
+        assertEquals(3.0, routedCount("primary", "read"));
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicaUnreachable() {
+        lagMonitor.checkLag();
+        replica.close();
+
+        assertEquals("primary", readOnly.execute(status -> queryRole()));
+        assertFalse(lagMonitor.isReplicaUsable());
+
+        lagMonitor.checkLag();
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnly.execute(status -> queryRole()));
+    }
+
+    private String queryRole() {
+        return jdbcTemplate.queryForObject(SELECT_ROLE, String.class);
+    }
+
+    private double routedCount(String pool, String access) {
+        return meterRegistry.get(METRIC_ROUTED).tag("pool", pool).tag("access", access).counter().count();
+    }
+
+    private void setReplicaLag(Long seconds) {
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("DELETE FROM replica_lag");
+        replicaTemplate.update("INSERT INTO replica_lag (lag_seconds) VALUES (?)", seconds);
+    }
+
+    private static HikariDataSource embeddedDatabase(String role) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setConnectionTimeout(1000);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE server_role (role VARCHAR(16))");
+        template.update("INSERT INTO server_role (role) VALUES (?)", role);
+        return dataSource;
+    }
+}
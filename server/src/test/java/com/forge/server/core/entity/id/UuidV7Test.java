@@ -0,0 +1,41 @@
+package com.forge.server.core.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for UUIDv7 generation
+ * <p>
+ * These tests verify:
+ * 1. Generated ids carry the version 7 and RFC 9562 variant bits and the current timestamp
+ * 2. Ids generated back to back are strictly increasing in unsigned byte order
+ */
+class UuidV7Test {
+
+    @Test
+    void testVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestampMillis(uuid) >= before);
+        assertTrue(UuidV7.timestampMillis(uuid) <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void testStrictlyIncreasing() {
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            // BINARY(16) compares bytes unsigned; the high word decides unless it is equal
+            int order = Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits());
+            assertTrue(order > 0, "ids must increase: " + previous + " -> " + next);
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.forge.server.core.service;
+
+import com.forge.server.common.exception.UserAlreadyExistsException;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.registration.UsernameAvailabilityService;
+import com.forge.server.core.service.validation.UserValidationService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for user registration against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. Registration inserts the user and records the username for availability checks
+ * 2. Duplicate usernames and emails are rejected by the unique constraints and reported
+ *    as UserAlreadyExistsException naming the conflicting field
+ */
+@DataJpaTest
+@Import({ UserService.class, UserValidationService.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private PasswordEncoderService passwordEncoderService;
+
+    @MockBean
+    private UsernameAvailabilityService usernameAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderService.encode(anyString())).thenReturn("hash");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRegistersUser() {
+        User user = userService.registerUser("alice", "alice@example.com", "secret123");
+
+        assertEquals(7, user.getId().version());
+        assertEquals(1, userRepository.count());
+        verify(usernameAvailabilityService).recordUsername("alice");
+    }
+
+    @Test
+    void testDuplicatesAreTranslated() {
+        userService.registerUser("alice", "alice@example.com", "secret123");
+
+        UserAlreadyExistsException duplicateUsername = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.registerUser("alice", "other@example.com", "secret123"));
+        UserAlreadyExistsException duplicateEmail = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.registerUser("bob", "alice@example.com", "secret123"));
+
+        assertEquals("Username 'alice' is already taken", duplicateUsername.getMessage());
+        assertEquals("Email 'alice@example.com' is already registered", duplicateEmail.getMessage());
+        assertEquals(1, userRepository.count());
+        verify(usernameAvailabilityService, never()).recordUsername("bob");
+    }
+}
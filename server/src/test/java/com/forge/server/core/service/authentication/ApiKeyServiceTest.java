@@ -0,0 +1,217 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.server.common.jfr.AuthenticationEvent;
+import com.forge.server.core.entity.ApiKey;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.ApiKeyRepository;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.timer.TimerConfig;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.util.AppUserDetails;
+import com.forge.server.security.util.AppUserDetailsService;
+import com.forge.shared.model.response.ApiKeyResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for API key issuing and verification against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. An issued key authenticates as its user, from the database and then from the cache
+ * 2. A key with the right prefix but a wrong secret is rejected
+ * 3. READ keys are limited to safe methods
+ * 4. Revoked and expired keys are rejected
+ * 5. The authentication JFR event records whether the key was served from the cache
+ * 6. A client that has used up its lookups is refused keys not in the cache, without a database lookup
+ */
+@DataJpaTest(properties = { "forge.auth.api-keys.lookup-limit.capacity=10",
+        "forge.auth.api-keys.lookup-limit.refill-period=1h" })
+@Import({ ApiKeyService.class, AppUserDetailsService.class, TimerService.class, TimerConfig.class,
+        ApiKeyServiceTest.SupportConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApiKeyServiceTest {
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @TempDir
+    Path tempDir;
+
+    private User user;
+    private String clientIp;
+
+    @BeforeEach
+    void setUp() {
+        User worker = new User("worker", "worker@example.com", "hash");
+        worker.setRole(User.UserRole.DEVELOPER);
+        user = userRepository.saveAndFlush(worker);
+        // Each test is its own client, so lookups made by one test do not throttle the next
+        clientIp = "client-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiKeyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testIssuedKeyAuthenticates() {
+        ApiKeyResponse created = apiKeyService.create(user.getId(), "ci", ApiKey.Scope.WRITE, null);
+        double loadedBefore = checks("loaded");
+        double cachedBefore = checks("cached");
+
+        assertTrue(apiKeyService.isApiKey(created.getKey()));
+        for (int i = 0; i < 2; i++) {
+            Authentication authentication = apiKeyService.authenticate(created.getKey(), "POST", clientIp, null);
+            assertNotNull(authentication);
+            assertEquals(user.getId().toString(), ((AppUserDetails) authentication.getPrincipal()).getId());
+        }
+        assertEquals(loadedBefore + 1, checks("loaded"));
+        assertEquals(cachedBefore + 1, checks("cached"));
+        assertNull(apiKeyService.list(user.getId()).get(0).getKey());
+    }
+
+    @Test
+    void testWrongSecretRejected() {
+        String key = apiKeyService.create(user.getId(), "ci", ApiKey.Scope.WRITE, null).getKey();
+        char last = key.charAt(key.length() - 1);
+        String forged = key.substring(0, key.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertNull(apiKeyService.authenticate(forged, "GET", clientIp, null));
+        assertNull(apiKeyService.authenticate(key.substring(1), "GET", clientIp, null));
+        assertNotNull(apiKeyService.authenticate(key, "GET", clientIp, null));
+    }
+
+    @Test
+    void testReadKeysLimitedToSafeMethods() {
+        String key = apiKeyService.create(user.getId(), "dashboard", ApiKey.Scope.READ, 30).getKey();
+
+        assertNotNull(apiKeyService.authenticate(key, "GET", clientIp, null));
+        assertNull(apiKeyService.authenticate(key, "POST", clientIp, null));
+        assertNull(apiKeyService.authenticate(key, "DELETE", clientIp, null));
+    }
+
+    @Test
+    void testRevokedAndExpiredKeysRejected() {
+        ApiKeyResponse revoked = apiKeyService.create(user.getId(), "old", ApiKey.Scope.WRITE, null);
+        assertNotNull(apiKeyService.authenticate(revoked.getKey(), "GET", clientIp, null));
+        assertTrue(apiKeyService.revoke(user.getId(), revoked.getId()));
+        assertNull(apiKeyService.authenticate(revoked.getKey(), "GET", clientIp, null));
+
+        ApiKeyResponse expired = apiKeyService.create(user.getId(), "short", ApiKey.Scope.WRITE, 1);
+        ApiKey entity = apiKeyRepository.findById(expired.getId()).orElseThrow();
+        entity.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        apiKeyRepository.save(entity);
+        assertNull(apiKeyService.authenticate(expired.getKey(), "GET", clientIp, null));
+    }
+
+    @Test
+    void testCacheHitRecordedOnAuthenticationEvent() throws Exception {
+        String key = apiKeyService.create(user.getId(), "profiled", ApiKey.Scope.WRITE, null).getKey();
+
+        Path dump = tempDir.resolve("authentication.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("forge.Authentication").withThreshold(Duration.ZERO);
+            recording.start();
+            authenticateWithEvent(key);
+            authenticateWithEvent(key);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // The dump also holds events enabled by other recordings, such as the continuous profiler
+        // of an application context cached by another test class, and events from its threads
+        long testThread = Thread.currentThread().getId();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("forge.Authentication"))
+                .filter(event -> event.getThread() != null && event.getThread().getJavaThreadId() == testThread)
+                .toList();
+        assertEquals(2, events.size());
+        assertFalse(events.get(0).getBoolean("cacheHit"));
+        assertTrue(events.get(1).getBoolean("cacheHit"));
+    }
+
+    @Test
+    void testLookupsThrottledPerClient() {
+        String cachedKey = apiKeyService.create(user.getId(), "cached", ApiKey.Scope.WRITE, null).getKey();
+        String uncachedKey = apiKeyService.create(user.getId(), "uncached", ApiKey.Scope.WRITE, null).getKey();
+        assertNotNull(apiKeyService.authenticate(cachedKey, "GET", clientIp, null));
+
+        // Well-formed keys with unknown prefixes use up the rest of the client's lookups
+        for (int i = 0; i < 9; i++) {
+            String random = "forge_" + UUID.randomUUID().toString().substring(0, 12) + "_"
+                    + cachedKey.substring(cachedKey.length() - 43);
+            assertNull(apiKeyService.authenticate(random, "GET", clientIp, null));
+        }
+        double loadedBefore = checks("loaded");
+        double throttledBefore = checks("throttled");
+
+        assertNull(apiKeyService.authenticate(uncachedKey, "GET", clientIp, null));
+        assertNotNull(apiKeyService.authenticate(cachedKey, "GET", clientIp, null));
+        assertEquals(throttledBefore + 1, checks("throttled"));
+        assertEquals(loadedBefore, checks("loaded"));
+
+        assertNotNull(apiKeyService.authenticate(uncachedKey, "GET", "client-" + UUID.randomUUID(), null));
+    }
+
+    private void authenticateWithEvent(String key) {
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
+        assertNotNull(apiKeyService.authenticate(key, "GET", clientIp, event));
+        event.end();
+        event.commit();
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("forge.auth.apikey.checks").tag("result", result).counter().count();
+    }
+
+    @TestConfiguration
+    static class SupportConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.server.common.exception.InvalidCredentialsException;
+import com.forge.server.core.entity.RefreshToken;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.entity.id.UuidV7;
+import com.forge.server.core.repository.RefreshTokenRepository;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.timer.TimerConfig;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.config.JwtConfig;
+import com.forge.server.security.provider.JwtKeyManager;
+import com.forge.server.security.provider.JwtTokenProvider;
+import com.forge.shared.model.response.RefreshTokenResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for refresh token rotation against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. A refresh returns a working access token and a new refresh token, which can itself be refreshed
+ * 2. Presenting a rotated token again revokes the whole family
+ * 3. Access tokens are not accepted as refresh tokens, and refresh tokens are not accepted as access tokens
+ * 4. No token of a family expires after the family's session lifetime, however often it is refreshed
+ * 5. Refresh tokens of a deleted user are rejected
+ */
+@DataJpaTest(properties = "forge.auth.refresh-tokens.session-lifetime=1h")
+@Import({ RefreshTokenService.class, JwtTokenProvider.class, JwtKeyManager.class, JwtConfig.class, TimerService.class,
+        TimerConfig.class, RefreshTokenServiceTest.SupportConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRefreshRotatesToken() {
+        User user = user();
+        String first = refreshTokenService.issue(user, UuidV7.generate());
+
+        RefreshTokenResponse refreshed = refreshTokenService.refresh(first);
+
+        assertNotEquals(first, refreshed.getRefreshToken());
+        assertTrue(jwtTokenProvider.validateAccessToken(refreshed.getAccessToken()));
+        assertEquals(user.getEmail(), jwtTokenProvider.getEmailFromToken(refreshed.getAccessToken()));
+        assertEquals(user.getId().toString(), jwtTokenProvider.getUserIdFromToken(refreshed.getAccessToken()));
+        assertEquals(2, refreshTokenRepository.count());
+
+        RefreshTokenResponse again = refreshTokenService.refresh(refreshed.getRefreshToken());
+        assertTrue(jwtTokenProvider.validateAccessToken(again.getAccessToken()));
+    }
+
+    @Test
+    void testReuseRevokesFamily() {
+        String first = refreshTokenService.issue(user(), UuidV7.generate());
+        String second = refreshTokenService.refresh(first).getRefreshToken();
+        String otherSession = refreshTokenService.issue(user(), UuidV7.generate());
+
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.refresh(first));
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.refresh(second));
+
+        assertEquals(1, refreshTokenRepository.count());
+        refreshTokenService.refresh(otherSession);
+    }
+
+    @Test
+    void testTokenUsesAreNotInterchangeable() {
+        User user = user();
+        String accessToken = jwtTokenProvider.generateToken(user.getId().toString(), user.getEmail(),
+                user.getUsername());
+        String refreshToken = refreshTokenService.issue(user, UuidV7.generate());
+
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.refresh(accessToken));
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.refresh(refreshToken + "x"));
+        assertFalse(jwtTokenProvider.validateAccessToken(refreshToken));
+    }
+
+    @Test
+    void testFamilyExpiryCapsRotatedTokens() {
+        LocalDateTime sessionEnd = LocalDateTime.now().plusHours(1);
+        String first = refreshTokenService.issue(user(), UuidV7.generate());
+        refreshTokenService.refresh(refreshTokenService.refresh(first).getRefreshToken());
+
+        assertEquals(3, refreshTokenRepository.count());
+        for (RefreshToken token : refreshTokenRepository.findAll()) {
+            assertEquals(token.getFamilyExpiresAt(), token.getExpiresAt());
+            assertFalse(token.getExpiresAt().isAfter(sessionEnd.plusSeconds(5)));
+        }
+    }
+
+    @Test
+    void testDeletedUserCannotRefresh() {
+        User user = user();
+        String refreshToken = refreshTokenService.issue(user, UuidV7.generate());
+        userRepository.delete(user);
+
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.refresh(refreshToken));
+    }
+
+    private User user() {
+        User user = new User("alice-" + UUID.randomUUID(), UUID.randomUUID() + "@example.com", "hash");
+        user.setRole(User.UserRole.DEVELOPER);
+        return userRepository.saveAndFlush(user);
+    }
+
+    @TestConfiguration
+    static class SupportConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
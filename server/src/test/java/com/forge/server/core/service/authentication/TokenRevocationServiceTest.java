@@ -0,0 +1,118 @@
+package com.forge.server.core.service.authentication;
+
+import com.forge.server.core.entity.RevokedToken;
+import com.forge.server.core.entity.id.UuidV7;
+import com.forge.server.core.repository.RevokedTokenRepository;
+import com.forge.server.core.service.timer.TimerConfig;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.config.JwtConfig;
+import com.forge.server.security.provider.JwtKeyManager;
+import com.forge.server.security.provider.JwtTokenProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for access token revocation against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. A revoked token is reported as revoked while other tokens are not
+ * 2. Revocations survive a restart by being reloaded from the database
+ * 3. Reloading deletes revocations of tokens that have expired
+ */
+@DataJpaTest
+@Import({ TokenRevocationService.class, JwtTokenProvider.class, JwtKeyManager.class, JwtConfig.class,
+        TimerService.class, TimerConfig.class, TokenRevocationServiceTest.SupportConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRevokedTokenIsRejected() {
+        String revoked = accessToken();
+        String other = accessToken();
+
+        tokenRevocationService.revoke(revoked);
+
+        assertTrue(tokenRevocationService.isRevoked(jwtTokenProvider.getTokenIdFromToken(revoked)));
+        assertFalse(tokenRevocationService.isRevoked(jwtTokenProvider.getTokenIdFromToken(other)));
+        assertFalse(tokenRevocationService.isRevoked(null));
+        assertEquals(1, revokedTokenRepository.count());
+    }
+
+    @Test
+    void testRevocationsSurviveRestart() {
+        String revoked = accessToken();
+        tokenRevocationService.revoke(revoked);
+
+        TokenRevocationService restarted = new TokenRevocationService(revokedTokenRepository, jwtTokenProvider,
+                transactionManager, timerService, new SimpleMeterRegistry(), 1000, 0.01, Duration.ofMinutes(5));
+        restarted.reload();
+
+        assertTrue(restarted.isRevoked(jwtTokenProvider.getTokenIdFromToken(revoked)));
+    }
+
+    @Test
+    void testReloadDropsExpiredRevocations() {
+        revokedTokenRepository.save(new RevokedToken(UuidV7.generate(), LocalDateTime.now().minusMinutes(1)));
+        tokenRevocationService.revoke(accessToken());
+
+        tokenRevocationService.reload();
+
+        assertEquals(1, revokedTokenRepository.count());
+        assertEquals(1.0, meterRegistry.get("forge.auth.revocation.size").gauge().value());
+    }
+
+    private String accessToken() {
+        return jwtTokenProvider.generateToken(UuidV7.generate().toString(), "alice@example.com", "alice");
+    }
+
+    @TestConfiguration
+    static class SupportConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
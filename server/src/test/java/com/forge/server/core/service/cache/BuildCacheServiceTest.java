@@ -0,0 +1,178 @@
+package com.forge.server.core.service.cache;
+
+import com.forge.server.common.exception.BuildCacheDigestMismatchException;
+import com.forge.server.common.exception.BuildCacheEntryTooLargeException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the disk-backed build cache store
+ * <p>
+ * These tests verify:
+ * 1. Entries round-trip through the store and namespaces are isolated
+ * 2. Least-recently-used entries are evicted once the size quota is exceeded
+ * 3. Oversized uploads are rejected and the index survives a restart
+ * 4. Content-addressed uploads are only stored under the SHA-256 of their content
+ */
+class BuildCacheServiceTest {
+
+    private static final long MAX_SIZE_BYTES = 100;
+    private static final long MAX_ENTRY_SIZE_BYTES = 60;
+
+    @TempDir
+    Path workDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BuildCacheService buildCacheService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        buildCacheService = newService();
+    }
+
+    /**
+     * Test that a stored entry can be read back and namespaces do not collide
+     */
+    @Test
+    void testPutThenGetRoundTrips() throws IOException {
+        buildCacheService.put(null, "abc123", content(10, (byte) 1));
+        buildCacheService.put("ac", "abc123", content(20, (byte) 2));
+
+        assertArrayEquals(bytes(10, (byte) 1), read(buildCacheService.get(null, "abc123")));
+        assertArrayEquals(bytes(20, (byte) 2), read(buildCacheService.get("ac", "abc123")));
+        assertFalse(buildCacheService.get("cas", "abc123").isPresent());
+        assertEquals(30, buildCacheService.getCurrentSizeBytes());
+    }
+
+    /**
+     * Test that the least recently read entry is evicted first when the quota is exceeded
+     */
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() throws IOException {
+        buildCacheService.put(null, "first", content(40, (byte) 1));
+        buildCacheService.put(null, "second", content(40, (byte) 2));
+        read(buildCacheService.get(null, "first"));
+
+        buildCacheService.put(null, "third", content(40, (byte) 3));
+
+        assertTrue(buildCacheService.contains(null, "first"));
+        assertFalse(buildCacheService.contains(null, "second"));
+        assertTrue(buildCacheService.contains(null, "third"));
+        assertEquals(80, buildCacheService.getCurrentSizeBytes());
+        assertEquals(1.0, meterRegistry.get("forge.build.cache.evictions").counter().count());
+    }
+
+    /**
+     * Test that uploads larger than the entry limit are rejected without being indexed
+     */
+    @Test
+    void testRejectsOversizedEntry() {
+        assertThrows(BuildCacheEntryTooLargeException.class,
+                () -> buildCacheService.put(null, "huge", content(61, (byte) 1)));
+        assertFalse(buildCacheService.contains(null, "huge"));
+        assertEquals(0, buildCacheService.getCurrentSizeBytes());
+    }
+
+    /**
+     * Test that a content-addressed entry is stored under its digest and rejected under any other key
+     */
+    @Test
+    void testCasEntryMustMatchItsDigest() throws IOException, NoSuchAlgorithmException {
+        String digest = sha256(bytes(20, (byte) 4));
+
+        buildCacheService.put("cas", digest, content(20, (byte) 4));
+
+        assertArrayEquals(bytes(20, (byte) 4), read(buildCacheService.get("cas", digest)));
+        assertThrows(BuildCacheDigestMismatchException.class,
+                () -> buildCacheService.put("cas", digest, content(20, (byte) 5)));
+        assertArrayEquals(bytes(20, (byte) 4), read(buildCacheService.get("cas", digest)));
+        assertEquals(20, buildCacheService.getCurrentSizeBytes());
+    }
+
+    /**
+     * Test that hits and misses feed the hit ratio
+     */
+    @Test
+    void testHitRatioTracksLookups() throws IOException {
+        buildCacheService.put(null, "present", content(5, (byte) 1));
+        read(buildCacheService.get(null, "present"));
+        buildCacheService.get(null, "absent");
+
+        assertEquals(0.5, buildCacheService.getHitRatio());
+    }
+
+    /**
+     * Test that a new instance rebuilds its index from the entries already on disk
+     */
+    @Test
+    void testIndexIsRebuiltFromDisk() throws IOException {
+        buildCacheService.put("ac", "persisted", content(15, (byte) 7));
+
+        BuildCacheService restarted = newService();
+
+        assertTrue(restarted.contains("ac", "persisted"));
+        assertEquals(15, restarted.getCurrentSizeBytes());
+    }
+
+    /**
+     * Test that keys which could escape the cache directory are rejected
+     */
+    @Test
+    void testRejectsUnsafeSegments() {
+        assertFalse(buildCacheService.isValidSegment("../etc"));
+        assertFalse(buildCacheService.isValidSegment(".tmp"));
+        assertFalse(buildCacheService.isValidSegment(""));
+        assertTrue(buildCacheService.isValidSegment("0123abcdef"));
+    }
+
+    private BuildCacheService newService() throws IOException {
+        BuildCacheConfig config = new BuildCacheConfig();
+        config.setMaxSizeBytes(MAX_SIZE_BYTES);
+        config.setMaxEntrySizeBytes(MAX_ENTRY_SIZE_BYTES);
+        BuildCacheService service = new BuildCacheService(config, workDirectory.toString(), meterRegistry);
+        service.loadIndex();
+        return service;
+    }
+
+    private static InputStream content(int size, byte value) {
+        return new ByteArrayInputStream(bytes(size, value));
+    }
+
+    private static byte[] bytes(int size, byte value) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+
+    private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private static byte[] read(Optional<BuildCacheService.BuildCacheEntry> entry) throws IOException {
+        assertTrue(entry.isPresent());
+        try (InputStream inputStream = entry.get().getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
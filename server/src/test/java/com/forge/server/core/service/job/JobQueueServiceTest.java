@@ -0,0 +1,184 @@
+package com.forge.server.core.service.job;
+
+import com.forge.server.common.exception.JobLeaseLostException;
+import com.forge.server.common.exception.JobNotFoundException;
+import com.forge.server.core.entity.Job;
+import com.forge.server.core.repository.JobRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the persistent job queue against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. Priority classes are dispatched before fair sequence
+ * 2. A late project is interleaved with an earlier large fan-out instead of waiting behind it
+ * 3. Expired leases return jobs to the queue
+ * 4. Only the worker holding a job's claim can complete or fail it
+ * 5. Concurrent dispatchers never claim the same job
+ */
+@DataJpaTest
+@Import({ JobQueueService.class, JobQueueServiceTest.MetricsConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobQueueServiceTest {
+
+    private static final int CONCURRENT_JOBS = 2000;
+    private static final int DISPATCHERS = 4;
+    private static final int BATCH_SIZE = 25;
+
+    @Autowired
+    private JobQueueService jobQueueService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Test that a higher priority class is claimed first regardless of enqueue order
+     */
+    @Test
+    void testClaimsHigherPriorityFirst() {
+        jobQueueService.enqueue("alpha", "lint", null, Job.JobPriority.LOW);
+        jobQueueService.enqueue("alpha", "deploy", null, Job.JobPriority.CRITICAL);
+        jobQueueService.enqueue("alpha", "test", null, Job.JobPriority.NORMAL);
+
+        List<String> names = jobQueueService.claim("dispatcher-1", 3).stream().map(Job::getName).toList();
+
+        assertEquals(List.of("deploy", "test", "lint"), names);
+    }
+
+    /**
+     * Test that a project enqueuing after a large fan-out gets its job near the head of the queue
+     */
+    @Test
+    void testInterleavesProjectsWithinPriorityClass() {
+        jobQueueService.enqueueAll("monorepo", Job.JobPriority.NORMAL, requests("shard", 500));
+        jobQueueService.claim("dispatcher-1", 100);
+
+        jobQueueService.enqueue("small-service", "build", null, Job.JobPriority.NORMAL);
+
+        List<Job> next = jobQueueService.claim("dispatcher-1", 2);
+        assertTrue(next.stream().anyMatch(job -> job.getProjectId().equals("small-service")),
+                "Late project should be dispatched within the next two claims");
+    }
+
+    /**
+     * Test that a claim whose lease has expired is returned to the queue
+     */
+    @Test
+    void testRequeuesExpiredLeases() {
+        jobQueueService.enqueue("alpha", "build", null, Job.JobPriority.NORMAL);
+        Job claimed = jobQueueService.claim("dispatcher-1", 1, Duration.ofMillis(-1)).get(0);
+
+        assertEquals(1, jobQueueService.requeueExpiredLeases());
+
+        Job reclaimed = jobQueueService.claim("dispatcher-2", 1).get(0);
+        assertEquals(claimed.getId(), reclaimed.getId());
+        assertEquals(2, reclaimed.getAttempts());
+    }
+
+    /**
+     * Test that a worker whose lease expired cannot finish a job another worker has claimed since
+     */
+    @Test
+    void testFinishRequiresCurrentClaim() {
+        Job queued = jobQueueService.enqueue("alpha", "build", null, Job.JobPriority.NORMAL);
+        assertThrows(JobLeaseLostException.class, () -> jobQueueService.complete(queued.getId(), "dispatcher-1"));
+
+        jobQueueService.claim("dispatcher-1", 1, Duration.ofMillis(-1));
+        jobQueueService.requeueExpiredLeases();
+        jobQueueService.claim("dispatcher-2", 1);
+
+        assertThrows(JobLeaseLostException.class, () -> jobQueueService.fail(queued.getId(), "dispatcher-1"));
+        jobQueueService.complete(queued.getId(), "dispatcher-2");
+        assertEquals(Job.JobStatus.COMPLETED, jobRepository.findById(queued.getId()).orElseThrow().getStatus());
+        assertThrows(JobLeaseLostException.class, () -> jobQueueService.fail(queued.getId(), "dispatcher-2"));
+        assertThrows(JobNotFoundException.class, () -> jobQueueService.complete(UUID.randomUUID(), "dispatcher-2"));
+    }
+
+    /**
+     * Test that concurrent batched claims hand out every job exactly once
+     */
+    @Test
+    void testConcurrentClaimsAreDisjoint() throws Exception {
+        for (int project = 0; project < 10; project++) {
+            jobQueueService.enqueueAll("project-" + project, Job.JobPriority.NORMAL,
+                    requests("job", CONCURRENT_JOBS / 10));
+        }
+
+        Set<UUID> claimedIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(DISPATCHERS);
+        try {
+            List<Future<?>> dispatchers = new ArrayList<>();
+            for (int i = 0; i < DISPATCHERS; i++) {
+                String workerId = "dispatcher-" + i;
+                dispatchers.add(executor.submit(() -> {
+                    List<Job> batch;
+                    while (!(batch = jobQueueService.claim(workerId, BATCH_SIZE)).isEmpty()) {
+                        batch.forEach(job -> {
+                            if (!claimedIds.add(job.getId())) {
+                                duplicates.incrementAndGet();
+                            }
+                        });
+                    }
+                }));
+            }
+            for (Future<?> dispatcher : dispatchers) {
+                dispatcher.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, duplicates.get());
+        assertEquals(CONCURRENT_JOBS, claimedIds.size());
+        assertEquals(0, jobRepository.countByStatus(Job.JobStatus.QUEUED));
+    }
+
+    private static List<JobQueueService.JobRequest> requests(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> new JobQueueService.JobRequest(prefix + "-" + i, null))
+                .collect(Collectors.toList());
+    }
+
+    @TestConfiguration
+    static class MetricsConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.forge.server.core.service.listing;
+
+import com.forge.server.common.exception.InvalidCursorException;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.repository.projection.UserAdminView;
+import com.forge.server.core.repository.projection.UserSummary;
+import com.forge.shared.model.response.CursorPage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for keyset-paginated user listings against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. Following cursors visits every user once, in registration order, and the last page has no cursor
+ * 2. The admin view carries the administrative columns
+ * 3. Malformed cursors are rejected
+ * 4. Totals switch to the table statistics estimate above the exact-count threshold
+ */
+@DataJpaTest
+@Import({ UserListingService.class, TableRowCountEstimator.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserListingServiceTest {
+
+    private static final int USER_COUNT = 5;
+
+    @Autowired
+    private UserListingService userListingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "hash");
+            user.setRole(User.UserRole.DEVELOPER);
+            userRepository.saveAndFlush(user);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testCursorsVisitEveryUserInOrder() {
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<UserSummary> page = userListingService.listUsers(cursor, 2);
+            page.getItems().forEach(user -> usernames.add(user.getUsername()));
+            assertEquals(USER_COUNT, page.getTotalCount());
+            assertFalse(page.isTotalCountApproximate());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("user0", "user1", "user2", "user3", "user4"), usernames);
+    }
+
+    @Test
+    void testAdminViewIncludesAdministrativeColumns() {
+        CursorPage<UserAdminView> page = userListingService.listUsersForAdmin(null, null);
+
+        assertEquals(USER_COUNT, page.getItems().size());
+        assertNull(page.getNextCursor());
+        UserAdminView first = page.getItems().get(0);
+        assertEquals("user0@example.com", first.getEmail());
+        assertEquals(User.UserRole.DEVELOPER, first.getRole());
+    }
+
+    @Test
+    void testMalformedCursorRejected() {
+        assertThrows(InvalidCursorException.class, () -> userListingService.listUsers("not a cursor", 2));
+        assertThrows(InvalidCursorException.class, () -> userListingService.listUsers("AAAA", 2));
+    }
+
+    @Test
+    void testLargeTablesUseEstimate() {
+        TableRowCountEstimator estimator = new TableRowCountEstimator(jdbcTemplate, 0, Duration.ZERO);
+
+        TableRowCountEstimator.RowCount count = estimator.count("users", () -> {
+            throw new AssertionError("Exact count should not run above the threshold");
+        });
+
+        assertTrue(count.isApproximate());
+        assertTrue(count.getValue() >= 0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.shared.model.response.ProfileFrame;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the continuous profiler's aggregation
+ * <p>
+ * These tests verify:
+ * 1. Samples of the same stack are merged into one folded stack
+ * 2. Samples age out one bucket at a time once they fall outside the window
+ * 3. Hot methods are ranked by self weight, with recursive frames counted once in the total
+ */
+class ContinuousProfilerTest {
+
+    private static final long BUCKET_MILLIS = 1_000;
+    private static final long START = 1_000_000_000L;
+
+    private final ContinuousProfiler profiler = new ContinuousProfiler(false, Duration.ofSeconds(10), 10,
+            Duration.ofMillis(20), "100/s", 20);
+
+    @Test
+    void testSamplesAreMergedPerStack() {
+        profiler.record(ContinuousProfiler.ProfileType.CPU, "main;run;hash", 1, START);
+        profiler.record(ContinuousProfiler.ProfileType.CPU, "main;run;hash", 1, START + 10);
+        profiler.record(ContinuousProfiler.ProfileType.CPU, "main;run;query", 1, START + 20);
+        profiler.record(ContinuousProfiler.ProfileType.ALLOCATION, "main;run;byte[]", 4096, START + 30);
+
+        Map<String, Long> cpu = profiler.foldedStacks(ContinuousProfiler.ProfileType.CPU, START + 30);
+        assertEquals(Map.of("main;run;hash", 2L, "main;run;query", 1L), cpu);
+        assertEquals(Map.of("main;run;byte[]", 4096L),
+                profiler.foldedStacks(ContinuousProfiler.ProfileType.ALLOCATION, START + 30));
+    }
+
+    @Test
+    void testSamplesAgeOutOfWindow() {
+        profiler.record(ContinuousProfiler.ProfileType.CPU, "old", 1, START);
+        profiler.record(ContinuousProfiler.ProfileType.CPU, "new", 1, START + 5 * BUCKET_MILLIS);
+
+        Map<String, Long> withinWindow = profiler.foldedStacks(ContinuousProfiler.ProfileType.CPU,
+                START + 9 * BUCKET_MILLIS);
+        assertTrue(withinWindow.containsKey("old"));
+
+        Map<String, Long> afterWindow = profiler.foldedStacks(ContinuousProfiler.ProfileType.CPU,
+                START + 10 * BUCKET_MILLIS);
+        assertFalse(afterWindow.containsKey("old"));
+        assertTrue(afterWindow.containsKey("new"));
+
+        // A sample in the old sample's bucket a full window later replaces it
+        profiler.record(ContinuousProfiler.ProfileType.CPU, "newer", 1, START + 10 * BUCKET_MILLIS);
+        assertEquals(Map.of("new", 1L, "newer", 1L),
+                profiler.foldedStacks(ContinuousProfiler.ProfileType.CPU, START + 10 * BUCKET_MILLIS));
+    }
+
+    @Test
+    void testHottestFramesBySelfWeight() {
+        List<ProfileFrame> frames = profiler.hottestFrames(Map.of(
+                "main;parse;parse;tokenize", 5L,
+                "main;parse", 2L,
+                "main;hash", 8L), 0);
+
+        assertEquals("hash", frames.get(0).getFrame());
+        assertEquals(8, frames.get(0).getSelf());
+        assertEquals("tokenize", frames.get(1).getFrame());
+        ProfileFrame parse = frames.stream().filter(frame -> frame.getFrame().equals("parse")).findFirst().get();
+        assertEquals(2, parse.getSelf());
+        assertEquals(7, parse.getTotal());
+
+        List<ProfileFrame> sites = profiler.hottestFrames(Map.of("main;read;byte[]", 1024L), 1);
+        assertEquals("read", sites.get(0).getFrame());
+        assertEquals(1024, sites.get(0).getSelf());
+    }
+}
@@ -0,0 +1,102 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.server.core.service.plugin.PluginConfigurationService;
+import com.forge.server.core.service.timer.TimerConfig;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.plugins.PluginManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the cached health probes
+ * <p>
+ * These tests verify:
+ * 1. Checks report the state captured at the last refresh, not the current state
+ * 2. A pool with more waiting threads than allowed reports DOWN
+ * 3. A snapshot older than the max age reports DOWN
+ */
+class HealthProbeServiceTest {
+
+    private static final String POOL = "forge-primary";
+
+    @TempDir
+    Path workDirectory;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private TimerService timerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Gauge.builder("hikaricp.connections.pending", pending, AtomicInteger::get).tag("pool", POOL)
+                .register(meterRegistry);
+        Gauge.builder("hikaricp.connections.active", () -> 10).tag("pool", POOL).register(meterRegistry);
+        Gauge.builder("hikaricp.connections.max", () -> 10).tag("pool", POOL).register(meterRegistry);
+        timerService = new TimerService(new TimerConfig(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerService.stop();
+    }
+
+    @Test
+    void testChecksAreServedFromSnapshot() {
+        HealthProbeService service = service(Duration.ofMinutes(1));
+        service.refresh();
+        assertEquals(Status.UP, service.getHealth(HealthProbeService.CHECK_DATABASE_POOL).getStatus());
+        assertEquals(Status.UP, service.getHealth(HealthProbeService.CHECK_PLUGINS).getStatus());
+        assertEquals(Status.UP, service.getHealth(HealthProbeService.CHECK_WORK_DIRECTORY).getStatus());
+        assertEquals(Status.UP, service.getHealth(HealthProbeService.CHECK_EXECUTORS).getStatus());
+
+        pending.set(6);
+        assertEquals(Status.UP, service.getHealth(HealthProbeService.CHECK_DATABASE_POOL).getStatus());
+    }
+
+    @Test
+    void testSaturatedPoolIsDown() {
+        HealthProbeService service = service(Duration.ofMinutes(1));
+        pending.set(6);
+        service.refresh();
+
+        Health health = service.getHealth(HealthProbeService.CHECK_DATABASE_POOL);
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(6, ((Map<?, ?>) health.getDetails().get(POOL)).get("pending"));
+    }
+
+    @Test
+    void testStaleSnapshotIsDown() throws InterruptedException {
+        HealthProbeService service = service(Duration.ofMillis(1));
+        service.refresh();
+        Thread.sleep(10);
+
+        assertEquals(Status.DOWN, service.getHealth(HealthProbeService.CHECK_PLUGINS).getStatus());
+    }
+
+    private HealthProbeService service(Duration maxAge) {
+        PluginManager pluginManager = new PluginManager(new PluginConfigurationService(ApplicationStartup.DEFAULT),
+                ApplicationStartup.DEFAULT);
+        return new HealthProbeService(meterRegistry, pluginManager, timerService,
+                workDirectory.resolve("work").toString(), 5, DataSize.ofMegabytes(1), 1000,
+                Duration.ofSeconds(5), maxAge);
+    }
+}
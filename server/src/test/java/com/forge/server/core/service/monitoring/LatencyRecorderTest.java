@@ -0,0 +1,94 @@
+package com.forge.server.core.service.monitoring;
+
+import com.forge.shared.model.response.EndpointLatencyResponse;
+import com.forge.shared.model.response.SlowRequestResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the per-endpoint latency recorder
+ * <p>
+ * These tests verify:
+ * 1. Percentiles are reported per endpoint, for the last rotated interval and in total
+ * 2. Only requests over the threshold are sampled, newest first, and the ring buffer keeps the
+ *    most recent ones
+ * 3. Nested calls within a segment are timed once, and timing is a no-op on unbound threads
+ */
+class LatencyRecorderTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testPercentilesPerEndpoint() {
+        LatencyRecorder recorder = recorder(3);
+        RequestTimings timings = RequestTimings.start();
+        RequestTimings.clear();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record("POST /api/auth/login", "AuthController.login", "/api/auth/login", 200, timings,
+                    i * MILLISECOND);
+        }
+        recorder.record("GET /api/health", "HealthController.health", "/api/health", 200, timings, MILLISECOND);
+
+        recorder.rotate();
+        List<EndpointLatencyResponse> endpoints = recorder.getEndpoints();
+
+        assertEquals(2, endpoints.size());
+        EndpointLatencyResponse login = endpoints.get(0);
+        assertEquals("AuthController.login", login.getHandler());
+        assertEquals(100, login.getTotal().getCount());
+        assertEquals(100, login.getRecent().getCount());
+        assertEquals(50.0, login.getTotal().getP50Ms(), 0.1);
+        assertEquals(99.0, login.getTotal().getP99Ms(), 0.1);
+        assertEquals(100.0, login.getTotal().getMaxMs(), 0.1);
+
+        recorder.rotate();
+
+        assertEquals(0, recorder.getEndpoints().get(0).getRecent().getCount());
+        assertEquals(100, recorder.getEndpoints().get(0).getTotal().getCount());
+    }
+
+    @Test
+    void testSlowRequestsAreSampled() {
+        LatencyRecorder recorder = recorder(3);
+        RequestTimings timings = RequestTimings.start();
+        RequestTimings.clear();
+        for (int i = 1; i <= 5; i++) {
+            recorder.record("GET /api/users", "UserController.listUsers", "/api/users?page=" + i, 200, timings,
+                    100 * i * MILLISECOND);
+        }
+
+        List<SlowRequestResponse> slow = recorder.getSlowRequests();
+
+        assertEquals(3, slow.size());
+        assertEquals("/api/users?page=5", slow.get(0).getUri());
+        assertEquals("/api/users?page=3", slow.get(2).getUri());
+        assertEquals(500.0, slow.get(0).getTotalMs(), 0.001);
+    }
+
+    @Test
+    void testNestedSegmentsAreTimedOnce() {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            long outer = RequestTimings.begin(RequestTimings.Segment.DATABASE);
+            long inner = RequestTimings.begin(RequestTimings.Segment.DATABASE);
+            RequestTimings.end(RequestTimings.Segment.DATABASE, inner);
+            RequestTimings.end(RequestTimings.Segment.DATABASE, outer);
+        } finally {
+            RequestTimings.clear();
+        }
+        RequestTimings.end(RequestTimings.Segment.DATABASE, RequestTimings.begin(RequestTimings.Segment.DATABASE));
+
+        assertEquals(1, timings.getCalls(RequestTimings.Segment.DATABASE));
+        assertEquals(0, timings.getCalls(RequestTimings.Segment.JWT));
+    }
+
+    private static LatencyRecorder recorder(int slowBufferSize) {
+        return new LatencyRecorder(null, Duration.ofMillis(250), slowBufferSize, Duration.ofMinutes(1));
+    }
+}
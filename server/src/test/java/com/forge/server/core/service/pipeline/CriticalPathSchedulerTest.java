@@ -0,0 +1,92 @@
+package com.forge.server.core.service.pipeline;
+
+import com.forge.server.common.exception.PipelineDefinitionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for critical-path pipeline scheduling
+ * <p>
+ * These tests verify:
+ * 1. Invalid graphs (cycles, unknown dependencies) are rejected
+ * 2. Ready steps heading the longest remaining chain are dispatched first
+ * 3. Completed runs record makespan metrics and feed step history
+ */
+class CriticalPathSchedulerTest {
+
+    private StepDurationHistory history;
+    private SimpleMeterRegistry meterRegistry;
+    private CriticalPathScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        history = new StepDurationHistory(Duration.ofSeconds(60));
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new CriticalPathScheduler(history, meterRegistry);
+    }
+
+    @Test
+    void rejectsCyclesAndUnknownDependencies() {
+        assertThrows(PipelineDefinitionException.class, () -> new PipelineGraph("cycle", List.of(
+                new PipelineStep("a", Set.of("b")),
+                new PipelineStep("b", Set.of("a")))));
+        assertThrows(PipelineDefinitionException.class, () -> new PipelineGraph("unknown", List.of(
+                new PipelineStep("a", Set.of("missing")))));
+    }
+
+    @Test
+    void dispatchesLongestRemainingChainFirst() {
+        history.record("lint", Duration.ofSeconds(5));
+        history.record("compile", Duration.ofSeconds(30));
+        history.record("test", Duration.ofSeconds(120));
+        history.record("docs", Duration.ofSeconds(40));
+
+        // lint is declared first but compile -> test is the longer chain
+        PipelineGraph graph = new PipelineGraph("ci", List.of(
+                new PipelineStep("lint", Set.of()),
+                new PipelineStep("docs", Set.of()),
+                new PipelineStep("compile", Set.of()),
+                new PipelineStep("test", Set.of("compile"))));
+        PipelineRun run = scheduler.start(graph, 1);
+
+        assertEquals(150_000L, run.getRemainingCriticalPathMillis("compile"));
+        assertEquals("compile", run.nextReady(1).get(0).getId());
+
+        run.stepCompleted("compile", Duration.ofSeconds(30));
+        assertEquals(List.of("test", "docs", "lint"),
+                run.nextReady(3).stream().map(PipelineStep::getId).toList());
+    }
+
+    @Test
+    void recordsMakespanAgainstLowerBound() {
+        PipelineGraph graph = new PipelineGraph("build", List.of(
+                new PipelineStep("a", Set.of()),
+                new PipelineStep("b", Set.of()),
+                new PipelineStep("c", Set.of("a", "b"))));
+        PipelineRun run = scheduler.start(graph, 2);
+
+        assertEquals(2, run.nextReady(2).size());
+        run.stepCompleted("a", Duration.ofMillis(40));
+        run.stepCompleted("b", Duration.ofMillis(20));
+        run.nextReady(2);
+        run.stepCompleted("c", Duration.ofMillis(10));
+
+        assertTrue(run.isComplete());
+        assertEquals(Duration.ofMillis(50), run.getMakespanLowerBound());
+        assertNotNull(meterRegistry.find("forge.pipeline.makespan").tag("pipeline", "build").timer());
+        assertEquals(1, meterRegistry.get("forge.pipeline.makespan.ratio").summary().count());
+        assertEquals(40L, history.estimateMillis("a"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.forge.server.core.service.pipeline;
+
+import com.forge.server.core.service.cache.BuildCacheConfig;
+import com.forge.server.core.service.cache.BuildCacheService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for step-level result caching
+ * <p>
+ * These tests verify:
+ * 1. A step with unchanged inputs is restored from the cache and reports time saved
+ * 2. Changing an input file or a declared environment key changes the cache key
+ */
+class StepResultCacheTest {
+
+    private static final StepCacheSpec CODEGEN_CACHE = new StepCacheSpec(
+            List.of("schema/**"), List.of("TARGET"), List.of("generated/**"));
+
+    @TempDir
+    Path workDirectory;
+
+    @TempDir
+    Path workspace;
+
+    private StepResultCache stepResultCache;
+    private final PipelineStep codegen = new PipelineStep("codegen", "codegen", Set.of(), CODEGEN_CACHE);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BuildCacheService buildCacheService = new BuildCacheService(new BuildCacheConfig(),
+                workDirectory.toString(), meterRegistry);
+        buildCacheService.loadIndex();
+        stepResultCache = new StepResultCache(buildCacheService, new InputHasher(1000), meterRegistry);
+
+        Files.createDirectories(workspace.resolve("schema"));
+        Files.writeString(workspace.resolve("schema/api.proto"), "message Build {}");
+    }
+
+    /**
+     * Test that a second run with identical inputs restores the outputs instead of running
+     */
+    @Test
+    void testRestoresOutputsOnHit() throws IOException {
+        Map<String, String> environment = Map.of("TARGET", "linux");
+        StepResultCache.CacheLookup first = stepResultCache.lookup(codegen, workspace, environment);
+        assertFalse(first.isHit());
+
+        Files.createDirectories(workspace.resolve("generated"));
+        Files.writeString(workspace.resolve("generated/Build.java"), "class Build {}");
+        stepResultCache.store(codegen, first, workspace, Duration.ofSeconds(30));
+
+        Files.delete(workspace.resolve("generated/Build.java"));
+        StepResultCache.CacheLookup second = stepResultCache.lookup(codegen, workspace, environment);
+
+        assertTrue(second.isHit());
+        assertEquals(first.getKey(), second.getKey());
+        assertEquals("class Build {}", Files.readString(workspace.resolve("generated/Build.java")));
+        assertTrue(second.getTimeSaved().compareTo(Duration.ofSeconds(29)) > 0);
+    }
+
+    /**
+     * Test that input file content and declared environment values feed the cache key
+     */
+    @Test
+    void testKeyTracksInputsAndEnvironment() throws IOException {
+        String linux = stepResultCache.lookup(codegen, workspace, Map.of("TARGET", "linux")).getKey();
+        String unrelatedChange = stepResultCache.lookup(codegen, workspace,
+                Map.of("TARGET", "linux", "HOME", "/tmp")).getKey();
+        String windows = stepResultCache.lookup(codegen, workspace, Map.of("TARGET", "windows")).getKey();
+
+        Files.writeString(workspace.resolve("schema/api.proto"), "message Build { string id = 1; }");
+        String edited = stepResultCache.lookup(codegen, workspace, Map.of("TARGET", "linux")).getKey();
+
+        assertEquals(linux, unrelatedChange);
+        assertNotEquals(linux, windows);
+        assertNotEquals(linux, edited);
+    }
+}
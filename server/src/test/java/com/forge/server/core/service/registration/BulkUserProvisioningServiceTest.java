@@ -0,0 +1,140 @@
+package com.forge.server.core.service.registration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forge.server.core.entity.User;
+import com.forge.server.core.repository.UserRepository;
+import com.forge.server.core.service.PasswordEncoderService;
+import com.forge.server.core.service.validation.UserValidationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for bulk user provisioning against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. Every input row gets exactly one result, in input order, across chunk boundaries
+ * 2. Invalid rows, duplicates within the import and already registered users are rejected
+ *    without failing the rest of their chunk
+ * 3. A malformed row stops the import after reporting the rows before it
+ */
+@DataJpaTest
+@Import({ BulkUserProvisioningService.class, UserValidationService.class,
+        BulkUserProvisioningServiceTest.SupportConfiguration.class })
+@TestPropertySource(properties = { "forge.users.bulk.chunk-size=2", "forge.users.bulk.hash-threads=2" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkUserProvisioningServiceTest {
+
+    @Autowired
+    private BulkUserProvisioningService provisioningService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private PasswordEncoderService passwordEncoderService;
+
+    @MockBean
+    private UsernameAvailabilityService usernameAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderService.encode(anyString())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        User existing = new User("carol", "carol@example.com", "hash");
+        existing.setRole(User.UserRole.DEVELOPER);
+        userRepository.save(existing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testReportsOneResultPerRowInOrder() throws IOException {
+        String input = String.join("\n",
+                row("alice", "alice@example.com"),
+                row("alice", "alice2@example.com"),
+                row("bob", "not-an-email"),
+                row("carol", "carol2@example.com"),
+                row("dave", "dave@example.com"));
+        List<BulkUserProvisioningService.ProvisioningResult> results = new ArrayList<>();
+
+        BulkUserProvisioningService.ProvisioningSummary summary = provisioningService.provision(stream(input),
+                results::add);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), results.stream().map(r -> r.getRow()).toList());
+        assertEquals(List.of("CREATED", "FAILED", "FAILED", "FAILED", "CREATED"),
+                results.stream().map(r -> r.getStatus()).toList());
+        assertEquals("Username 'carol' is already taken", results.get(3).getError());
+        assertEquals(2, summary.getCreated());
+        assertEquals(3, summary.getFailed());
+        assertEquals("hash:password-alice", userRepository.findByUsername("alice").orElseThrow().getPasswordHash());
+        assertEquals(3, userRepository.count());
+    }
+
+    @Test
+    void testStopsAtMalformedRow() throws IOException {
+        String input = row("erin", "erin@example.com") + "\n{\"username\": \n" + row("frank", "frank@example.com");
+        List<BulkUserProvisioningService.ProvisioningResult> results = new ArrayList<>();
+
+        provisioningService.provision(stream(input), results::add);
+
+        assertEquals(2, results.size());
+        assertEquals("CREATED", results.get(0).getStatus());
+        assertEquals("FAILED", results.get(1).getStatus());
+        assertEquals(2, userRepository.count());
+    }
+
+    private static String row(String username, String email) {
+        return String.format("{\"username\":\"%s\",\"email\":\"%s\",\"password\":\"password-%s\"}",
+                username, email, username);
+    }
+
+    private static ByteArrayInputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class SupportConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
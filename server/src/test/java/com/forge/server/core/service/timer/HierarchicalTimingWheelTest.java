@@ -0,0 +1,93 @@
+package com.forge.server.core.service.timer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the hierarchical timing wheel
+ * <p>
+ * These tests verify:
+ * 1. Timers fire in deadline order and never before their deadline
+ * 2. Timers beyond the first level cascade down and still fire on time
+ * 3. Cancelled timers never fire and are no longer counted as pending
+ */
+class HierarchicalTimingWheelTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HierarchicalTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 4 slots per level: anything beyond 4 ticks has to cascade from a higher level
+        wheel = new HierarchicalTimingWheel(Duration.ofMillis(5), 4, 3, Runnable::run, meterRegistry);
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void firesInDeadlineOrderAfterDeadline() throws InterruptedException {
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+        long start = System.nanoTime();
+        long[] firedAt = new long[4];
+
+        int[] delaysMillis = {120, 10, 400, 45};
+        for (int i = 0; i < delaysMillis.length; i++) {
+            int index = i;
+            wheel.schedule(() -> {
+                firedAt[index] = System.nanoTime() - start;
+                fired.add(delaysMillis[index]);
+                done.countDown();
+            }, Duration.ofMillis(delaysMillis[i]));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(10, 45, 120, 400), fired);
+        for (int i = 0; i < delaysMillis.length; i++) {
+            assertTrue(firedAt[i] >= TimeUnit.MILLISECONDS.toNanos(delaysMillis[i]));
+        }
+        assertEquals(4, meterRegistry.get("forge.timer.lag").timer().count());
+    }
+
+    @Test
+    void handlesDelaysBeyondWheelRange() throws InterruptedException {
+        // 5ms * 4^3 = 320ms range, so this timer is re-placed from the top level at least once
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+        wheel.schedule(done::countDown, Duration.ofMillis(700));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(700));
+    }
+
+    @Test
+    void cancelledTimersNeverFire() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        ScheduledTimer timer = wheel.schedule(fired::countDown, Duration.ofMillis(50));
+        assertEquals(1, wheel.getPendingCount());
+
+        assertTrue(timer.cancel());
+        assertFalse(timer.cancel());
+        assertEquals(0, wheel.getPendingCount());
+        assertFalse(fired.await(200, TimeUnit.MILLISECONDS));
+        assertTrue(timer.isCancelled());
+    }
+}
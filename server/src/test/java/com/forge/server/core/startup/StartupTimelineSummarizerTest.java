@@ -0,0 +1,79 @@
+package com.forge.server.core.startup;
+
+import com.forge.shared.model.response.StartupStepSummary;
+import com.forge.shared.model.response.StartupSummaryResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the startup timeline summary
+ * <p>
+ * These tests verify:
+ * 1. Beans are ranked by self time, excluding the beans created while they were instantiated
+ * 2. Repeated phases are reported once with their durations added up
+ * 3. Only the configured number of beans and phases is listed
+ */
+class StartupTimelineSummarizerTest {
+
+    private static final String PHASE = "forge.plugins.config.load";
+
+    @Test
+    void testBeansAreRankedBySelfTime() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep outer = bean(startup, "outer");
+        Thread.sleep(5);
+        StartupStep inner = bean(startup, "inner");
+        Thread.sleep(40);
+        inner.end();
+        outer.end();
+
+        List<StartupStepSummary> beans = new StartupTimelineSummarizer(10)
+                .summarize(startup.getBufferedTimeline()).getSlowestBeans();
+
+        assertEquals("inner", beans.get(0).getName());
+        assertEquals("outer", beans.get(1).getName());
+        assertTrue(beans.get(1).getSelfMillis() < beans.get(0).getSelfMillis());
+        assertTrue(beans.get(1).getTotalMillis() >= beans.get(0).getTotalMillis());
+    }
+
+    @Test
+    void testRepeatedPhasesAreAddedUp() {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        startup.start(PHASE).tag("plugin", "github").end();
+        startup.start(PHASE).tag("plugin", "gitlab").end();
+
+        StartupSummaryResponse summary = new StartupTimelineSummarizer(10).summarize(startup.getBufferedTimeline());
+
+        assertEquals(2, summary.getRecordedSteps());
+        assertEquals(1, summary.getSlowestPhases().size());
+        assertEquals(PHASE, summary.getSlowestPhases().get(0).getName());
+        assertEquals(2, summary.getSlowestPhases().get(0).getCount());
+        assertTrue(summary.getSlowestBeans().isEmpty());
+    }
+
+    @Test
+    void testListsAreLimited() {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        bean(startup, "first").end();
+        bean(startup, "second").end();
+        startup.start(PHASE).end();
+        startup.start(StartupConfig.STEP_CONNECTOR_START).end();
+
+        StartupSummaryResponse summary = new StartupTimelineSummarizer(1).summarize(startup.getBufferedTimeline());
+
+        assertEquals(1, summary.getSlowestBeans().size());
+        assertEquals(1, summary.getSlowestPhases().size());
+    }
+
+    private static StartupStep bean(BufferingApplicationStartup startup, String beanName) {
+        return startup.start(StartupTimelineSummarizer.STEP_BEAN_INSTANTIATE)
+                .tag(StartupTimelineSummarizer.TAG_BEAN_NAME, beanName);
+    }
+}
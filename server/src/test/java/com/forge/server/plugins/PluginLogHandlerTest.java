@@ -0,0 +1,84 @@
+package com.forge.server.plugins;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for the plugin logger bridge
+ * <p>
+ * These tests verify:
+ * 1. Records logged through a plugin's JUL logger reach SLF4J with the plugin name and version
+ * 2. Levels below the SLF4J logger's level are rejected by the JUL logger
+ * 3. Bridging the same logger again replaces the previous bridge instead of duplicating events
+ */
+class PluginLogHandlerTest {
+
+    private static final String LOGGER_NAME = "com.forge.test.TestPlugin";
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger target;
+
+    @BeforeEach
+    void setUp() {
+        target = (Logger) LoggerFactory.getLogger(LOGGER_NAME);
+        target.setLevel(Level.INFO);
+        appender.start();
+        target.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.detachAppender(appender);
+        target.setLevel(null);
+    }
+
+    @Test
+    void testRecordsCarryPluginFields() {
+        java.util.logging.Logger logger = PluginLogHandler.bridge(LOGGER_NAME, "test", "1.2.3");
+
+        logger.log(java.util.logging.Level.WARNING, "Unexpected response code: {0}", "503");
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("Unexpected response code: 503", event.getFormattedMessage());
+        Map<String, Object> fields = event.getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+        assertEquals(Map.of("plugin", "test", "pluginVersion", "1.2.3"), fields);
+    }
+
+    @Test
+    void testLevelFollowsSlf4jLogger() {
+        java.util.logging.Logger logger = PluginLogHandler.bridge(LOGGER_NAME, "test", "1.2.3");
+
+        assertSame(java.util.logging.Level.INFO, logger.getLevel());
+        logger.fine("Not logged");
+        assertEquals(0, appender.list.size());
+    }
+
+    @Test
+    void testRebridgingReplacesHandler() {
+        PluginLogHandler.bridge(LOGGER_NAME, "test", "1.0.0");
+        java.util.logging.Logger logger = PluginLogHandler.bridge(LOGGER_NAME, "test", "2.0.0");
+
+        logger.info("Started");
+
+        assertEquals(1, appender.list.size());
+        KeyValuePair version = appender.list.get(0).getKeyValuePairs().get(1);
+        assertEquals("2.0.0", version.value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.forge.server.security.authorization;
+
+import com.forge.server.core.entity.User;
+import com.forge.server.security.util.AppUserDetails;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for compiled permissions and their authorization manager
+ * <p>
+ * These tests verify:
+ * 1. Roles compile to nested masks, shared per role, with admins holding every permission
+ * 2. Project memberships grant permissions only within their project
+ * 3. Request rules and {@link RequiresPermission} methods are granted only to holders of every
+ *    required permission, and unauthenticated callers are denied
+ */
+class PermissionAuthorizationManagerTest {
+
+    @Test
+    void testRoleMasks() {
+        PermissionSet viewer = PermissionSet.of(User.UserRole.VIEWER);
+        PermissionSet developer = PermissionSet.of(User.UserRole.DEVELOPER);
+        PermissionSet admin = PermissionSet.of(User.UserRole.ADMIN);
+
+        assertSame(viewer, PermissionSet.of(User.UserRole.VIEWER, Map.of()));
+        assertTrue(viewer.has(Permission.BUILD_CACHE_READ));
+        assertFalse(viewer.has(Permission.BUILD_CACHE_WRITE));
+        assertTrue(developer.hasAll(viewer.getGlobalMask()));
+        assertTrue(developer.has(Permission.PLUGIN_MANAGE));
+        assertFalse(developer.has(Permission.USER_ADMIN));
+        for (Permission permission : Permission.values()) {
+            assertTrue(admin.has(permission));
+        }
+    }
+
+    @Test
+    void testProjectMemberships() {
+        PermissionSet permissions = PermissionSet.of(User.UserRole.VIEWER,
+                Map.of("forge", ProjectRole.MAINTAINER, "docs", ProjectRole.VIEWER));
+
+        assertTrue(permissions.has("forge", Permission.JOB_SUBMIT));
+        assertTrue(permissions.has("forge", Permission.PROJECT_ADMIN));
+        assertFalse(permissions.has("docs", Permission.JOB_SUBMIT));
+        assertTrue(permissions.has("other", Permission.JOB_READ));
+        assertFalse(permissions.has("other", Permission.JOB_SUBMIT));
+        assertFalse(permissions.has(Permission.JOB_SUBMIT));
+        assertTrue(PermissionSet.of(User.UserRole.ADMIN).has("other", Permission.PROJECT_ADMIN));
+    }
+
+    @Test
+    void testAuthorizationDecisions() throws NoSuchMethodException {
+        Authentication viewer = authentication(User.UserRole.VIEWER);
+        Authentication developer = authentication(User.UserRole.DEVELOPER);
+        AuthorizationManager<Object> rule = PermissionAuthorizationManager.require(Permission.USER_ADMIN);
+        AuthorizationManager<MethodInvocation> annotated = PermissionAuthorizationManager.annotated();
+        Secured target = new Secured();
+        MethodInvocation write = new SimpleMethodInvocation(target, Secured.class.getMethod("write"));
+        MethodInvocation read = new SimpleMethodInvocation(target, Secured.class.getMethod("read"));
+
+        assertTrue(rule.check(() -> authentication(User.UserRole.ADMIN), null).isGranted());
+        assertFalse(rule.check(() -> developer, null).isGranted());
+        assertTrue(annotated.check(() -> developer, write).isGranted());
+        assertFalse(annotated.check(() -> viewer, write).isGranted());
+        assertTrue(annotated.check(() -> viewer, read).isGranted());
+        assertFalse(annotated.check(() -> null, read).isGranted());
+    }
+
+    private static Authentication authentication(User.UserRole role) {
+        AppUserDetails user = new AppUserDetails("1", "alice@example.com", "", "alice", Set.of(),
+                PermissionSet.of(role));
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    @RequiresPermission(Permission.BUILD_CACHE_READ)
+    static class Secured {
+
+        public void read() {
+        }
+
+        @RequiresPermission({ Permission.BUILD_CACHE_READ, Permission.BUILD_CACHE_WRITE })
+        public void write() {
+        }
+    }
+}
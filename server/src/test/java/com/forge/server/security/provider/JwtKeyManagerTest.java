@@ -0,0 +1,162 @@
+package com.forge.server.security.provider;
+
+import com.forge.server.core.repository.JwtSigningKeyRepository;
+import com.forge.server.core.service.timer.TimerConfig;
+import com.forge.server.core.service.timer.TimerService;
+import com.forge.server.security.config.JwtConfig;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for asymmetric JWT signing keys against an embedded H2 database
+ * <p>
+ * These tests verify:
+ * 1. ES256 tokens name their key and verify offline with the published JWK set
+ * 2. A rotated key is published before it signs, and tokens signed with the old key stay valid
+ * 3. Keys are deleted once every token they signed has expired
+ * 4. EdDSA tokens verify, and HMAC-signed tokens are rejected in asymmetric mode
+ */
+@DataJpaTest
+@Import({ TimerService.class, TimerConfig.class, JwtKeyManagerTest.SupportConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JwtKeyManagerTest {
+
+    @Autowired
+    private JwtSigningKeyRepository jwtSigningKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TimerService timerService;
+
+    @AfterEach
+    void tearDown() {
+        jwtSigningKeyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testTokensVerifyWithPublishedKeySet() {
+        JwtConfig config = config(JwtConfig.SigningAlgorithm.ES256);
+        JwtKeyManager keyManager = keyManager(config);
+        JwtTokenProvider provider = new JwtTokenProvider(config, keyManager);
+
+        String token = provider.generateToken("42", "alice@example.com", "alice");
+
+        assertTrue(provider.validateAccessToken(token));
+        JwkSet jwks = Jwks.setParser().build().parse(keyManager.getJwks());
+        assertEquals(1, jwks.getKeys().size());
+        Jwk<?> jwk = jwks.getKeys().iterator().next();
+        assertEquals("ES256", jwk.getAlgorithm());
+        String subject = Jwts.parser().verifyWith((PublicKey) jwk.toKey()).build().parseSignedClaims(token)
+                .getPayload().getSubject();
+        assertEquals("42", subject);
+    }
+
+    @Test
+    void testRotatedKeyIsPublishedBeforeSigning() {
+        JwtConfig config = config(JwtConfig.SigningAlgorithm.ES256);
+        config.setKeyRotationInterval(Duration.ZERO);
+        config.setKeyPublicationDelay(Duration.ofHours(1));
+        JwtKeyManager keyManager = keyManager(config);
+        JwtTokenProvider provider = new JwtTokenProvider(config, keyManager);
+        String first = provider.generateToken("42", "alice@example.com", "alice");
+
+        keyManager.refresh();
+        String second = provider.generateToken("42", "alice@example.com", "alice");
+
+        assertEquals(2, Jwks.setParser().build().parse(keyManager.getJwks()).getKeys().size());
+        assertEquals(keyId(first), keyId(second));
+
+        config.setKeyPublicationDelay(Duration.ZERO);
+        keyManager.refresh();
+        String third = provider.generateToken("42", "alice@example.com", "alice");
+
+        assertNotEquals(keyId(first), keyId(third));
+        assertTrue(provider.validateAccessToken(first));
+        assertTrue(provider.validateAccessToken(third));
+    }
+
+    @Test
+    void testExpiredKeysAreDeleted() throws InterruptedException {
+        JwtConfig config = config(JwtConfig.SigningAlgorithm.ES256);
+        config.setKeyRotationInterval(Duration.ZERO);
+        config.setKeyPublicationDelay(Duration.ZERO);
+        config.setExpirationMs(1);
+        config.setRefreshExpirationMs(1);
+        JwtKeyManager keyManager = keyManager(config);
+
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(5);
+            keyManager.refresh();
+        }
+
+        assertEquals(2, jwtSigningKeyRepository.count());
+    }
+
+    @Test
+    void testEdDsaTokensAndHmacRejection() {
+        JwtConfig hmacConfig = config(JwtConfig.SigningAlgorithm.HS256);
+        JwtKeyManager hmacKeyManager = keyManager(hmacConfig);
+        JwtTokenProvider hmacProvider = new JwtTokenProvider(hmacConfig, hmacKeyManager);
+        JwtConfig config = config(JwtConfig.SigningAlgorithm.EDDSA);
+        JwtTokenProvider provider = new JwtTokenProvider(config, keyManager(config));
+
+        assertTrue(provider.validateAccessToken(provider.generateToken("42", "alice@example.com", "alice")));
+        assertFalse(provider.validateAccessToken(hmacProvider.generateToken("42", "alice@example.com", "alice")));
+        assertEquals("{\"keys\":[]}", hmacKeyManager.getJwks());
+    }
+
+    private JwtKeyManager keyManager(JwtConfig config) {
+        JwtKeyManager keyManager = new JwtKeyManager(config, jwtSigningKeyRepository, transactionManager, timerService);
+        if (keyManager.isEnabled()) {
+            keyManager.refresh();
+        }
+        return keyManager;
+    }
+
+    private static JwtConfig config(JwtConfig.SigningAlgorithm algorithm) {
+        JwtConfig config = new JwtConfig();
+        config.setSigningAlgorithm(algorithm);
+        return config;
+    }
+
+    private static String keyId(String token) {
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        return header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+
+    @TestConfiguration
+    static class SupportConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}